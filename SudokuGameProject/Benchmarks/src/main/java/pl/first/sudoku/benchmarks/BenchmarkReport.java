@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks and writes a diffable report, or compares two reports.
+ * 
+ * <p>A report is a tab separated file with one sorted line per benchmark, parameter set
+ * and metric: {@code benchmark params mode samples score error unit}. Scores use three
+ * decimals and a fixed locale, so two reports can be compared with plain {@code diff}.
+ * <pre>
+ * java -jar benchmarks.jar run report.tsv [--gc] [include-regex ...]
+ * java -jar benchmarks.jar compare baseline.tsv current.tsv [max-regression-percent]
+ * java -jar benchmarks.jar profile profile.tsv [puzzle ...]
+ * </pre>
+ * {@code compare} exits with status 1 when a score got worse by more than the given
+ * percentage (default 10). Higher is worse for every metric except throughput. Every report
+ * ends with the bytes one puzzle takes in each storage format. {@code profile} writes the
+ * solver effort per corpus puzzle instead, see {@link SolverProfile}.
+ * @author zhuma
+ */
+public final class BenchmarkReport {
+    /**
+     * Forked JVM argument that limits logging to warnings, so DAO log lines stay out of
+     * the measurements.
+     */
+    public static final String QUIET_LOGGING = "-Dlog4j2.configurationFile=log4j2-benchmarks.xml";
+    private static final String HEADER = "# benchmark\tparams\tmode\tsamples\tscore\terror\tunit";
+    private static final String GC_FLAG = "--gc";
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_MAX_REGRESSION = 10.0;
+    private static final int SCORE_COLUMN = 4;
+    private static final int MODE_COLUMN = 2;
+    
+    private BenchmarkReport() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 2 && "run".equals(args[0])) {
+            run(Paths.get(args[1]), List.of(args).subList(2, args.length));
+        } else if (args.length >= 3 && "compare".equals(args[0])) {
+            double maxRegression = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_MAX_REGRESSION;
+            boolean regressed = compare(Paths.get(args[1]), Paths.get(args[2]), maxRegression);
+            System.exit(regressed ? 1 : 0);
+        } else if (args.length >= 2 && "profile".equals(args[0])) {
+            SolverProfile.write(Paths.get(args[1]), List.of(args).subList(2, args.length));
+        } else {
+            System.err.println("Usage: run <report.tsv> [--gc] [include-regex ...]");
+            System.err.println("       compare <baseline.tsv> <current.tsv> [max-regression-percent]");
+            System.err.println("       profile <profile.tsv> [puzzle ...]");
+            System.exit(2);
+        }
+    }
+    
+    private static void run(Path output, List<String> arguments) throws Exception {
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        boolean included = false;
+        for (String argument : arguments) {
+            if (GC_FLAG.equals(argument)) {
+                options.addProfiler(GCProfiler.class);
+            } else {
+                options.include(argument);
+                included = true;
+            }
+        }
+        if (!included) {
+            options.include(BenchmarkReport.class.getPackageName() + ".*");
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+        List<String> lines = format(results);
+        for (Map.Entry<String, Long> footprint : StorageFootprint.measure().entrySet()) {
+            lines.add(String.format(Locale.ROOT, "footprint:%s\t-\tsize\t1\t%d.000\t0.000\tbytes",
+                    footprint.getKey(), footprint.getValue()));
+        }
+        Files.write(output, lines, StandardCharsets.UTF_8);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+    
+    /**
+     * Formats results as sorted report lines, including the allocation rate per operation
+     * and any custom metrics of each benchmark.
+     */
+    public static List<String> format(Collection<RunResult> results) {
+        List<String> lines = new ArrayList<>();
+        for (RunResult runResult : results) {
+            String benchmark = shortName(runResult.getParams().getBenchmark());
+            String params = formatParams(runResult);
+            String mode = runResult.getParams().getMode().shortLabel();
+            lines.add(formatLine(benchmark, params, mode, runResult.getPrimaryResult()));
+            for (Map.Entry<String, Result> secondary : runResult.getSecondaryResults().entrySet()) {
+                String label = secondary.getKey().replace("·", "");
+                if (ALLOCATION_METRIC.equals(label) || !label.startsWith("gc.")) {
+                    lines.add(formatLine(benchmark + ":" + label, params, mode, secondary.getValue()));
+                }
+            }
+        }
+        Collections.sort(lines);
+        lines.add(0, HEADER);
+        return lines;
+    }
+    
+    private static String formatParams(RunResult runResult) {
+        List<String> params = new ArrayList<>();
+        for (String key : runResult.getParams().getParamsKeys()) {
+            params.add(key + "=" + runResult.getParams().getParam(key));
+        }
+        Collections.sort(params);
+        return params.isEmpty() ? "-" : String.join(",", params);
+    }
+    
+    private static String formatLine(String benchmark, String params, String mode, Result result) {
+        return String.format(Locale.ROOT, "%s\t%s\t%s\t%d\t%.3f\t%.3f\t%s", benchmark, params, mode,
+                result.getSampleCount(), result.getScore(), result.getScoreError(), result.getScoreUnit());
+    }
+    
+    private static String shortName(String benchmark) {
+        String prefix = BenchmarkReport.class.getPackageName() + ".";
+        return benchmark.startsWith(prefix) ? benchmark.substring(prefix.length()) : benchmark;
+    }
+    
+    private static boolean compare(Path baselinePath, Path currentPath, double maxRegression) throws IOException {
+        Map<String, String[]> baseline = read(baselinePath);
+        Map<String, String[]> current = read(currentPath);
+        boolean regressed = false;
+        
+        System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %9s", "benchmark", "baseline",
+                "current", "change"));
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] before = baseline.get(entry.getKey());
+            String[] after = entry.getValue();
+            if (before == null) {
+                System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %9s", entry.getKey(), "-",
+                        after[SCORE_COLUMN], "new"));
+                continue;
+            }
+            double oldScore = Double.parseDouble(before[SCORE_COLUMN]);
+            double newScore = Double.parseDouble(after[SCORE_COLUMN]);
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore * 100;
+            double worsening = "thrpt".equals(after[MODE_COLUMN]) ? -change : change;
+            boolean failed = worsening > maxRegression;
+            regressed |= failed;
+            System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %+8.1f%%%s", entry.getKey(),
+                    before[SCORE_COLUMN], after[SCORE_COLUMN], change, failed ? "  REGRESSION" : ""));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println(String.format(Locale.ROOT, "%-70s %14s %14s %9s", key,
+                        baseline.get(key)[SCORE_COLUMN], "-", "removed"));
+            }
+        }
+        return regressed;
+    }
+    
+    private static Map<String, String[]> read(Path report) throws IOException {
+        Map<String, String[]> rows = new TreeMap<>();
+        for (String line : Files.readAllLines(report, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            rows.put(columns[0] + " " + columns[1], columns);
+        }
+        return rows;
+    }
+}
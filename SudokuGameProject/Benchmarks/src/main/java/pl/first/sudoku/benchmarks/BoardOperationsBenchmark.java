@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.GameDifficulty;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for whole-board operations on a solved board and a medium puzzle.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardOperationsBenchmark {
+    
+    private SudokuBoard solvedBoard;
+    private SudokuBoard solvedCopy;
+    private SudokuBoard puzzleBoard;
+    
+    @Setup
+    public void setUp() {
+        solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        solvedBoard.solveGame();
+        solvedCopy = solvedBoard.clone();
+        puzzleBoard = GameDifficulty.MEDIUM.prepareBoard(solvedBoard);
+    }
+    
+    @Benchmark
+    public boolean isValidSolved() {
+        return solvedBoard.isValid();
+    }
+    
+    @Benchmark
+    public boolean isValidPuzzle() {
+        return puzzleBoard.isValid();
+    }
+    
+    @Benchmark
+    public SudokuBoard cloneBoard() {
+        return solvedBoard.clone();
+    }
+    
+    @Benchmark
+    public boolean equalsBoard() {
+        return solvedBoard.equals(solvedCopy);
+    }
+    
+    @Benchmark
+    public int hashCodeBoard() {
+        return solvedBoard.hashCode();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.CanonicalForm;
+import pl.first.sudoku.sudokusolver.IterativeSudokuSolver;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+import pl.first.sudoku.sudokusolver.SudokuCanonicalizer;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link SudokuCanonicalizer#canonicalForm} on corpus puzzles and their solutions;
+ * one grid per call, so grids per second are one million divided by the score.
+ * Solved grids are the slow case, since every pair of first rows needs its own column search.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanonicalizerBenchmark {
+    
+    @Param({"empty", "inkala", "golden-nugget", "easter-monster", "platinum-blonde", "royle-17"})
+    public String puzzle;
+    
+    private final SudokuCanonicalizer canonicalizer = new SudokuCanonicalizer();
+    private int[] cells;
+    private int[] solution;
+    
+    @Setup
+    public void setUp() {
+        cells = PuzzleCorpus.cells(puzzle);
+        SudokuBoard board = new SudokuBoard(new IterativeSudokuSolver(new SplittableRandom(42)));
+        board.setValues(cells);
+        board.solveGame();
+        solution = board.getValues();
+    }
+    
+    @Benchmark
+    public CanonicalForm puzzle() {
+        return canonicalizer.canonicalForm(cells);
+    }
+    
+    @Benchmark
+    public CanonicalForm solution() {
+        return canonicalizer.canonicalForm(solution);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+import pl.first.sudoku.sudokusolver.SudokuField;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for single field access through the property layer, and for loading a board
+ * whose fields are observed the way the view observes them.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldBenchmark {
+    
+    private SudokuBoard board;
+    private SudokuField field;
+    private int value;
+    private SudokuBoard observedBoard;
+    private int[][] observedValues;
+    private int observedIndex;
+    private long notifications;
+    
+    @Setup
+    public void setUp() {
+        board = new SudokuBoard(new BacktrackingSudokuSolver());
+        field = board.getSudokuField(4, 4);
+        
+        observedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                observedBoard.getSudokuField(row, col).addPropertyChangeListener(event -> notifications++);
+            }
+        }
+        observedBoard.addBoardChangeListener(change -> notifications += change.size());
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        observedValues = new int[][] {solved.getValues(), new int[81]};
+    }
+    
+    @Benchmark
+    public int getFieldValue() {
+        return field.getFieldValue();
+    }
+    
+    @Benchmark
+    public void setFieldValue() {
+        value = value % 9 + 1;
+        field.setFieldValue(value);
+    }
+    
+    @Benchmark
+    public int getBoardValue() {
+        return board.getValueAt(4, 4);
+    }
+    
+    @Benchmark
+    public void setBoardValue() {
+        value = value % 9 + 1;
+        board.setValueAt(4, 4, value);
+    }
+    
+    @Benchmark
+    public long loadObservedBoard() {
+        observedIndex ^= 1;
+        observedBoard.setValues(observedValues[observedIndex]);
+        return notifications;
+    }
+    
+    @Benchmark
+    public long loadObservedBoardCellByCell() {
+        observedIndex ^= 1;
+        int[] values = observedValues[observedIndex];
+        for (int i = 0; i < values.length; i++) {
+            observedBoard.setValueAt(i / 9, i % 9, values[i]);
+        }
+        return notifications;
+    }
+}
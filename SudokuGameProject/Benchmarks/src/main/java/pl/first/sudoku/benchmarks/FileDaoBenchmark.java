@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.dao.Dao;
+import pl.first.sudoku.dao.SudokuBoardDaoFactory;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read and write latency of the file based DAOs against a temporary directory.
+ * A DAO is opened and closed around every operation, as the game does.
+ * Run with {@code --gc} for allocations per operation; bytes on disk are part of every
+ * report as footprint lines.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkReport.QUIET_LOGGING)
+public class FileDaoBenchmark {
+    private static final String NAME = "benchmark.sudoku";
+    
+    private Path directory;
+    private String fileDirectory;
+    private String editableDirectory;
+    private String contentAddressedDirectory;
+    private SudokuBoard board;
+    private EditableSudokuBoardDecorator decoratedBoard;
+    
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sudoku-dao-benchmark");
+        fileDirectory = directory.resolve("file").toString();
+        editableDirectory = directory.resolve("editable").toString();
+        contentAddressedDirectory = directory.resolve("content").toString();
+        decoratedBoard = PuzzleCorpus.decoratedBoard("inkala");
+        board = decoratedBoard.getSudokuBoard();
+        
+        fileWrite();
+        editableWrite();
+        contentAddressedWrite();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        StorageFootprint.deleteRecursively(directory);
+    }
+    
+    @Benchmark
+    public void fileWrite() throws Exception {
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileDao(fileDirectory)) {
+            dao.write(NAME, board);
+        }
+    }
+    
+    @Benchmark
+    public SudokuBoard fileRead() throws Exception {
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileDao(fileDirectory)) {
+            return dao.read(NAME);
+        }
+    }
+    
+    @Benchmark
+    public void editableWrite() throws Exception {
+        try (Dao<EditableSudokuBoardDecorator> dao = SudokuBoardDaoFactory.getEditableFileDao(editableDirectory)) {
+            dao.write(NAME, decoratedBoard);
+        }
+    }
+    
+    @Benchmark
+    public EditableSudokuBoardDecorator editableRead() throws Exception {
+        try (Dao<EditableSudokuBoardDecorator> dao = SudokuBoardDaoFactory.getEditableFileDao(editableDirectory)) {
+            return dao.read(NAME);
+        }
+    }
+    
+    @Benchmark
+    public void contentAddressedWrite() throws Exception {
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(contentAddressedDirectory)) {
+            dao.write(NAME, board);
+        }
+    }
+    
+    @Benchmark
+    public SudokuBoard contentAddressedRead() throws Exception {
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(contentAddressedDirectory)) {
+            return dao.read(NAME);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.GameDifficulty;
+import pl.first.sudoku.sudokusolver.PuzzleGrade;
+import pl.first.sudoku.sudokusolver.PuzzleGrader;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for puzzle generation: filling a board, digging holes and grading puzzles per difficulty.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+    
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public GameDifficulty difficulty;
+    
+    private SudokuBoard solvedBoard;
+    private int[] puzzle;
+    
+    @Setup
+    public void setUp() {
+        solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        solvedBoard.solveGame();
+        puzzle = difficulty.prepareBoard(solvedBoard).getValues();
+    }
+    
+    @Benchmark
+    public SudokuBoard prepareBoard() {
+        return difficulty.prepareBoard(solvedBoard);
+    }
+    
+    @Benchmark
+    public SudokuBoard solveAndPrepareBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        return difficulty.prepareBoard(board);
+    }
+    
+    @Benchmark
+    public PuzzleGrade gradePuzzle() {
+        return PuzzleGrader.grade(puzzle);
+    }
+    
+    @Benchmark
+    public SudokuBoard prepareGradedBoard() {
+        return difficulty.prepareGradedBoard(solvedBoard);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package pl.first.sudoku.benchmarks;
+
+import pl.first.sudoku.dao.DatabaseConfig;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver for {@link JdbcDaoBenchmark} that opens in-memory H2 databases in PostgreSQL mode.
+ * H2 rejects the {@code RETURNING} clause of {@link DatabaseConfig#INSERT_BOARD}, so that one
+ * statement is swapped for a plain insert; the generated id is still read through
+ * {@code RETURN_GENERATED_KEYS}. Every other statement reaches H2 unchanged.
+ * @author zhuma
+ */
+final class H2PostgresModeDriver implements Driver {
+    static final String URL = "jdbc:sudoku-h2:mem:sudokudb";
+    
+    private static final String PREFIX = "jdbc:sudoku-h2:";
+    private static final String H2_PREFIX = "jdbc:h2:";
+    private static final String H2_SETTINGS = ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String INSERT_BOARD = "INSERT INTO sudoku_boards (name) VALUES (?)";
+    
+    private static boolean registered;
+    
+    private final Driver h2 = new org.h2.Driver();
+    
+    private H2PostgresModeDriver() {
+    }
+    
+    /**
+     * Registers the driver with {@link DriverManager}; safe to call more than once.
+     */
+    static synchronized void register() throws SQLException {
+        if (!registered) {
+            DriverManager.registerDriver(new H2PostgresModeDriver());
+            registered = true;
+        }
+    }
+    
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        Connection connection = h2.connect(H2_PREFIX + url.substring(PREFIX.length()) + H2_SETTINGS, info);
+        return (Connection) Proxy.newProxyInstance(H2PostgresModeDriver.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> invoke(connection, method, args));
+    }
+    
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        if ("prepareStatement".equals(method.getName()) && DatabaseConfig.INSERT_BOARD.equals(args[0])) {
+            args[0] = INSERT_BOARD;
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(PREFIX);
+    }
+    
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+        return h2.getPropertyInfo(H2_PREFIX + url.substring(PREFIX.length()), info);
+    }
+    
+    @Override
+    public int getMajorVersion() {
+        return h2.getMajorVersion();
+    }
+    
+    @Override
+    public int getMinorVersion() {
+        return h2.getMinorVersion();
+    }
+    
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return h2.getParentLogger();
+    }
+}
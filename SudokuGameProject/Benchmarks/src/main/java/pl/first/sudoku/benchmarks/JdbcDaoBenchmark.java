@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.dao.JdbcSudokuBoardDao;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link JdbcSudokuBoardDao} against an in-memory H2 database in PostgreSQL
+ * compatibility mode, so the benchmark runs without a database server. Absolute numbers
+ * are lower than against PostgreSQL over a socket; use them to compare code changes.
+ * @see H2PostgresModeDriver
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = BenchmarkReport.QUIET_LOGGING)
+public class JdbcDaoBenchmark {
+    private static final String READ_NAME = "benchmark-read";
+    private static final String WRITE_NAME = "benchmark-write";
+    
+    private JdbcSudokuBoardDao dao;
+    private EditableSudokuBoardDecorator decoratedBoard;
+    
+    @Setup
+    public void setUp() throws Exception {
+        H2PostgresModeDriver.register();
+        dao = new JdbcSudokuBoardDao(H2PostgresModeDriver.URL, "sa", "");
+        decoratedBoard = PuzzleCorpus.decoratedBoard("inkala");
+        dao.write(READ_NAME, decoratedBoard);
+    }
+    
+    @TearDown
+    public void tearDown() throws Exception {
+        dao.close();
+    }
+    
+    /**
+     * Overwrites the same board, which deletes the old rows and inserts 81 fields.
+     */
+    @Benchmark
+    public void write() throws Exception {
+        dao.write(WRITE_NAME, decoratedBoard);
+    }
+    
+    @Benchmark
+    public EditableSudokuBoardDecorator read() throws Exception {
+        return dao.read(READ_NAME);
+    }
+    
+    @Benchmark
+    public List<String> names() throws Exception {
+        return dao.names();
+    }
+}
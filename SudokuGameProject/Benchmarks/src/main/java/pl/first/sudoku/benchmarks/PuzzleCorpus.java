@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Checked-in corpus of benchmark puzzles loaded from {@code puzzles.txt}.
+ * The name {@value #EMPTY} denotes the empty board.
+ * @author zhuma
+ */
+public final class PuzzleCorpus {
+    public static final String EMPTY = "empty";
+    private static final String RESOURCE = "puzzles.txt";
+    private static final int CELL_COUNT = 81;
+    private static final Map<String, int[]> PUZZLES = load();
+    
+    private PuzzleCorpus() {
+    }
+    
+    public static Map<String, int[]> puzzles() {
+        return Collections.unmodifiableMap(PUZZLES);
+    }
+    
+    public static int[] cells(String name) {
+        if (EMPTY.equals(name)) {
+            return new int[CELL_COUNT];
+        }
+        int[] cells = PUZZLES.get(name);
+        if (cells == null) {
+            throw new IllegalArgumentException("Unknown benchmark puzzle: " + name);
+        }
+        return cells.clone();
+    }
+    
+    public static SudokuBoard board(String name) {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(cells(name));
+        return board;
+    }
+    
+    /**
+     * Returns a corpus puzzle wrapped in a decorator with its clues locked.
+     */
+    public static EditableSudokuBoardDecorator decoratedBoard(String name) {
+        EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(board(name));
+        decorator.lockNonEmptyFields();
+        return decorator;
+    }
+    
+    private static Map<String, int[]> load() {
+        Map<String, int[]> puzzles = new LinkedHashMap<>();
+        try (InputStream in = PuzzleCorpus.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark corpus " + RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+");
+                if (parts.length != 2 || parts[1].length() != CELL_COUNT) {
+                    throw new IllegalStateException("Malformed corpus line: " + line);
+                }
+                int[] cells = new int[CELL_COUNT];
+                for (int i = 0; i < CELL_COUNT; i++) {
+                    cells[i] = Character.digit(parts[1].charAt(i), 10);
+                }
+                puzzles.put(parts[0], cells);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return puzzles;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory Java serialization of boards and decorated boards, without file system costs.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    private SudokuBoard board;
+    private EditableSudokuBoardDecorator decoratedBoard;
+    private byte[] serializedBoard;
+    private byte[] serializedDecoratedBoard;
+    
+    @Setup
+    public void setUp() throws IOException {
+        decoratedBoard = PuzzleCorpus.decoratedBoard("inkala");
+        board = decoratedBoard.getSudokuBoard();
+        serializedBoard = StorageFootprint.serialize(board);
+        serializedDecoratedBoard = StorageFootprint.serialize(decoratedBoard);
+    }
+    
+    @Benchmark
+    public byte[] serializeBoard() throws IOException {
+        return StorageFootprint.serialize(board);
+    }
+    
+    @Benchmark
+    public Object deserializeBoard() throws IOException, ClassNotFoundException {
+        return StorageFootprint.deserialize(serializedBoard);
+    }
+    
+    @Benchmark
+    public byte[] serializeDecoratedBoard() throws IOException {
+        return StorageFootprint.serialize(decoratedBoard);
+    }
+    
+    @Benchmark
+    public Object deserializeDecoratedBoard() throws IOException, ClassNotFoundException {
+        return StorageFootprint.deserialize(serializedDecoratedBoard);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.IterativeSudokuSolver;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+import pl.first.sudoku.sudokusolver.SudokuSolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link BacktrackingSudokuSolver#solve} and {@link IterativeSudokuSolver#solve}
+ * on the empty board and corpus puzzles.
+ * The board is reset from the corpus on every call; the reset costs well under a
+ * microsecond and is part of the measured time. Run {@code -p puzzle=royle-17} explicitly
+ * for the pathological 17 clue puzzle.
+ * @author zhuma
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+    
+    @Param({"empty", "inkala", "golden-nugget", "easter-monster", "platinum-blonde"})
+    public String puzzle;
+    
+    @Param({"backtracking", "iterative"})
+    public String solverType;
+    
+    private SudokuSolver solver;
+    private SudokuBoard board;
+    private int[] cells;
+    
+    @Setup
+    public void setUp() {
+        solver = "iterative".equals(solverType) ? new IterativeSudokuSolver() : new BacktrackingSudokuSolver();
+        board = new SudokuBoard(solver);
+        cells = PuzzleCorpus.cells(puzzle);
+    }
+    
+    @Benchmark
+    public boolean solve() {
+        board.setValues(cells);
+        return solver.solve(board);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.SolveBudget;
+import pl.first.sudoku.sudokusolver.SolveResult;
+import pl.first.sudoku.sudokusolver.SolveStats;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Solver effort report: instrumented solves of corpus puzzles, hardest first.
+ * The solver picks digits in random order, so every puzzle is solved {@value #RUNS} times
+ * and the run with the median node count is reported next to the worst one. Every run is
+ * stopped after {@link #RUN_TIMEOUT}; the timeouts column counts the runs that hit it.
+ * @author zhuma
+ */
+public final class SolverProfile {
+    private static final int RUNS = 5;
+    private static final Duration RUN_TIMEOUT = Duration.ofSeconds(10);
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final String HEADER = "# puzzle\tclues\tnodes\tmax-nodes\tbacktracks\tmax-depth"
+            + "\tpeak-branching\tpeak-depth\tpropagation-hits\tchecks\ttimeouts\tsolve-ms";
+    
+    private SolverProfile() {
+    }
+    
+    /**
+     * Profiles the given corpus puzzles, or the whole corpus when none are given.
+     * @param output report file, tab separated
+     * @param names puzzle names from the corpus
+     * @throws IOException if the report cannot be written
+     */
+    public static void write(Path output, List<String> names) throws IOException {
+        List<String> puzzles = names.isEmpty() ? new ArrayList<>(PuzzleCorpus.puzzles().keySet()) : names;
+        List<Row> rows = new ArrayList<>();
+        for (String name : puzzles) {
+            rows.add(profile(name));
+        }
+        rows.sort(Comparator.comparingLong((Row row) -> row.stats.getNodes()).reversed());
+        
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Row row : rows) {
+            lines.add(row.format());
+        }
+        Files.write(output, lines, StandardCharsets.UTF_8);
+        System.out.println("Profile written to " + output.toAbsolutePath());
+    }
+    
+    private static Row profile(String name) {
+        List<SolveStats> runs = new ArrayList<>(RUNS);
+        int timeouts = 0;
+        for (int i = 0; i < RUNS; i++) {
+            SudokuBoard board = PuzzleCorpus.board(name);
+            SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(board, SolveBudget.of(RUN_TIMEOUT));
+            if (stats.getResult() == SolveResult.TIMED_OUT) {
+                timeouts++;
+            }
+            runs.add(stats);
+        }
+        runs.sort(Comparator.comparingLong(SolveStats::getNodes));
+        int clues = 0;
+        for (int value : PuzzleCorpus.cells(name)) {
+            if (value != 0) {
+                clues++;
+            }
+        }
+        return new Row(name, clues, runs.get(RUNS / 2), runs.get(RUNS - 1).getNodes(), timeouts);
+    }
+    
+    private static final class Row {
+        private final String name;
+        private final int clues;
+        private final SolveStats stats;
+        private final long maxNodes;
+        private final int timeouts;
+        
+        private Row(String name, int clues, SolveStats stats, long maxNodes, int timeouts) {
+            this.name = name;
+            this.clues = clues;
+            this.stats = stats;
+            this.maxNodes = maxNodes;
+            this.timeouts = timeouts;
+        }
+        
+        private String format() {
+            double[] branching = stats.getBranchingFactors();
+            int peakDepth = 0;
+            for (int depth = 1; depth < branching.length; depth++) {
+                if (branching[depth] > branching[peakDepth]) {
+                    peakDepth = depth;
+                }
+            }
+            return String.format(Locale.ROOT, "%s\t%d\t%d\t%d\t%d\t%d\t%.3f\t%d\t%d\t%d\t%d\t%.3f",
+                    name, clues, stats.getNodes(), maxNodes, stats.getBacktracks(), stats.getMaxDepth(),
+                    branching[peakDepth], peakDepth, stats.getPropagationHits(), stats.getValidityChecks(),
+                    timeouts, stats.getElapsedNanos() / NANOS_PER_MILLI);
+        }
+    }
+}
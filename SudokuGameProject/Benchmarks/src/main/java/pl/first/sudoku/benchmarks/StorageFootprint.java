@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.benchmarks;
+
+import pl.first.sudoku.dao.Dao;
+import pl.first.sudoku.dao.SudokuBoardDaoFactory;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures how many bytes one corpus puzzle takes in every storage format.
+ * Sizes are deterministic, so they are reported next to the timing results.
+ * @author zhuma
+ */
+public final class StorageFootprint {
+    private static final String PUZZLE = "inkala";
+    private static final String NAME = "footprint.sudoku";
+    
+    private StorageFootprint() {
+    }
+    
+    /**
+     * Writes the footprint puzzle with every DAO into a temporary directory.
+     * @return bytes used per format, in a stable order
+     */
+    public static Map<String, Long> measure() throws Exception {
+        EditableSudokuBoardDecorator decoratedBoard = PuzzleCorpus.decoratedBoard(PUZZLE);
+        SudokuBoard board = decoratedBoard.getSudokuBoard();
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put("serializedBoard", (long) serialize(board).length);
+        sizes.put("serializedDecoratedBoard", (long) serialize(decoratedBoard).length);
+        
+        Path directory = Files.createTempDirectory("sudoku-footprint");
+        try {
+            Path file = directory.resolve("file");
+            try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileDao(file.toString())) {
+                dao.write(NAME, board);
+            }
+            sizes.put("fileDao", directorySize(file));
+            
+            Path editable = directory.resolve("editable");
+            try (Dao<EditableSudokuBoardDecorator> dao = SudokuBoardDaoFactory.getEditableFileDao(
+                    editable.toString())) {
+                dao.write(NAME, decoratedBoard);
+            }
+            sizes.put("editableFileDao", directorySize(editable));
+            
+            Path content = directory.resolve("content");
+            try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(content.toString())) {
+                dao.write(NAME, board);
+            }
+            sizes.put("contentAddressedDao", directorySize(content));
+        } finally {
+            deleteRecursively(directory);
+        }
+        return sizes;
+    }
+    
+    public static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+    
+    public static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+    
+    static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+    
+    private static long directorySize(Path directory) throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            long total = 0;
+            for (Path path : walk.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                total += Files.size(path);
+            }
+            return total;
+        }
+    }
+}
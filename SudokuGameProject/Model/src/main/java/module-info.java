@@ -27,12 +27,15 @@ module SudokuGameModel {
     exports pl.first.sudoku.dao;
     exports pl.first.sudoku.exceptions;
     exports pl.first.sudoku.resources;
+    exports pl.first.sudoku.jfr;
+    exports pl.first.sudoku.metrics;
    
-    requires javafx.controls;
-    requires javafx.fxml;
-    requires java.desktop;  
+    requires transitive java.desktop;
     requires java.base;
     requires java.sql;
+    requires transitive jdk.jfr;
+    requires jdk.httpserver;
+    requires java.management;
     requires org.apache.commons.lang3;
     requires org.postgresql.jdbc;
     
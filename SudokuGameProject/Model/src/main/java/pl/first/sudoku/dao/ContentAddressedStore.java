@@ -0,0 +1,322 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.sudokusolver.CanonicalForm;
+import pl.first.sudoku.sudokusolver.SudokuCanonicalizer;
+import pl.first.sudoku.sudokusolver.SudokuTransform;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Object and reference files shared by the content-addressed DAOs.
+ * Every board is stored once under the SHA-256 hash of its canonical form in the objects
+ * directory. A reference file holds that hash, the transform back to the saved board and,
+ * for editable saves, which cells the player may edit. The editability mask belongs to the
+ * save rather than to the content, so saves with different clue masks still share one object.
+ * Overwriting a name leaves its previous object in place, even if nothing refers to it any
+ * more; {@link #pruneObjects()} removes such orphans.
+ * @author zhuma
+ */
+final class ContentAddressedStore {
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedStore.class);
+    private static final String OBJECTS_DIRECTORY = "objects";
+    private static final String REFS_DIRECTORY = "refs";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int CELL_COUNT = 81;
+    private static final char EDITABLE = '1';
+    private static final char LOCKED = '0';
+    
+    private final Path objectsPath;
+    private final Path refsPath;
+    private final Map<String, int[]> objectCache;
+    
+    ContentAddressedStore(String directoryPath, int cacheSize) {
+        this.objectsPath = Paths.get(directoryPath, OBJECTS_DIRECTORY);
+        this.refsPath = Paths.get(directoryPath, REFS_DIRECTORY);
+        this.objectCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        createDirectoryIfNotExists(objectsPath);
+        createDirectoryIfNotExists(refsPath);
+    }
+    
+    private void createDirectoryIfNotExists(Path directory) {
+        if (!Files.exists(directory)) {
+            try {
+                Files.createDirectories(directory);
+                logger.info("Created directory: {}", directory);
+            } catch (IOException e) {
+                logger.warn("Failed to create directory: {}", directory, e);
+            }
+        }
+    }
+    
+    Path referencePath(String name) {
+        return refsPath.resolve(name);
+    }
+    
+    Path getRefsPath() {
+        return refsPath;
+    }
+    
+    Path getObjectsPath() {
+        return objectsPath;
+    }
+    
+    /**
+     * Reads a named save.
+     * @param name name of the save
+     * @return cells of the saved board and its editability mask, if it has one
+     * @throws IOException if the reference or its object is missing or malformed
+     */
+    Entry read(String name) throws IOException {
+        Path refPath = referencePath(name);
+        List<String> lines = Files.readAllLines(refPath, StandardCharsets.UTF_8);
+        if (lines.size() < 2) {
+            throw new IOException("Malformed reference file: " + refPath);
+        }
+        String hash = lines.get(0).trim();
+        SudokuTransform toCanonical = SudokuTransform.decode(lines.get(1));
+        boolean[] editable = lines.size() > 2 ? decodeMask(lines.get(2).trim()) : null;
+        
+        int[] canonical = readObject(hash);
+        logger.debug("Reference {} points to object {}", name, hash);
+        return new Entry(toCanonical.inverse().apply(canonical), editable);
+    }
+    
+    /**
+     * Stores the board's canonical object, unless already present, and writes the named reference.
+     * @param name name of the save
+     * @param cells cells of the board in row-major order
+     * @param editable editability of every cell in row-major order, or null for a plain board
+     * @return hash of the stored object
+     * @throws IOException if a file cannot be written
+     */
+    String write(String name, int[] cells, boolean[] editable) throws IOException {
+        CanonicalForm form = SudokuCanonicalizer.of(cells);
+        int[] canonical = form.getCells();
+        String content = encodeCells(canonical);
+        String hash = hash(content);
+        
+        writeObject(hash, content, canonical);
+        StringBuilder reference = new StringBuilder()
+                .append(hash).append(System.lineSeparator())
+                .append(form.getTransform().encode()).append(System.lineSeparator());
+        if (editable != null) {
+            reference.append(encodeMask(editable)).append(System.lineSeparator());
+        }
+        writeAtomically(referencePath(name), reference.toString());
+        return hash;
+    }
+    
+    List<String> names() throws IOException {
+        try (Stream<Path> paths = Files.list(refsPath)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(path -> path.getFileName().toString())
+                    .filter(fileName -> !fileName.endsWith(TEMP_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    long objectCount() throws IOException {
+        try (Stream<Path> paths = Files.list(objectsPath)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .count();
+        }
+    }
+    
+    /**
+     * Deletes the objects no reference points to.
+     * Must not run while another DAO writes to the same directory, since a write that reuses an
+     * existing object could lose it between reading and replacing its reference.
+     * @return number of objects deleted
+     * @throws IOException if a directory cannot be listed or a file cannot be read or deleted
+     */
+    int pruneObjects() throws IOException {
+        Set<String> referenced = new HashSet<>();
+        for (String name : names()) {
+            List<String> lines = Files.readAllLines(referencePath(name), StandardCharsets.UTF_8);
+            if (!lines.isEmpty()) {
+                referenced.add(lines.get(0).trim());
+            }
+        }
+        List<Path> orphans;
+        try (Stream<Path> paths = Files.list(objectsPath)) {
+            orphans = paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .filter(path -> !referenced.contains(path.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+        for (Path orphan : orphans) {
+            Files.deleteIfExists(orphan);
+            synchronized (objectCache) {
+                objectCache.remove(orphan.getFileName().toString());
+            }
+            logger.debug("Deleted unreferenced object {}", orphan.getFileName());
+        }
+        return orphans.size();
+    }
+    
+    void clearCache() {
+        synchronized (objectCache) {
+            objectCache.clear();
+        }
+    }
+    
+    private int[] readObject(String hash) throws IOException {
+        synchronized (objectCache) {
+            int[] cached = objectCache.get(hash);
+            if (cached != null) {
+                logger.debug("Object cache hit: {}", hash);
+                return cached;
+            }
+        }
+        
+        int[] cells = decodeCells(Files.readString(objectsPath.resolve(hash), StandardCharsets.UTF_8).trim());
+        synchronized (objectCache) {
+            objectCache.put(hash, cells);
+        }
+        return cells;
+    }
+    
+    private void writeObject(String hash, String content, int[] canonical) throws IOException {
+        Path objectPath = objectsPath.resolve(hash);
+        if (Files.exists(objectPath)) {
+            logger.debug("Object {} already stored, reusing it", hash);
+        } else {
+            writeAtomically(objectPath, content + System.lineSeparator());
+        }
+        synchronized (objectCache) {
+            objectCache.put(hash, canonical);
+        }
+    }
+    
+    private void writeAtomically(Path target, String content) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private static String encodeCells(int[] cells) {
+        StringBuilder builder = new StringBuilder(CELL_COUNT);
+        for (int value : cells) {
+            builder.append((char) ('0' + value));
+        }
+        return builder.toString();
+    }
+    
+    private static int[] decodeCells(String content) throws IOException {
+        if (content.length() != CELL_COUNT) {
+            throw new IOException("Malformed board object of length " + content.length());
+        }
+        int[] cells = new int[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            char c = content.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IOException("Malformed board object character: " + c);
+            }
+            cells[i] = c - '0';
+        }
+        return cells;
+    }
+    
+    private static String encodeMask(boolean[] editable) {
+        if (editable.length != CELL_COUNT) {
+            throw new IllegalArgumentException("Editability mask must have " + CELL_COUNT + " cells");
+        }
+        StringBuilder builder = new StringBuilder(CELL_COUNT);
+        for (boolean cell : editable) {
+            builder.append(cell ? EDITABLE : LOCKED);
+        }
+        return builder.toString();
+    }
+    
+    private static boolean[] decodeMask(String mask) throws IOException {
+        if (mask.length() != CELL_COUNT) {
+            throw new IOException("Malformed editability mask of length " + mask.length());
+        }
+        boolean[] editable = new boolean[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            char c = mask.charAt(i);
+            if (c != EDITABLE && c != LOCKED) {
+                throw new IOException("Malformed editability mask character: " + c);
+            }
+            editable[i] = c == EDITABLE;
+        }
+        return editable;
+    }
+    
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Cells of a named save and its editability mask, null for a plain board.
+     */
+    static final class Entry {
+        private final int[] cells;
+        private final boolean[] editable;
+        
+        private Entry(int[] cells, boolean[] editable) {
+            this.cells = cells;
+            this.editable = editable;
+        }
+        
+        int[] getCells() {
+            return cells;
+        }
+        
+        boolean[] getEditable() {
+            return editable;
+        }
+    }
+}
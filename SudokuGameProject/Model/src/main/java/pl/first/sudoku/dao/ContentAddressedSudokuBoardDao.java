@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Content-addressed implementation of Dao interface for SudokuBoard objects.
+ * Every board is stored once under the SHA-256 hash of its canonical form in the objects
+ * directory. Named saves are small reference files holding that hash and the transform
+ * back to the saved board, so isomorphic boards share a single object on disk and in the read cache.
+ * Overwriting a name keeps the previous object until {@link #pruneObjects()} is called.
+ * @author zhuma
+ */
+public class ContentAddressedSudokuBoardDao implements Dao<SudokuBoard> {
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedSudokuBoardDao.class);
+    private static final DaoTelemetry TELEMETRY = new DaoTelemetry("content-addressed");
+    static final int DEFAULT_CACHE_SIZE = 256;
+    
+    private final ContentAddressedStore store;
+    
+    public ContentAddressedSudokuBoardDao(String directoryPath) {
+        this(directoryPath, DEFAULT_CACHE_SIZE);
+    }
+    
+    public ContentAddressedSudokuBoardDao(String directoryPath, int cacheSize) {
+        this.store = new ContentAddressedStore(directoryPath, cacheSize);
+    }
+    
+    @Override
+    public SudokuBoard read(String name) throws DaoException {
+        logger.debug("Reading SudokuBoard reference: {}", store.referencePath(name));
+        
+        DaoTelemetry.Call call = TELEMETRY.read(name);
+        try {
+            SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+            board.setValues(store.read(name).getCells());
+            
+            logger.info("Successfully read SudokuBoard {}", name);
+            call.recordSize(store.referencePath(name));
+            call.succeeded();
+            return board;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Error reading SudokuBoard reference: {}", name, e);
+            throw DaoException.createReadException(name, e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    @Override
+    public void write(String name, SudokuBoard board) throws DaoException {
+        logger.debug("Writing SudokuBoard reference: {}", store.referencePath(name));
+        
+        DaoTelemetry.Call call = TELEMETRY.write(name);
+        try {
+            String hash = store.write(name, board.getValues(), null);
+            
+            logger.info("Successfully wrote SudokuBoard {} as object {}", name, hash);
+            call.recordSize(store.referencePath(name));
+            call.succeeded();
+        } catch (IOException e) {
+            logger.error("Error writing SudokuBoard reference: {}", name, e);
+            throw DaoException.createWriteException(name, e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    @Override
+    public List<String> names() throws DaoException {
+        logger.debug("Listing references in directory: {}", store.getRefsPath());
+        
+        DaoTelemetry.Call call = TELEMETRY.names(store.getRefsPath().toString());
+        try {
+            List<String> refNames = store.names();
+            
+            logger.info("Found {} references in directory: {}", refNames.size(), store.getRefsPath());
+            call.succeeded();
+            return refNames;
+        } catch (IOException e) {
+            logger.error("Error listing references in directory: {}", store.getRefsPath(), e);
+            throw DaoException.createNamesException(store.getRefsPath().toString(), e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    /**
+     * Returns the number of distinct board contents stored.
+     * @return number of objects on disk
+     * @throws DaoException if the objects directory cannot be listed
+     */
+    public long objectCount() throws DaoException {
+        try {
+            return store.objectCount();
+        } catch (IOException e) {
+            logger.error("Error listing objects in directory: {}", store.getObjectsPath(), e);
+            throw DaoException.createNamesException(store.getObjectsPath().toString(), e);
+        }
+    }
+    
+    /**
+     * Deletes the objects left without references by overwritten saves.
+     * Must not run while another DAO writes to the same directory.
+     * @return number of objects deleted
+     * @throws DaoException if the store cannot be listed or cleaned up
+     */
+    public int pruneObjects() throws DaoException {
+        try {
+            int deleted = store.pruneObjects();
+            logger.info("Deleted {} unreferenced objects from: {}", deleted, store.getObjectsPath());
+            return deleted;
+        } catch (IOException e) {
+            logger.error("Error deleting unreferenced objects in directory: {}", store.getObjectsPath(), e);
+            throw DaoException.createWriteException(store.getObjectsPath().toString(), e);
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        logger.debug("Closing DAO resources");
+        store.clearCache();
+        logger.debug("DAO resources closed successfully");
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import pl.first.sudoku.jfr.DaoEvent;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
+
+import java.nio.file.Path;
+
+/**
+ * Telemetry of the DAO calls of one backend: a flight recorder event, a latency timer
+ * and an error counter for every read, write and names call.
+ * @author zhuma
+ */
+final class DaoTelemetry {
+    private final String backend;
+    private final Operation read;
+    private final Operation write;
+    private final Operation names;
+    
+    DaoTelemetry(String backend) {
+        this.backend = backend;
+        this.read = new Operation(backend, DaoEvent.READ);
+        this.write = new Operation(backend, DaoEvent.WRITE);
+        this.names = new Operation(backend, DaoEvent.NAMES);
+    }
+    
+    Call read(String name) {
+        return new Call(backend, read, name);
+    }
+    
+    Call write(String name) {
+        return new Call(backend, write, name);
+    }
+    
+    Call names(String location) {
+        return new Call(backend, names, location);
+    }
+    
+    private static final class Operation {
+        private final String name;
+        private final Timer timer;
+        private final Counter errors;
+        
+        private Operation(String backend, String name) {
+            MetricsRegistry registry = MetricsRegistry.global();
+            this.name = name;
+            this.timer = registry.timer("sudoku_dao_operation_seconds", "Duration of DAO calls",
+                    "backend", backend, "operation", name);
+            this.errors = registry.counter("sudoku_dao_errors_total", "DAO calls that threw an exception",
+                    "backend", backend, "operation", name);
+        }
+    }
+    
+    /**
+     * One DAO call in progress; {@link #end()} must be called from a finally block.
+     */
+    static final class Call {
+        private final Operation operation;
+        private final DaoEvent event;
+        private final long startNanos;
+        private boolean success;
+        
+        private Call(String backend, Operation operation, String name) {
+            this.operation = operation;
+            this.event = DaoEvent.start(backend, operation.name, name);
+            this.startNanos = System.nanoTime();
+        }
+        
+        void recordSize(Path file) {
+            event.recordSize(file);
+        }
+        
+        /**
+         * Records the payload size of a call whose data never touches a file, e.g. bound JDBC values.
+         */
+        void recordBytes(long bytes) {
+            event.setBytes(bytes);
+        }
+        
+        void succeeded() {
+            success = true;
+            event.setSuccess(true);
+        }
+        
+        void end() {
+            event.commit();
+            operation.timer.recordSince(startNanos);
+            if (!success) {
+                operation.errors.increment();
+            }
+        }
+    }
+}
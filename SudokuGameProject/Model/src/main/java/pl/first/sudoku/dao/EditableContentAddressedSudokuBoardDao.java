@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Content-addressed implementation of Dao interface for EditableSudokuBoardDecorator objects.
+ * Boards share objects with {@link ContentAddressedSudokuBoardDao}; the reference file of each
+ * save additionally records which cells are editable. Saves without that record, e.g. written
+ * as plain boards, are read with every cell editable.
+ * @author zhuma
+ */
+public class EditableContentAddressedSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
+    private static final Logger logger = LoggerFactory.getLogger(EditableContentAddressedSudokuBoardDao.class);
+    private static final DaoTelemetry TELEMETRY = new DaoTelemetry("editable-content-addressed");
+    private static final int BOARD_SIZE = 9;
+    
+    private final ContentAddressedStore store;
+    
+    public EditableContentAddressedSudokuBoardDao(String directoryPath) {
+        this(directoryPath, ContentAddressedSudokuBoardDao.DEFAULT_CACHE_SIZE);
+    }
+    
+    public EditableContentAddressedSudokuBoardDao(String directoryPath, int cacheSize) {
+        this.store = new ContentAddressedStore(directoryPath, cacheSize);
+    }
+    
+    @Override
+    public EditableSudokuBoardDecorator read(String name) throws DaoException {
+        logger.debug("Reading EditableSudokuBoardDecorator reference: {}", store.referencePath(name));
+        
+        DaoTelemetry.Call call = TELEMETRY.read(name);
+        try {
+            ContentAddressedStore.Entry entry = store.read(name);
+            SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+            board.setValues(entry.getCells());
+            EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(board);
+            boolean[] editable = entry.getEditable();
+            if (editable != null) {
+                for (int cell = 0; cell < editable.length; cell++) {
+                    decorator.setFieldEditable(cell / BOARD_SIZE, cell % BOARD_SIZE, editable[cell]);
+                }
+            }
+            
+            logger.info("Successfully read EditableSudokuBoardDecorator {}", name);
+            call.recordSize(store.referencePath(name));
+            call.succeeded();
+            return decorator;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Error reading EditableSudokuBoardDecorator reference: {}", name, e);
+            throw DaoException.createReadException(name, e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    @Override
+    public void write(String name, EditableSudokuBoardDecorator decorator) throws DaoException {
+        logger.debug("Writing EditableSudokuBoardDecorator reference: {}", store.referencePath(name));
+        
+        DaoTelemetry.Call call = TELEMETRY.write(name);
+        try {
+            boolean[] editable = new boolean[BOARD_SIZE * BOARD_SIZE];
+            for (int cell = 0; cell < editable.length; cell++) {
+                editable[cell] = decorator.isFieldEditable(cell / BOARD_SIZE, cell % BOARD_SIZE);
+            }
+            String hash = store.write(name, decorator.getSudokuBoard().getValues(), editable);
+            
+            logger.info("Successfully wrote EditableSudokuBoardDecorator {} as object {}", name, hash);
+            call.recordSize(store.referencePath(name));
+            call.succeeded();
+        } catch (IOException e) {
+            logger.error("Error writing EditableSudokuBoardDecorator reference: {}", name, e);
+            throw DaoException.createWriteException(name, e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    @Override
+    public List<String> names() throws DaoException {
+        logger.debug("Listing references in directory: {}", store.getRefsPath());
+        
+        DaoTelemetry.Call call = TELEMETRY.names(store.getRefsPath().toString());
+        try {
+            List<String> refNames = store.names();
+            
+            logger.info("Found {} references in directory: {}", refNames.size(), store.getRefsPath());
+            call.succeeded();
+            return refNames;
+        } catch (IOException e) {
+            logger.error("Error listing references in directory: {}", store.getRefsPath(), e);
+            throw DaoException.createNamesException(store.getRefsPath().toString(), e);
+        } finally {
+            call.end();
+        }
+    }
+    
+    @Override
+    public void close() throws Exception {
+        logger.debug("Closing DAO resources");
+        store.clearCache();
+        logger.debug("DAO resources closed successfully");
+    }
+}
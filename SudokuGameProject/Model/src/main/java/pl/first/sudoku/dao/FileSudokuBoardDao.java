@@ -46,6 +46,7 @@ import java.util.stream.Collectors;
  */
 public class FileSudokuBoardDao implements Dao<SudokuBoard> {
     private static final Logger logger = LoggerFactory.getLogger(FileSudokuBoardDao.class);
+    private static final DaoTelemetry TELEMETRY = new DaoTelemetry("file");
     
     private final String directoryPath;
     private ObjectOutputStream outputStream = null;
@@ -73,14 +74,19 @@ public class FileSudokuBoardDao implements Dao<SudokuBoard> {
         Path filePath = Paths.get(directoryPath, name);
         logger.debug("Reading SudokuBoard from file: {}", filePath);
         
+        DaoTelemetry.Call call = TELEMETRY.read(name);
         try {
             inputStream = new ObjectInputStream(new FileInputStream(filePath.toFile()));
             SudokuBoard board = (SudokuBoard) inputStream.readObject();
             logger.info("Successfully read SudokuBoard from file: {}", name);
+            call.recordSize(filePath);
+            call.succeeded();
             return board;
         } catch (IOException | ClassNotFoundException e) {
             logger.error("Error reading SudokuBoard from file: {}", name, e);
             throw DaoException.createReadException(name, e);
+        } finally {
+            call.end();
         }
     }
     
@@ -89,14 +95,19 @@ public class FileSudokuBoardDao implements Dao<SudokuBoard> {
         Path filePath = Paths.get(directoryPath, name);
         logger.debug("Writing SudokuBoard to file: {}", filePath);
         
+        DaoTelemetry.Call call = TELEMETRY.write(name);
         try {
             outputStream = new ObjectOutputStream(new FileOutputStream(filePath.toFile()));
             outputStream.writeObject(board);
             outputStream.flush();
             logger.info("Successfully wrote SudokuBoard to file: {}", name);
+            call.recordSize(filePath);
+            call.succeeded();
         } catch (IOException e) {
             logger.error("Error writing SudokuBoard to file: {}", name, e);
             throw DaoException.createWriteException(name, e);
+        } finally {
+            call.end();
         }
     }
     
@@ -104,6 +115,7 @@ public class FileSudokuBoardDao implements Dao<SudokuBoard> {
     public List<String> names() throws DaoException {
         logger.debug("Listing files in directory: {}", directoryPath);
         
+        DaoTelemetry.Call call = TELEMETRY.names(directoryPath);
         try {
             List<String> fileNames = Files.list(Paths.get(directoryPath))
                     .filter(Files::isRegularFile)
@@ -111,10 +123,13 @@ public class FileSudokuBoardDao implements Dao<SudokuBoard> {
                     .collect(Collectors.toList());
             
             logger.info("Found {} files in directory: {}", fileNames.size(), directoryPath);
+            call.succeeded();
             return fileNames;
         } catch (IOException e) {
             logger.error("Error listing files in directory: {}", directoryPath, e);
             throw DaoException.createNamesException(directoryPath, e);
+        } finally {
+            call.end();
         }
     }
     
@@ -26,10 +26,15 @@ package pl.first.sudoku.dao;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.Gauge;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
 import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
 import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
 import pl.first.sudoku.sudokusolver.SudokuBoard;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
@@ -46,6 +51,21 @@ import java.util.List;
  */
 public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
     private static final Logger logger = LoggerFactory.getLogger(JdbcSudokuBoardDao.class);
+    private static final DaoTelemetry TELEMETRY = new DaoTelemetry("jdbc");
+    private static final Counter CONNECTIONS_OPENED = MetricsRegistry.global().counter(
+            "sudoku_jdbc_connections_opened_total", "JDBC connections opened");
+    private static final Counter CONNECTION_FAILURES = MetricsRegistry.global().counter(
+            "sudoku_jdbc_connection_failures_total", "Failed attempts to open a JDBC connection");
+    private static final Gauge CONNECTIONS_ACTIVE = MetricsRegistry.global().gauge(
+            "sudoku_jdbc_connections_active", "JDBC connections currently open");
+    private static final Timer CONNECT_TIME = MetricsRegistry.global().timer(
+            "sudoku_jdbc_connect_seconds", "Time to open a JDBC connection");
+    private static final Counter ROLLBACKS = MetricsRegistry.global().counter(
+            "sudoku_jdbc_rollbacks_total", "JDBC transactions rolled back");
+    /** Values bound per written field: board id, row, column and value, plus the editable flag. */
+    private static final int FIELD_WRITE_BYTES = 4 * Integer.BYTES + 1;
+    /** Values fetched per read field: row, column and value, plus the editable flag. */
+    private static final int FIELD_READ_BYTES = 3 * Integer.BYTES + 1;
     
     private Connection connection;
     
@@ -54,19 +74,45 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
     }
     
     public JdbcSudokuBoardDao(String url, String user, String password) throws JdbcDaoException {
+        long startNanos = System.nanoTime();
         try {
             Class.forName(DatabaseConfig.DB_DRIVER);
             connection = DriverManager.getConnection(url, user, password);
             connection.setAutoCommit(false);
             initializeTables();
-            logger.info("Database connection established successfully");
         } catch (ClassNotFoundException e) {
+            CONNECTION_FAILURES.increment();
             logger.error("PostgreSQL driver not found", e);
             throw JdbcDaoException.createConnectionException("PostgreSQL driver not found", e);
         } catch (SQLException e) {
+            CONNECTION_FAILURES.increment();
+            closeAfterFailure();
             logger.error("Failed to connect to database", e);
             throw JdbcDaoException.createConnectionException("Failed to connect to database", e);
+        } catch (JdbcDaoException e) {
+            CONNECTION_FAILURES.increment();
+            closeAfterFailure();
+            throw e;
         }
+        CONNECT_TIME.recordSince(startNanos);
+        CONNECTIONS_OPENED.increment();
+        CONNECTIONS_ACTIVE.increment();
+        logger.info("Database connection established successfully");
+    }
+    
+    /**
+     * Closes a connection whose setup failed; it was never counted as open.
+     */
+    private void closeAfterFailure() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.error("Error closing database connection after failed setup", e);
+        }
+        connection = null;
     }
     
     private void initializeTables() throws JdbcDaoException {
@@ -86,6 +132,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
         } catch (SQLException e) {
             try {
                 connection.rollback();
+                ROLLBACKS.increment();
             } catch (SQLException rollbackEx) {
                 logger.error("Failed to rollback transaction", rollbackEx);
             }
@@ -97,6 +144,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
     public EditableSudokuBoardDecorator read(String name) throws DaoException {
         logger.debug("Reading EditableSudokuBoardDecorator from database: {}", name);
         
+        DaoTelemetry.Call call = TELEMETRY.read(name);
         try {
             Integer boardId = getBoardId(name);
             if (boardId == null) {
@@ -107,11 +155,13 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
             SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
             EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(board);
             
+            long bytes = 0;
             try (PreparedStatement stmt = connection.prepareStatement(DatabaseConfig.SELECT_FIELDS)) {
                 stmt.setInt(1, boardId);
                 
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
+                        bytes += FIELD_READ_BYTES;
                         int row = rs.getInt("row_index");
                         int col = rs.getInt("col_index");
                         int value = rs.getInt("field_value");
@@ -124,11 +174,15 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
             }
             
             logger.info("Successfully read EditableSudokuBoardDecorator from database: {}", name);
+            call.recordBytes(bytes);
+            call.succeeded();
             return decorator;
             
         } catch (SQLException e) {
             logger.error("Error reading EditableSudokuBoardDecorator from database: {}", name, e);
             throw DaoException.createReadException(name, e);
+        } finally {
+            call.end();
         }
     }
     
@@ -136,6 +190,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
     public void write(String name, EditableSudokuBoardDecorator decorator) throws DaoException {
         logger.debug("Writing EditableSudokuBoardDecorator to database: {}", name);
         
+        DaoTelemetry.Call call = TELEMETRY.write(name);
         try {
             if (getBoardId(name) != null) {
                 try (PreparedStatement stmt = connection.prepareStatement(DatabaseConfig.DELETE_BOARD)) {
@@ -145,6 +200,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
             }
             
             int boardId;
+            long bytes = name.getBytes(StandardCharsets.UTF_8).length;
             try (PreparedStatement stmt = connection.prepareStatement(DatabaseConfig.INSERT_BOARD, 
                     Statement.RETURN_GENERATED_KEYS)) {
                 stmt.setString(1, name);
@@ -170,6 +226,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
                         stmt.setInt(4, board.getValueAt(row, col));
                         stmt.setBoolean(5, decorator.isFieldEditable(row, col));
                         stmt.addBatch();
+                        bytes += FIELD_WRITE_BYTES;
                     }
                 }
                 stmt.executeBatch();
@@ -177,15 +234,20 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
             
             connection.commit();
             logger.info("Successfully wrote EditableSudokuBoardDecorator to database: {}", name);
+            call.recordBytes(bytes);
+            call.succeeded();
             
         } catch (SQLException e) {
             try {
                 connection.rollback();
+                ROLLBACKS.increment();
             } catch (SQLException rollbackEx) {
                 logger.error("Failed to rollback transaction", rollbackEx);
             }
             logger.error("Error writing EditableSudokuBoardDecorator to database: {}", name, e);
             throw DaoException.createWriteException(name, e);
+        } finally {
+            call.end();
         }
     }
     
@@ -193,20 +255,28 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
     public List<String> names() throws DaoException {
         logger.debug("Listing board names from database");
         
+        DaoTelemetry.Call call = TELEMETRY.names("database");
         try (PreparedStatement stmt = connection.prepareStatement(DatabaseConfig.SELECT_BOARD_NAMES);
              ResultSet rs = stmt.executeQuery()) {
             
             List<String> names = new ArrayList<>();
+            long bytes = 0;
             while (rs.next()) {
-                names.add(rs.getString("name"));
+                String boardName = rs.getString("name");
+                names.add(boardName);
+                bytes += boardName.getBytes(StandardCharsets.UTF_8).length;
             }
             
             logger.info("Found {} boards in database", names.size());
+            call.recordBytes(bytes);
+            call.succeeded();
             return names;
             
         } catch (SQLException e) {
             logger.error("Error listing board names from database", e);
             throw DaoException.createNamesException("database", e);
+        } finally {
+            call.end();
         }
     }
     
@@ -229,6 +299,7 @@ public class JdbcSudokuBoardDao implements Dao<EditableSudokuBoardDecorator> {
         if (connection != null && !connection.isClosed()) {
             try {
                 connection.close();
+                CONNECTIONS_ACTIVE.decrement();
                 logger.debug("Database connection closed successfully");
             } catch (SQLException e) {
                 logger.error("Error closing database connection", e);
@@ -38,10 +38,18 @@ public class SudokuBoardDaoFactory {
         return new FileSudokuBoardDao(directoryName);
     }
     
+    public static Dao<SudokuBoard> getContentAddressedDao(String directoryName) {
+        return new ContentAddressedSudokuBoardDao(directoryName);
+    }
+    
     public static Dao<EditableSudokuBoardDecorator> getEditableFileDao(String directoryName) {
         return new EditableSudokuBoardDao(directoryName);
     }
     
+    public static Dao<EditableSudokuBoardDecorator> getEditableContentAddressedDao(String directoryName) {
+        return new EditableContentAddressedSudokuBoardDao(directoryName);
+    }
+    
     public static Dao<EditableSudokuBoardDecorator> getJdbcDao() throws JdbcDaoException {
         return new JdbcSudokuBoardDao();
     }
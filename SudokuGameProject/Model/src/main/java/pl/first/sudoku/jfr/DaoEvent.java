@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Flight recorder event for a single DAO call.
+ * Bytes are the size of the stored board file for file backends, and the size of the values
+ * bound or fetched for JDBC; listings of a directory report 0.
+ * @author zhuma
+ */
+@Name("pl.first.sudoku.DaoOperation")
+@Label("DAO Operation")
+@Category({"Sudoku", "Persistence"})
+@Description("Read, write or names call on a board DAO")
+@StackTrace(false)
+public class DaoEvent extends Event {
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String NAMES = "names";
+    
+    @Label("Backend")
+    private String backend;
+    
+    @Label("Operation")
+    private String operation;
+    
+    @Label("Name")
+    private String name;
+    
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+    
+    @Label("Success")
+    private boolean success;
+    
+    /**
+     * Creates and begins an event for one DAO call.
+     * @param backend DAO implementation, e.g. its simple class name
+     * @param operation one of {@link #READ}, {@link #WRITE} and {@link #NAMES}
+     * @param name board name, or the location listed by {@link #NAMES}
+     * @return started event; commit it when the call ends
+     */
+    public static DaoEvent start(String backend, String operation, String name) {
+        DaoEvent event = new DaoEvent();
+        event.backend = backend;
+        event.operation = operation;
+        event.name = name;
+        event.begin();
+        return event;
+    }
+    
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+    
+    /**
+     * Records the size of a stored file, touching the file system only while the event is recorded.
+     * @param file file holding the board
+     */
+    public void recordSize(Path file) {
+        if (shouldCommit()) {
+            try {
+                bytes = Files.size(file);
+            } catch (IOException e) {
+                bytes = 0;
+            }
+        }
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one run of a Sudoku solver.
+ * Fields are only filled in when {@link #shouldCommit()} is true, so a disabled event
+ * costs no more than its begin and commit calls.
+ * @author zhuma
+ */
+@Name("pl.first.sudoku.Solve")
+@Label("Sudoku Solve")
+@Category({"Sudoku", "Solver"})
+@Description("Run of a Sudoku solver on one board")
+@StackTrace(false)
+public class SolveEvent extends Event {
+    @Label("Solver")
+    private String solver;
+    
+    @Label("Solved")
+    private boolean solved;
+    
+    @Label("Cells Filled")
+    private int cellsFilled;
+    
+    @Label("Nodes Visited")
+    private long nodesVisited;
+    
+    @Label("Backtracks")
+    private long backtracks;
+    
+    @Label("Timed Out")
+    private boolean timedOut;
+    
+    public void setSolver(String solver) {
+        this.solver = solver;
+    }
+    
+    public void setSolved(boolean solved) {
+        this.solved = solved;
+    }
+    
+    public void setCellsFilled(int cellsFilled) {
+        this.cellsFilled = cellsFilled;
+    }
+    
+    public void setNodesVisited(long nodesVisited) {
+        this.nodesVisited = nodesVisited;
+    }
+    
+    public void setBacktracks(long backtracks) {
+        this.backtracks = backtracks;
+    }
+    
+    public void setTimedOut(boolean timedOut) {
+        this.timedOut = timedOut;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * In-process registry of counters, gauges and timers, rendered in the Prometheus text format.
+ * Metrics are identified by name and label pairs; look them up once and keep the returned
+ * instance, since recording is lock-free but lookup formats the labels.
+ * @author zhuma
+ */
+public class MetricsRegistry implements MetricsMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+    
+    public static final String OBJECT_NAME = "pl.first.sudoku:type=Metrics";
+    
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+    
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+    
+    public Counter counter(String name, String help, String... labels) {
+        return family(name, help, Type.COUNTER).series(labels, Counter::new);
+    }
+    
+    public Gauge gauge(String name, String help, String... labels) {
+        return family(name, help, Type.GAUGE).series(labels, Gauge::new);
+    }
+    
+    public Timer timer(String name, String help, String... labels) {
+        return family(name, help, Type.SUMMARY).series(labels, Timer::new);
+    }
+    
+    /**
+     * Renders all metrics in the Prometheus text exposition format, version 0.0.4.
+     * @return exposition text, families sorted by name
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Family family : sortedFamilies()) {
+            out.append("# HELP ").append(family.name).append(' ')
+                    .append(family.help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ').append(family.type.text).append('\n');
+            family.samples((series, value) -> out.append(series).append(' ').append(format(value)).append('\n'));
+        }
+        return out.toString();
+    }
+    
+    @Override
+    public Map<String, Double> getSamples() {
+        Map<String, Double> samples = new TreeMap<>();
+        for (Family family : sortedFamilies()) {
+            family.samples(samples::put);
+        }
+        return samples;
+    }
+    
+    @Override
+    public String getPrometheusText() {
+        return scrape();
+    }
+    
+    /**
+     * Sets every registered metric back to zero, keeping the registrations.
+     */
+    @Override
+    public void reset() {
+        for (Family family : families.values()) {
+            family.reset();
+        }
+    }
+    
+    /**
+     * Registers this registry with the platform MBean server under {@link #OBJECT_NAME}.
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+            logger.info("Registered metrics MBean: {}", OBJECT_NAME);
+        } catch (InstanceAlreadyExistsException e) {
+            logger.debug("Metrics MBean already registered: {}", OBJECT_NAME);
+        } catch (JMException e) {
+            logger.warn("Failed to register metrics MBean: {}", OBJECT_NAME, e);
+        }
+    }
+    
+    private Family family(String name, String help, Type type) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        Family family = families.computeIfAbsent(name, key -> new Family(key, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type.text);
+        }
+        return family;
+    }
+    
+    private List<Family> sortedFamilies() {
+        List<Family> sorted = new ArrayList<>(families.values());
+        sorted.sort((a, b) -> a.name.compareTo(b.name));
+        return sorted;
+    }
+    
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+    
+    private static String labelText(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name and value pairs");
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (!NAME_PATTERN.matcher(labels[i]).matches()) {
+                throw new IllegalArgumentException("Invalid label name: " + labels[i]);
+            }
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(labels[i]).append("=\"").append(labels[i + 1].replace("\\", "\\\\")
+                    .replace("\"", "\\\"").replace("\n", "\\n")).append('"');
+        }
+        return text.toString();
+    }
+    
+    private static String series(String name, String labels, String extra) {
+        if (labels.isEmpty() && extra == null) {
+            return name;
+        }
+        StringBuilder series = new StringBuilder(name).append('{').append(labels);
+        if (extra != null) {
+            if (!labels.isEmpty()) {
+                series.append(',');
+            }
+            series.append(extra);
+        }
+        return series.append('}').toString();
+    }
+    
+    private enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+        
+        private final String text;
+        
+        Type(String text) {
+            this.text = text;
+        }
+    }
+    
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final ConcurrentMap<String, Object> series = new ConcurrentHashMap<>();
+        
+        private Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+        
+        @SuppressWarnings("unchecked")
+        private <T> T series(String[] labels, Supplier<T> factory) {
+            return (T) series.computeIfAbsent(labelText(labels), key -> factory.get());
+        }
+        
+        private void samples(BiConsumer<String, Double> sink) {
+            for (Map.Entry<String, Object> entry : new TreeMap<>(series).entrySet()) {
+                String labels = entry.getKey();
+                Object metric = entry.getValue();
+                if (metric instanceof Counter counter) {
+                    sink.accept(MetricsRegistry.series(name, labels, null), (double) counter.getCount());
+                } else if (metric instanceof Gauge gauge) {
+                    sink.accept(MetricsRegistry.series(name, labels, null), (double) gauge.getValue());
+                } else {
+                    Timer timer = (Timer) metric;
+                    for (double quantile : QUANTILES) {
+                        sink.accept(MetricsRegistry.series(name, labels, "quantile=\"" + quantile + "\""),
+                                timer.getNanosAtQuantile(quantile) / NANOS_PER_SECOND);
+                    }
+                    sink.accept(MetricsRegistry.series(name + "_sum", labels, null),
+                            timer.getTotalNanos() / NANOS_PER_SECOND);
+                    sink.accept(MetricsRegistry.series(name + "_count", labels, null), (double) timer.getCount());
+                }
+            }
+        }
+        
+        private void reset() {
+            for (Object metric : series.values()) {
+                if (metric instanceof Counter counter) {
+                    counter.reset();
+                } else if (metric instanceof Gauge gauge) {
+                    gauge.reset();
+                } else {
+                    ((Timer) metric).reset();
+                }
+            }
+        }
+    }
+}
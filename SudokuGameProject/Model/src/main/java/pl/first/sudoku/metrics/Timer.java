@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram in nanoseconds, exported in seconds.
+ * @author zhuma
+ */
+public class Timer {
+    private final Histogram histogram = new Histogram();
+    
+    Timer() {
+    }
+    
+    public void record(long duration, TimeUnit unit) {
+        histogram.record(unit.toNanos(duration));
+    }
+    
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     * @param startNanos value of {@code System.nanoTime()} taken when the call started
+     */
+    public void recordSince(long startNanos) {
+        histogram.record(System.nanoTime() - startNanos);
+    }
+    
+    public long getCount() {
+        return histogram.getCount();
+    }
+    
+    public long getTotalNanos() {
+        return histogram.getSum();
+    }
+    
+    public long getMaxNanos() {
+        return histogram.getMax();
+    }
+    
+    public long getNanosAtQuantile(double quantile) {
+        return histogram.getValueAtQuantile(quantile);
+    }
+    
+    void reset() {
+        histogram.reset();
+    }
+}
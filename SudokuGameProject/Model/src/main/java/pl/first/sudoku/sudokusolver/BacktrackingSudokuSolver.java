@@ -24,104 +24,298 @@
 
 package pl.first.sudoku.sudokusolver;
 
+import pl.first.sudoku.jfr.SolveEvent;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the SudokuSolver interface using a backtracking algorithm.
+ * Cells are filled in row-major order with candidates tried in random order. {@link #solve}
+ * works on row, column and box bitmasks and picks each next candidate as a random bit of the
+ * cell's candidate mask, so filling a grid allocates nothing per cell.
  * @author Zhmaggernaut
  */
 public class BacktrackingSudokuSolver implements SudokuSolver, Serializable {
     private static final long serialVersionUID = 6L;
     private static final int BOARD_SIZE = 9;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
     private static final int SUBSECTION_SIZE = 3;
     private static final int BOARD_START_INDEX = 0;
     private static final int NO_VALUE = 0;
-    private static final int MAX_VALUE = 9;
+    private static final int ALL_VALUES = (1 << BOARD_SIZE) - 1;
+    /**
+     * Placements between two budget checks and progress reports; a placement takes well under
+     * a microsecond, so a run overshoots its deadline by less than a millisecond.
+     */
+    private static final long CHECK_INTERVAL_MASK = 1023;
+    private static final Timer SOLVE_TIME = MetricsRegistry.global().timer(
+            "sudoku_solver_seconds", "Duration of solver calls", "solver", "backtracking");
+    private static final Counter UNSOLVED = MetricsRegistry.global().counter(
+            "sudoku_solver_unsolved_total", "Solver calls that found no solution", "solver", "backtracking");
+    private static final Counter TIMED_OUT = MetricsRegistry.global().counter(
+            "sudoku_solver_timeouts_total", "Solver calls stopped by their budget", "solver", "backtracking");
     
-    private Random random;
+    private transient RandomGenerator random;
+    private transient int[] cells;
+    private transient int[] rowMasks;
+    private transient int[] columnMasks;
+    private transient int[] boxMasks;
+    private transient long nodesVisited;
+    private transient long backtracks;
+    private transient SolveStats.Recorder recorder;
+    private transient SolveBudget budget;
+    private transient SolveProgressListener listener;
+    private transient long runStartNanos;
+    private transient boolean stopped;
     
     public BacktrackingSudokuSolver() {
-        random = new Random();
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * Creates a solver drawing candidate orders from the given generator.
+     * The solver is not thread-safe; give every worker its own solver and generator, for example
+     * one {@link SplittableRandom#split()} per worker. After deserialization a fresh unseeded
+     * generator is used.
+     * @param random generator for the candidate order
+     */
+    public BacktrackingSudokuSolver(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random generator cannot be null");
+        }
+        this.random = random;
     }
     
     @Override
     public boolean solve(SudokuBoard board) {
-        return backtrack(board, BOARD_START_INDEX, BOARD_START_INDEX);
+        return run(board, null, null, null).isSolved();
     }
     
-    private boolean backtrack(SudokuBoard board, int row, int col) {
-        if (row == BOARD_SIZE) {
-            return true;
-        }
-
-        int nextRow = (col == BOARD_SIZE - 1) ? row + 1 : row;
-        int nextCol = (col == BOARD_SIZE - 1) ? 0 : col + 1;
-
-        if (board.getValueAt(row, col) != NO_VALUE) {
-            return backtrack(board, nextRow, nextCol);
+    /**
+     * Solves the board unless the budget runs out first.
+     * The budget is checked every 1024 placements, when the listener is notified as well.
+     * The board is only written when a solution is found, and boards whose clues already
+     * conflict are reported unsolvable without searching.
+     */
+    @Override
+    public SolveResult solve(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
         }
-
-        int[] shuffledValues = getShuffledValues();
-
-        for (int value : shuffledValues) {
-            if (isValidPlacement(board, row, col, value)) {
-                board.setValueAt(row, col, value);
-
-                if (backtrack(board, nextRow, nextCol)) {
-                    return true;
-                }
-
-                board.setValueAt(row, col, NO_VALUE);
-            }
+        return run(board, null, budget, listener);
+    }
+    
+    /**
+     * Solves the board like {@link #solve} while recording search statistics.
+     * @param board board to solve in place
+     * @return statistics of the run, including whether the board was solved
+     */
+    public SolveStats solveWithStats(SudokuBoard board) {
+        return solveWithStats(board, SolveBudget.unlimited());
+    }
+    
+    /**
+     * Solves the board like {@link #solve(SudokuBoard, SolveBudget, SolveProgressListener)} while
+     * recording search statistics.
+     * The run is the same mask-based search as a plain solve and the recorder only adds counters,
+     * so the statistics describe the search {@link #solve} performs.
+     * @param board board to solve in place
+     * @param budget deadline and cancellation token of the run
+     * @return statistics of the run, including its result
+     */
+    public SolveStats solveWithStats(SudokuBoard board, SolveBudget budget) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
         }
-
-        return false;
+        SolveStats.Recorder recorder = new SolveStats.Recorder(CELL_COUNT);
+        long startNanos = System.nanoTime();
+        SolveResult result = run(board, recorder, budget, null);
+        return recorder.toStats(result, System.nanoTime() - startNanos);
     }
     
-    private int[] getShuffledValues() {
-        List<Integer> valuesList = new ArrayList<>(MAX_VALUE);
-        for (int i = 1; i <= MAX_VALUE; i++) {
-            valuesList.add(i);
+    private SolveResult run(SudokuBoard board, SolveStats.Recorder recorder, SolveBudget budget,
+            SolveProgressListener listener) {
+        long startNanos = System.nanoTime();
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        nodesVisited = 0;
+        backtracks = 0;
+        this.recorder = recorder;
+        this.budget = budget;
+        this.listener = listener;
+        runStartNanos = startNanos;
+        stopped = false;
+        int emptyBefore = event.isEnabled() ? countEmpty(board) : 0;
+        SolveResult result;
+        try {
+            if (!load(board)) {
+                result = SolveResult.UNSOLVABLE;
+            } else if (fill(BOARD_START_INDEX, 0)) {
+                board.setValues(cells);
+                result = SolveResult.SOLVED;
+            } else {
+                result = stopped ? SolveResult.TIMED_OUT : SolveResult.UNSOLVABLE;
+            }
+        } finally {
+            this.recorder = null;
+            this.budget = null;
+            this.listener = null;
         }
-
-        Collections.shuffle(valuesList, random);
-
-        int[] values = new int[MAX_VALUE];
-        for (int i = 0; i < MAX_VALUE; i++) {
-            values[i] = valuesList.get(i);
+        event.end();
+        SOLVE_TIME.recordSince(startNanos);
+        if (result == SolveResult.UNSOLVABLE) {
+            UNSOLVED.increment();
+        } else if (result == SolveResult.TIMED_OUT) {
+            TIMED_OUT.increment();
         }
-
-        return values;
+        if (event.shouldCommit()) {
+            event.setSolver(getClass().getSimpleName());
+            event.setSolved(result.isSolved());
+            event.setTimedOut(result == SolveResult.TIMED_OUT);
+            event.setCellsFilled(emptyBefore - countEmpty(board));
+            event.setNodesVisited(nodesVisited);
+            event.setBacktracks(backtracks);
+            event.commit();
+        }
+        return result;
     }
     
-    private boolean isValidPlacement(SudokuBoard board, int row, int col, int value) {
-        SudokuRow sudokuRow = board.getRow(row);
+    /**
+     * Copies the board into the cell and mask arrays.
+     * @return false if two clues conflict
+     */
+    private boolean load(SudokuBoard board) {
+        if (cells == null) {
+            cells = new int[CELL_COUNT];
+            rowMasks = new int[BOARD_SIZE];
+            columnMasks = new int[BOARD_SIZE];
+            boxMasks = new int[BOARD_SIZE];
+        }
         for (int i = 0; i < BOARD_SIZE; i++) {
-            if (sudokuRow.getField(i).getFieldValue() == value) {
+            rowMasks[i] = 0;
+            columnMasks[i] = 0;
+            boxMasks[i] = 0;
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / BOARD_SIZE;
+            int col = cell % BOARD_SIZE;
+            int value = board.getValueAt(row, col);
+            cells[cell] = value;
+            if (value == NO_VALUE) {
+                continue;
+            }
+            int bit = 1 << (value - 1);
+            int box = boxIndex(row, col);
+            if (((rowMasks[row] | columnMasks[col] | boxMasks[box]) & bit) != 0) {
                 return false;
             }
+            rowMasks[row] |= bit;
+            columnMasks[col] |= bit;
+            boxMasks[box] |= bit;
+        }
+        return true;
+    }
+    
+    /**
+     * Fills the empty cells from the given one on.
+     * @param start first cell to look at
+     * @param depth number of cells filled on the current search path
+     */
+    private boolean fill(int start, int depth) {
+        int cell = start;
+        while (cell < CELL_COUNT && cells[cell] != NO_VALUE) {
+            cell++;
+        }
+        if (cell == CELL_COUNT) {
+            return true;
+        }
+        if (budget != null && (nodesVisited & CHECK_INTERVAL_MASK) == 0 && isBudgetExhausted()) {
+            return false;
         }
         
-        SudokuColumn sudokuColumn = board.getColumn(col);
-        for (int i = 0; i < BOARD_SIZE; i++) {
-            if (sudokuColumn.getField(i).getFieldValue() == value) {
-                return false;
-            }
+        int row = cell / BOARD_SIZE;
+        int col = cell % BOARD_SIZE;
+        int box = boxIndex(row, col);
+        int candidates = ALL_VALUES & ~(rowMasks[row] | columnMasks[col] | boxMasks[box]);
+        if (recorder != null) {
+            recorder.visit(depth, BOARD_SIZE - Integer.bitCount(candidates));
         }
+        while (candidates != 0) {
+            int bit = randomBit(candidates);
+            candidates ^= bit;
+            cells[cell] = Integer.numberOfTrailingZeros(bit) + 1;
+            rowMasks[row] |= bit;
+            columnMasks[col] |= bit;
+            boxMasks[box] |= bit;
+            nodesVisited++;
+            if (recorder != null) {
+                recorder.place(depth);
+            }
         
-        int boxRow = row / SUBSECTION_SIZE;
-        int boxCol = col / SUBSECTION_SIZE;
-        SudokuBox sudokuBox = board.getBox(boxCol, boxRow);
-        for (int i = 0; i < BOARD_SIZE; i++) {
-            if (sudokuBox.getField(i).getFieldValue() == value) {
+            if (fill(cell + 1, depth + 1)) {
+                return true;
+            }
+        
+            cells[cell] = NO_VALUE;
+            rowMasks[row] ^= bit;
+            columnMasks[col] ^= bit;
+            boxMasks[box] ^= bit;
+            if (stopped) {
                 return false;
             }
+            backtracks++;
+            if (recorder != null) {
+                recorder.backtrack();
+            }
         }
-        
-        return true;
+        return false;
+    }
+    
+            /**
+     * Picks one set bit of the mask uniformly at random.
+     * Picking and clearing bits until the mask is empty visits them in uniformly random order,
+     * like shuffling the candidates, with one random number per candidate tried.
+     */
+    private int randomBit(int mask) {
+        int remaining = mask;
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return Integer.lowestOneBit(remaining);
+    }
+    
+    private boolean isBudgetExhausted() {
+        if (listener != null) {
+            listener.onProgress(nodesVisited, System.nanoTime() - runStartNanos);
+        }
+        stopped = budget.isExhausted();
+        return stopped;
+    }
+    
+    private static int boxIndex(int row, int col) {
+        return row / SUBSECTION_SIZE * SUBSECTION_SIZE + col / SUBSECTION_SIZE;
+    }
+    
+    private static int countEmpty(SudokuBoard board) {
+        int empty = 0;
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                if (board.getValueAt(row, col) == NO_VALUE) {
+                    empty++;
+                }
+            }
+        }
+        return empty;
+    }
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        random = new SplittableRandom();
     }
 }
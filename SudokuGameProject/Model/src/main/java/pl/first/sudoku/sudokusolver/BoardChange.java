@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Immutable set of cells changed by one board update, with their old and new values.
+ * Cells are listed once each, in row-major order.
+ * @author zhuma
+ */
+public final class BoardChange {
+    private static final int BOARD_SIZE = 9;
+    
+    private final SudokuBoard board;
+    private final int[] cells;
+    private final int[] oldValues;
+    private final int[] newValues;
+    
+    BoardChange(SudokuBoard board, int[] cells, int[] oldValues, int[] newValues) {
+        this.board = board;
+        this.cells = cells;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+    }
+    
+    public SudokuBoard getBoard() {
+        return board;
+    }
+    
+    public int size() {
+        return cells.length;
+    }
+    
+    /**
+     * Returns the row-major index of a changed cell.
+     * @param index position in this change, from 0 to {@link #size()} - 1
+     * @return cell index from 0 to 80
+     */
+    public int getCell(int index) {
+        return cells[index];
+    }
+    
+    public int getRow(int index) {
+        return cells[index] / BOARD_SIZE;
+    }
+    
+    public int getColumn(int index) {
+        return cells[index] % BOARD_SIZE;
+    }
+    
+    public int getOldValue(int index) {
+        return oldValues[index];
+    }
+    
+    public int getNewValue(int index) {
+        return newValues[index];
+    }
+    
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("cells", cells)
+                .append("oldValues", oldValues)
+                .append("newValues", newValues)
+                .toString();
+    }
+}
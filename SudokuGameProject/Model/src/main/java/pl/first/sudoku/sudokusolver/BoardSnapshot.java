@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+/**
+ * Detached copy of the values of a {@link SudokuBoard}, for solving away from the thread that
+ * owns the board. The snapshot is taken on the owning thread, {@link #solve} may run on any
+ * thread since it only touches a private scratch board, and {@link #applyTo} writes the solved
+ * cells back on the owning thread as one board update.
+ * @author zhuma
+ */
+public final class BoardSnapshot {
+    private static final int BOARD_SIZE = 9;
+    
+    private final int[] values;
+    private int[] solution;
+    
+    private BoardSnapshot(int[] values) {
+        this.values = values;
+    }
+    
+    /**
+     * Copies the current values of a board.
+     * @param board board to copy, read on the calling thread
+     * @return new snapshot
+     */
+    public static BoardSnapshot of(SudokuBoard board) {
+        return new BoardSnapshot(board.getValues());
+    }
+    
+    public int[] getValues() {
+        return values.clone();
+    }
+    
+    /**
+     * Solves the copied values on a scratch board that has no listeners.
+     * @param solver solver to use; it must not be used by another thread at the same time
+     * @param budget deadline and cancellation token of the run
+     * @return result of the solver; on success the solution is kept for {@link #applyTo}
+     */
+    public SolveResult solve(SudokuSolver solver, SolveBudget budget) {
+        SudokuBoard scratch = new SudokuBoard(solver);
+        scratch.setValues(values);
+        SolveResult result = solver.solve(scratch, budget);
+        synchronized (this) {
+            solution = result.isSolved() ? scratch.getValues() : null;
+        }
+        return result;
+    }
+    
+    public synchronized boolean isSolved() {
+        return solution != null;
+    }
+    
+    /**
+     * Writes the cells changed by the solver into the board in one update.
+     * Nothing is written if the snapshot is unsolved or the board no longer holds the values
+     * the snapshot was taken from.
+     * @param board live board, written on the calling thread
+     * @return true if the solution was applied
+     */
+    public boolean applyTo(SudokuBoard board) {
+        int[] solved;
+        synchronized (this) {
+            solved = solution;
+        }
+        if (solved == null) {
+            return false;
+        }
+        int[] current = board.getValues();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != values[i]) {
+                return false;
+            }
+        }
+        board.beginUpdate();
+        try {
+            for (int i = 0; i < solved.length; i++) {
+                if (solved[i] != values[i]) {
+                    board.setValueAt(i / BOARD_SIZE, i % BOARD_SIZE, solved[i]);
+                }
+            }
+        } finally {
+            board.commitUpdate();
+        }
+        return true;
+    }
+}
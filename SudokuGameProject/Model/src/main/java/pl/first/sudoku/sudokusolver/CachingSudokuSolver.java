@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Solver decorator that remembers solutions by canonical puzzle.
+ * A board is canonicalized before solving; if an equivalent puzzle was solved before, the
+ * cached canonical solution is mapped back through the inverse transform and the wrapped
+ * solver is not called. The cache is a bounded LRU map and is not serialized.
+ * 
+ * <p>{@link #shared} decorators all use one process-wide cache, so the show-solution and
+ * solvability paths reuse each other's solutions. The cache is thread-safe, but the wrapped
+ * solver is not shared: every thread wraps its own solver.
+ * @author zhuma
+ */
+public class CachingSudokuSolver implements SudokuSolver {
+    private static final long serialVersionUID = 203L;
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * Fewer clues never determine a unique solution, so such boards (including the empty board
+     * used for generation) always go to the wrapped solver and keep its randomness.
+     */
+    private static final int MIN_CACHED_CLUES = 17;
+    private static final Counter CACHE_HITS = MetricsRegistry.global().counter(
+            "sudoku_solver_cache_requests_total", "Solution cache lookups", "result", "hit");
+    private static final Counter CACHE_MISSES = MetricsRegistry.global().counter(
+            "sudoku_solver_cache_requests_total", "Solution cache lookups", "result", "miss");
+    
+    private static final SolutionCache SHARED_CACHE = new SolutionCache(DEFAULT_CAPACITY);
+    
+    private final SudokuSolver solver;
+    private final int capacity;
+    private final boolean shared;
+    private transient SolutionCache cache;
+    
+    public CachingSudokuSolver(SudokuSolver solver) {
+        this(solver, DEFAULT_CAPACITY);
+    }
+    
+    public CachingSudokuSolver(SudokuSolver solver, int capacity) {
+        this(solver, capacity, false);
+    }
+    
+    private CachingSudokuSolver(SudokuSolver solver, int capacity, boolean shared) {
+        if (solver == null) {
+            throw new IllegalArgumentException("Wrapped solver cannot be null");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.solver = solver;
+        this.capacity = capacity;
+        this.shared = shared;
+        this.cache = shared ? SHARED_CACHE : new SolutionCache(capacity);
+    }
+    
+    /**
+     * Creates a decorator over the given solver backed by the process-wide solution cache.
+     * @param solver solver for cache misses, used by the calling thread only
+     * @return decorator sharing its cache with all other shared decorators
+     */
+    public static CachingSudokuSolver shared(SudokuSolver solver) {
+        return new CachingSudokuSolver(solver, DEFAULT_CAPACITY, true);
+    }
+    
+    @Override
+    public boolean solve(SudokuBoard board) {
+        return solve(board, SolveBudget.unlimited(), null).isSolved();
+    }
+    
+    /**
+     * Solves the board from the cache or with the wrapped solver under the given budget.
+     * Only solutions are cached; timeouts and unsolvable boards always reach the wrapped solver.
+     */
+    @Override
+    public SolveResult solve(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
+        }
+        int[] cells = board.getValues();
+        if (countClues(cells) < MIN_CACHED_CLUES) {
+            return solver.solve(board, budget, listener);
+        }
+        
+        CanonicalForm form = SudokuCanonicalizer.of(cells);
+        int[] solution = cache.get(form.getKey());
+        if (solution != null) {
+            CACHE_HITS.increment();
+            board.setValues(form.toOriginal(solution));
+            return SolveResult.SOLVED;
+        }
+        CACHE_MISSES.increment();
+        
+        SolveResult result = solver.solve(board, budget, listener);
+        if (!result.isSolved()) {
+            return result;
+        }
+        cache.put(form.getKey(), form.getTransform().apply(board.getValues()));
+        return result;
+    }
+    
+    public SudokuSolver getSolver() {
+        return solver;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public boolean isShared() {
+        return shared;
+    }
+    
+    public int size() {
+        return cache.size();
+    }
+    
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+    
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+    
+    public void clear() {
+        cache.clear();
+    }
+    
+    private static int countClues(int[] cells) {
+        int clues = 0;
+        for (int value : cells) {
+            if (value != 0) {
+                clues++;
+            }
+        }
+        return clues;
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        cache = shared ? SHARED_CACHE : new SolutionCache(capacity);
+    }
+    
+    /**
+     * Bounded LRU map from canonical key to canonical solution with its lookup counts.
+     */
+    private static final class SolutionCache {
+        private final Map<String, int[]> solutions;
+        private long hits;
+        private long misses;
+        
+        private SolutionCache(int capacity) {
+            this.solutions = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        
+        private synchronized int[] get(String key) {
+            int[] solution = solutions.get(key);
+            if (solution != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+            return solution;
+        }
+        
+        private synchronized void put(String key, int[] solution) {
+            solutions.put(key, solution);
+        }
+        
+        private synchronized int size() {
+            return solutions.size();
+        }
+        
+        private synchronized long getHitCount() {
+            return hits;
+        }
+        
+        private synchronized long getMissCount() {
+            return misses;
+        }
+        
+        private synchronized void clear() {
+            solutions.clear();
+        }
+    }
+}
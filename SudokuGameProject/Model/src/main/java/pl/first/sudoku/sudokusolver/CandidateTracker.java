@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the pencil-mark candidates of every empty cell of a board.
+ * A candidate mask has bit {@code d - 1} set when digit {@code d} occurs in none of the cell's
+ * units; filled cells have no candidates. The tracker follows the board's {@link BoardChange}s:
+ * placing a digit clears its bit from the 20 peers, and removing it restores the bit in peers
+ * that see no other copy of the digit. Call {@link #dispose()} before dropping the tracker.
+ * @author zhuma
+ */
+public final class CandidateTracker implements BoardChangeListener {
+    /** Mask with all nine digits. */
+    public static final int ALL_CANDIDATES = (1 << 9) - 1;
+    private static final GridLayout LAYOUT = UnitCounts.LAYOUT;
+    private static final int SIZE = LAYOUT.size;
+    private static final int CELL_COUNT = LAYOUT.cellCount;
+    
+    private final SudokuBoard board;
+    private final int[] values = new int[CELL_COUNT];
+    private final UnitCounts counts = new UnitCounts();
+    private final int[] masks = new int[CELL_COUNT];
+    private final int[] masksBefore = new int[CELL_COUNT];
+    private final boolean[] touched = new boolean[CELL_COUNT];
+    private final int[] touchedCells = new int[CELL_COUNT];
+    private final CopyOnWriteArrayList<CandidateListener> listeners = new CopyOnWriteArrayList<>();
+    private int touchedCount;
+    
+    /**
+     * Creates a tracker with the current candidates of the board and starts following it.
+     * @param board board to track
+     */
+    public CandidateTracker(SudokuBoard board) {
+        this.board = board;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            values[cell] = board.getValueAt(LAYOUT.row(cell), LAYOUT.column(cell));
+            counts.add(cell, values[cell], 1);
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            masks[cell] = computeMask(cell);
+        }
+        board.addBoardChangeListener(this);
+    }
+    
+    public SudokuBoard getBoard() {
+        return board;
+    }
+    
+    /**
+     * Returns the candidate mask of a cell, bit {@code d - 1} standing for digit {@code d}.
+     */
+    public int getCandidates(int row, int col) {
+        return masks[row * SIZE + col];
+    }
+    
+    public int getCandidates(int cell) {
+        return masks[cell];
+    }
+    
+    public boolean isCandidate(int row, int col, int digit) {
+        return (masks[row * SIZE + col] & (1 << (digit - 1))) != 0;
+    }
+    
+    public void addCandidateListener(CandidateListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeCandidateListener(CandidateListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Stops following the board.
+     */
+    public void dispose() {
+        board.removeBoardChangeListener(this);
+    }
+    
+    @Override
+    public void onBoardChanged(BoardChange change) {
+        if (change.getBoard() != board) {
+            return;
+        }
+        for (int i = 0; i < change.size(); i++) {
+            move(change.getCell(i), change.getNewValue(i));
+        }
+        
+        int[] changed = new int[touchedCount];
+        int changedCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touchedCells[i];
+            touched[cell] = false;
+            if (masks[cell] != masksBefore[cell]) {
+                changed[changedCount++] = cell;
+            }
+        }
+        touchedCount = 0;
+        
+        if (changedCount > 0) {
+            int[] cells = Arrays.copyOf(changed, changedCount);
+            Arrays.sort(cells);
+            for (CandidateListener listener : listeners) {
+                listener.onCandidatesChanged(this, cells);
+            }
+        }
+    }
+    
+    private void move(int cell, int value) {
+        int oldValue = values[cell];
+        if (oldValue == value) {
+            return;
+        }
+        counts.add(cell, oldValue, -1);
+        counts.add(cell, value, 1);
+        values[cell] = value;
+        touch(cell);
+        masks[cell] = value == 0 ? computeMask(cell) : 0;
+        
+        int placedBit = value == 0 ? 0 : 1 << (value - 1);
+        for (int peer : LAYOUT.peers[cell]) {
+            if (values[peer] != 0) {
+                continue;
+            }
+            int mask = masks[peer] & ~placedBit;
+            if (oldValue != 0 && !counts.isUsed(peer, oldValue)) {
+                mask |= 1 << (oldValue - 1);
+            }
+            if (mask != masks[peer]) {
+                touch(peer);
+                masks[peer] = mask;
+            }
+        }
+    }
+    
+    private void touch(int cell) {
+        if (!touched[cell]) {
+            touched[cell] = true;
+            masksBefore[cell] = masks[cell];
+            touchedCells[touchedCount++] = cell;
+        }
+    }
+    
+    private int computeMask(int cell) {
+        if (values[cell] != 0) {
+            return 0;
+        }
+        int mask = 0;
+        for (int digit = 1; digit <= SIZE; digit++) {
+            if (!counts.isUsed(cell, digit)) {
+                mask |= 1 << (digit - 1);
+            }
+        }
+        return mask;
+    }
+}
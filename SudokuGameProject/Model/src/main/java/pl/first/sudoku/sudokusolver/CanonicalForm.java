@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Canonical form of a Sudoku grid together with the transform that produced it.
+ * Equal canonical forms identify equivalent grids; {@link #getKey()} is suitable as a map
+ * or storage key.
+ * @author zhuma
+ */
+public final class CanonicalForm implements Serializable {
+    private static final long serialVersionUID = 202L;
+    
+    private final int[] cells;
+    private final SudokuTransform transform;
+    private final String key;
+    
+    public CanonicalForm(int[] cells, SudokuTransform transform) {
+        if (cells == null || cells.length != 81) {
+            throw new IllegalArgumentException("Cell arrays must contain exactly 81 elements");
+        }
+        this.cells = cells.clone();
+        this.transform = transform;
+        StringBuilder builder = new StringBuilder(cells.length);
+        for (int value : cells) {
+            builder.append((char) ('0' + value));
+        }
+        this.key = builder.toString();
+    }
+    
+    public int[] getCells() {
+        return cells.clone();
+    }
+    
+    /**
+     * Returns the transform mapping the original grid to the canonical cells.
+     * @return transform to canonical form
+     */
+    public SudokuTransform getTransform() {
+        return transform;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    /**
+     * Maps cells given in canonical coordinates back to the original grid.
+     * @param canonicalCells row-major array of 81 values in canonical coordinates
+     * @return cells in the coordinates of the original grid
+     */
+    public int[] toOriginal(int[] canonicalCells) {
+        return transform.inverse().apply(canonicalCells);
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CanonicalForm)) {
+            return false;
+        }
+        return Arrays.equals(cells, ((CanonicalForm) obj).cells);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+    
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of which cells of a board repeat a digit in their row, column or box.
+ * The tracker counts every digit per unit and follows the board's {@link BoardChange}s, so one
+ * edit touches only the cell and its 20 peers instead of verifying all 27 units again. Only the
+ * cells whose conflict state actually changed are reported to the {@link ConflictListener}s.
+ * Call {@link #dispose()} before dropping the tracker so the board does not keep it alive.
+ * @author zhuma
+ */
+public final class ConflictTracker implements BoardChangeListener {
+    private static final GridLayout LAYOUT = UnitCounts.LAYOUT;
+    private static final int SIZE = LAYOUT.size;
+    private static final int CELL_COUNT = LAYOUT.cellCount;
+    
+    private final SudokuBoard board;
+    private final int[] values = new int[CELL_COUNT];
+    private final UnitCounts counts = new UnitCounts();
+    private final boolean[] conflicts = new boolean[CELL_COUNT];
+    private final boolean[] touched = new boolean[CELL_COUNT];
+    private final int[] touchedCells = new int[CELL_COUNT];
+    private final CopyOnWriteArrayList<ConflictListener> listeners = new CopyOnWriteArrayList<>();
+    private int touchedCount;
+    private int conflictCount;
+    
+    /**
+     * Creates a tracker with the current conflicts of the board and starts following it.
+     * @param board board to track
+     */
+    public ConflictTracker(SudokuBoard board) {
+        this.board = board;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            values[cell] = board.getValueAt(LAYOUT.row(cell), LAYOUT.column(cell));
+            counts.add(cell, values[cell], 1);
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            conflicts[cell] = counts.isRepeated(cell, values[cell]);
+            if (conflicts[cell]) {
+                conflictCount++;
+            }
+        }
+        board.addBoardChangeListener(this);
+    }
+    
+    public SudokuBoard getBoard() {
+        return board;
+    }
+    
+    public boolean isConflict(int row, int col) {
+        return conflicts[row * SIZE + col];
+    }
+    
+    public boolean isConflict(int cell) {
+        return conflicts[cell];
+    }
+    
+    /**
+     * Returns the number of cells whose digit is repeated in one of their units.
+     */
+    public int getConflictCount() {
+        return conflictCount;
+    }
+    
+    public void addConflictListener(ConflictListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeConflictListener(ConflictListener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Stops following the board.
+     */
+    public void dispose() {
+        board.removeBoardChangeListener(this);
+    }
+    
+    @Override
+    public void onBoardChanged(BoardChange change) {
+        if (change.getBoard() != board) {
+            return;
+        }
+        for (int i = 0; i < change.size(); i++) {
+            move(change.getCell(i), change.getNewValue(i));
+        }
+        
+        int[] changed = new int[touchedCount];
+        int changedCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touchedCells[i];
+            touched[cell] = false;
+            boolean conflict = counts.isRepeated(cell, values[cell]);
+            if (conflict != conflicts[cell]) {
+                conflicts[cell] = conflict;
+                conflictCount += conflict ? 1 : -1;
+                changed[changedCount++] = cell;
+            }
+        }
+        touchedCount = 0;
+        
+        if (changedCount > 0) {
+            int[] cells = Arrays.copyOf(changed, changedCount);
+            Arrays.sort(cells);
+            for (ConflictListener listener : listeners) {
+                listener.onConflictsChanged(this, cells);
+            }
+        }
+    }
+    
+    /**
+     * Replaces the digit of a cell in the counts and marks every cell whose state may follow.
+     */
+    private void move(int cell, int value) {
+        int oldValue = values[cell];
+        if (oldValue == value) {
+            return;
+        }
+        counts.add(cell, oldValue, -1);
+        counts.add(cell, value, 1);
+        values[cell] = value;
+        touch(cell);
+        for (int peer : LAYOUT.peers[cell]) {
+            int peerValue = values[peer];
+            if (peerValue != 0 && (peerValue == oldValue || peerValue == value)) {
+                touch(peer);
+            }
+        }
+    }
+    
+    private void touch(int cell) {
+        if (!touched[cell]) {
+            touched[cell] = true;
+            touchedCells[touchedCount++] = cell;
+        }
+    }
+}
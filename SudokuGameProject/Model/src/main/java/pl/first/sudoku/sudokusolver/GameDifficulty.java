@@ -24,32 +24,92 @@
 
 package pl.first.sudoku.sudokusolver;
 
+import pl.first.sudoku.jfr.PrepareBoardEvent;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Enum representing difficulty levels for a Sudoku game.
- * Each difficulty level determines how many cells are removed from a solved board.
+ * Each difficulty level determines how many cells are removed from a solved board and the
+ * band of {@link PuzzleGrader} grades a graded puzzle has to fall into.
  * @author zhuma
  */
 public enum GameDifficulty {
-    EASY(20),
-    MEDIUM(40),
-    HARD(60);
+    EASY(20, SolvingTechnique.NAKED_SINGLE, SolvingTechnique.NAKED_SINGLE, true),
+    MEDIUM(40, SolvingTechnique.NAKED_SINGLE, SolvingTechnique.HIDDEN_PAIR, true),
+    HARD(60, SolvingTechnique.HIDDEN_SINGLE, SolvingTechnique.GUESS, false);
+    
+    private static final int CELL_COUNT = 81;
+    private static final int MAX_GRADING_ATTEMPTS = 64;
     
     private final int cellsToRemove;
+    private final SolvingTechnique minTechnique;
+    private final SolvingTechnique maxTechnique;
+    private final boolean uniqueRequired;
+    private final Timer generationTime;
+    private final Counter rejectedCandidates;
     
-    GameDifficulty(int cellsToRemove) {
+    GameDifficulty(int cellsToRemove, SolvingTechnique minTechnique, SolvingTechnique maxTechnique,
+            boolean uniqueRequired) {
         this.cellsToRemove = cellsToRemove;
+        this.minTechnique = minTechnique;
+        this.maxTechnique = maxTechnique;
+        this.uniqueRequired = uniqueRequired;
+        this.generationTime = MetricsRegistry.global().timer("sudoku_generation_seconds",
+                "Duration of preparing a puzzle from a solved board", "difficulty", name().toLowerCase());
+        this.rejectedCandidates = MetricsRegistry.global().counter("sudoku_generation_rejected_total",
+                "Graded puzzle candidates outside the difficulty band", "difficulty", name().toLowerCase());
     }
     
     public int getCellsToRemove() {
         return cellsToRemove;
     }
     
+    public SolvingTechnique getMinTechnique() {
+        return minTechnique;
+    }
+    
+    public SolvingTechnique getMaxTechnique() {
+        return maxTechnique;
+    }
+    
+    public boolean isUniqueRequired() {
+        return uniqueRequired;
+    }
+    
+    /**
+     * Checks whether a grade falls into the band of this difficulty level.
+     * @param grade grade of a puzzle
+     * @return true if the puzzle is solvable, unique when required, and its hardest
+     *     technique lies between the minimum and maximum technique
+     */
+    public boolean accepts(PuzzleGrade grade) {
+        return distanceFromBand(grade) == 0;
+    }
+    
     public SudokuBoard prepareBoard(SudokuBoard sourceBoard) {
+        return prepareBoard(sourceBoard, new SplittableRandom());
+    }
+    
+    /**
+     * Removes random cells from a copy of the source board.
+     * @param sourceBoard solved board
+     * @param random generator choosing the cells; equal generator states give equal boards
+     * @return new puzzle board
+     */
+    public SudokuBoard prepareBoard(SudokuBoard sourceBoard, RandomGenerator random) {
+        long startNanos = System.nanoTime();
+        PrepareBoardEvent event = new PrepareBoardEvent();
+        event.begin();
         SudokuBoard gameBoard = sourceBoard.clone();
         int removed = 0;
         
-        java.util.Random random = new java.util.Random();
-        
         while (removed < cellsToRemove) {
             int row = random.nextInt(9);
             int col = random.nextInt(9);
@@ -60,15 +120,21 @@ public enum GameDifficulty {
             }
         }
         
+        finish(event, removed, startNanos);
         return gameBoard;
     }
     
     public EditableSudokuBoardDecorator prepareDecoratedBoard(SudokuBoard sourceBoard) {
+        return prepareDecoratedBoard(sourceBoard, new SplittableRandom());
+    }
+    
+    public EditableSudokuBoardDecorator prepareDecoratedBoard(SudokuBoard sourceBoard, RandomGenerator random) {
+        long startNanos = System.nanoTime();
+        PrepareBoardEvent event = new PrepareBoardEvent();
+        event.begin();
         SudokuBoard gameBoard = sourceBoard.clone();
         int removed = 0;
 
-        java.util.Random random = new java.util.Random();
-
         while (removed < cellsToRemove) {
             int row = random.nextInt(9);
             int col = random.nextInt(9);
@@ -81,6 +147,109 @@ public enum GameDifficulty {
 
         EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(gameBoard);
         decorator.lockNonEmptyFields();
+        finish(event, removed, startNanos);
         return decorator;
     }
+    
+    public SudokuBoard prepareGradedBoard(SudokuBoard sourceBoard) {
+        return prepareGradedBoard(sourceBoard, new SplittableRandom());
+    }
+    
+    /**
+     * Prepares a puzzle whose grade lies in the band of this difficulty level.
+     * Random hole patterns are graded until one is accepted; after {@value #MAX_GRADING_ATTEMPTS}
+     * rejected candidates the one closest to the band is returned.
+     * @param sourceBoard solved board to dig holes in
+     * @param random generator choosing the holes; equal generator states give equal puzzles
+     * @return new puzzle board with {@link #getCellsToRemove()} empty cells
+     */
+    public SudokuBoard prepareGradedBoard(SudokuBoard sourceBoard, RandomGenerator random) {
+        long startNanos = System.nanoTime();
+        PrepareBoardEvent event = new PrepareBoardEvent();
+        event.begin();
+        int[] solution = sourceBoard.getValues();
+        int[] candidate = new int[CELL_COUNT];
+        int[] best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        
+        for (int attempt = 0; attempt < MAX_GRADING_ATTEMPTS && bestDistance > 0; attempt++) {
+            System.arraycopy(solution, 0, candidate, 0, CELL_COUNT);
+            removeCells(candidate, random);
+            int distance = distanceFromBand(PuzzleGrader.grade(candidate));
+            if (distance > 0) {
+                rejectedCandidates.increment();
+            }
+            if (distance < bestDistance) {
+                best = candidate.clone();
+                bestDistance = distance;
+            }
+        }
+        
+        SudokuBoard gameBoard = sourceBoard.clone();
+        gameBoard.setValues(best);
+        finish(event, cellsToRemove, startNanos);
+        return gameBoard;
+    }
+    
+    /**
+     * Prepares one graded puzzle and multiplies it by symmetry transforms into equally hard puzzles.
+     * @param sourceBoard solved board to dig holes in
+     * @param count number of puzzles to return
+     * @return list of distinct puzzles, the first one dug from the source board
+     */
+    public List<SudokuBoard> prepareBoards(SudokuBoard sourceBoard, int count) {
+        return prepareBoards(sourceBoard, count, new SplittableRandom());
+    }
+    
+    /**
+     * Prepares one graded puzzle and multiplies it, taking every random choice from the generator.
+     * @param sourceBoard solved board to dig holes in
+     * @param count number of puzzles to return
+     * @param random generator for holes and transforms; equal generator states give equal lists
+     * @return list of distinct puzzles, the first one dug from the source board
+     */
+    public List<SudokuBoard> prepareBoards(SudokuBoard sourceBoard, int count, RandomGenerator random) {
+        if (count < 1) {
+            throw new IllegalArgumentException("At least one board must be requested");
+        }
+        SudokuBoard puzzle = prepareGradedBoard(sourceBoard, random);
+        List<SudokuBoard> boards = new ArrayList<>(count);
+        boards.add(puzzle);
+        boards.addAll(new PuzzleMultiplier(random).multiply(puzzle, count - 1));
+        return boards;
+    }
+    
+    private void removeCells(int[] cells, RandomGenerator random) {
+        int removed = 0;
+        while (removed < cellsToRemove) {
+            int index = random.nextInt(CELL_COUNT);
+            if (cells[index] != 0) {
+                cells[index] = 0;
+                removed++;
+            }
+        }
+    }
+    
+    private int distanceFromBand(PuzzleGrade grade) {
+        if (!grade.isSolvable()) {
+            return Integer.MAX_VALUE - 1;
+        }
+        SolvingTechnique hardest = grade.getHardestTechnique();
+        int distance = Math.max(0, minTechnique.ordinal() - hardest.ordinal())
+                + Math.max(0, hardest.ordinal() - maxTechnique.ordinal());
+        if (uniqueRequired && !grade.isUnique()) {
+            distance += SolvingTechnique.values().length;
+        }
+        return distance;
+    }
+    
+    private void finish(PrepareBoardEvent event, int removed, long startNanos) {
+        event.end();
+        generationTime.recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.setDifficulty(name());
+            event.setCellsRemoved(removed);
+            event.commit();
+        }
+    }
 }
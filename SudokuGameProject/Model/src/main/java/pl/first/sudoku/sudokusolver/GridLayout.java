@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+/**
+ * Geometry of an N x N grid with square boxes: units and peers of every cell.
+ * Layouts are immutable and shared per box size.
+ * @author zhuma
+ */
+final class GridLayout {
+    static final int MIN_BOX_SIZE = 2;
+    static final int MAX_BOX_SIZE = 8;
+    private static final GridLayout[] LAYOUTS = new GridLayout[MAX_BOX_SIZE + 1];
+    
+    final int boxSize;
+    final int size;
+    final int cellCount;
+    /** Mask with one bit per digit; bit {@code d - 1} stands for digit {@code d}. */
+    final long allDigits;
+    /** Rows, then columns, then boxes; each unit lists its cells. */
+    final int[][] units;
+    /** Every other cell sharing a row, column or box with a cell. */
+    final int[][] peers;
+    
+    private GridLayout(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cellCount = size * size;
+        this.allDigits = size == Long.SIZE ? -1L : (1L << size) - 1;
+        this.units = new int[3 * size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                units[i][j] = i * size + j;
+                units[size + i][j] = j * size + i;
+                int row = i / boxSize * boxSize + j / boxSize;
+                int col = i % boxSize * boxSize + j % boxSize;
+                units[2 * size + i][j] = row * size + col;
+            }
+        }
+        this.peers = new int[cellCount][];
+        int peerCount = 3 * size - 2 * boxSize - 1;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int[] cellPeers = new int[peerCount];
+            int found = 0;
+            for (int other = 0; other < cellCount; other++) {
+                if (other != cell && (row(other) == row(cell) || column(other) == column(cell)
+                        || box(other) == box(cell))) {
+                    cellPeers[found++] = other;
+                }
+            }
+            peers[cell] = cellPeers;
+        }
+    }
+    
+    static synchronized GridLayout of(int boxSize) {
+        if (boxSize < MIN_BOX_SIZE || boxSize > MAX_BOX_SIZE) {
+            throw new IllegalArgumentException("Box size must be between " + MIN_BOX_SIZE + " and " + MAX_BOX_SIZE);
+        }
+        if (LAYOUTS[boxSize] == null) {
+            LAYOUTS[boxSize] = new GridLayout(boxSize);
+        }
+        return LAYOUTS[boxSize];
+    }
+    
+    int row(int cell) {
+        return cell / size;
+    }
+    
+    int column(int cell) {
+        return cell % size;
+    }
+    
+    int box(int cell) {
+        return row(cell) / boxSize * boxSize + column(cell) / boxSize;
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import pl.first.sudoku.jfr.SolveEvent;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Solver for {@link SudokuGrid}s of any size, built on {@code long} candidate masks.
+ * Every placement is propagated: placed digits are removed from all peers, and cells left with
+ * one candidate (naked singles) or digits left with one place in a unit (hidden singles) are
+ * placed in turn. Only when propagation stalls does the solver branch, on the cell with the
+ * fewest candidates, trying its candidates in random order. A search that runs long restarts
+ * with fresh random choices and a doubled branch limit, which cuts off the heavy tail of unlucky
+ * early guesses on 16x16 and 25x25 grids without giving up completeness. 9x9 {@link SudokuBoard}s
+ * are solved through the same engine, and the board is only written when a solution is found.
+ * @author zhuma
+ */
+public class GridSolver implements SudokuSolver {
+    private static final long serialVersionUID = 205L;
+    private static final int CLASSIC_BOX_SIZE = 3;
+    /** Branches between two budget checks and progress reports. */
+    private static final long CHECK_INTERVAL_MASK = 255;
+    /** Branches allowed before the first restart; the limit doubles with every restart. */
+    private static final long FIRST_RESTART_LIMIT = 1024;
+    private static final Timer SOLVE_TIME = MetricsRegistry.global().timer(
+            "sudoku_solver_seconds", "Duration of solver calls", "solver", "grid");
+    private static final Counter UNSOLVED = MetricsRegistry.global().counter(
+            "sudoku_solver_unsolved_total", "Solver calls that found no solution", "solver", "grid");
+    private static final Counter TIMED_OUT = MetricsRegistry.global().counter(
+            "sudoku_solver_timeouts_total", "Solver calls stopped by their budget", "solver", "grid");
+    
+    private transient RandomGenerator random;
+    private transient GridLayout layout;
+    private transient long[] candidates;
+    private transient int[] values;
+    private transient int[] queue;
+    private transient int queueHead;
+    private transient int queueTail;
+    private transient long[][] savedCandidates;
+    private transient int[][] savedValues;
+    private transient SolveBudget budget;
+    private transient SolveProgressListener listener;
+    private transient long runStartNanos;
+    private transient boolean stopped;
+    private transient boolean restarting;
+    private transient long restartLimit;
+    private transient long nodesVisited;
+    private transient long backtracks;
+    
+    public GridSolver() {
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * Creates a solver drawing branching orders from the given generator.
+     * @param random generator for the candidate order; instances are not thread-safe
+     */
+    public GridSolver(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random generator cannot be null");
+        }
+        this.random = random;
+    }
+    
+    @Override
+    public boolean solve(SudokuBoard board) {
+        return solve(board, SolveBudget.unlimited(), null).isSolved();
+    }
+    
+    @Override
+    public SolveResult solve(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        SudokuGrid grid = new SudokuGrid(CLASSIC_BOX_SIZE, board.getValues());
+        SolveResult result = solve(grid, budget, listener);
+        if (result.isSolved()) {
+            board.setValues(grid.getValues());
+        }
+        return result;
+    }
+    
+    public boolean solve(SudokuGrid grid) {
+        return solve(grid, SolveBudget.unlimited(), null).isSolved();
+    }
+    
+    /**
+     * Solves the grid in place unless the budget runs out first.
+     * The budget is checked every 256 branches, when the listener is notified as well.
+     * @param grid grid to solve; only written when a solution is found
+     * @param budget deadline and cancellation token of the run
+     * @param listener optional listener for periodic progress reports, may be null
+     * @return whether the grid was solved, proved unsolvable, or the budget ran out
+     */
+    public SolveResult solve(SudokuGrid grid, SolveBudget budget, SolveProgressListener listener) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
+        }
+        long startNanos = System.nanoTime();
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        this.budget = budget;
+        this.listener = listener;
+        runStartNanos = startNanos;
+        stopped = false;
+        nodesVisited = 0;
+        backtracks = 0;
+        int filled = 0;
+        SolveResult result;
+        try {
+            int[] clues = grid.getValues();
+            if (budget.isExhausted()) {
+                result = SolveResult.TIMED_OUT;
+            } else if (!run(grid.getBoxSize(), clues)) {
+                result = stopped ? SolveResult.TIMED_OUT : SolveResult.UNSOLVABLE;
+            } else {
+                grid.setValues(values);
+                filled = countEmpty(clues);
+                result = SolveResult.SOLVED;
+            }
+        } finally {
+            this.budget = null;
+            this.listener = null;
+        }
+        event.end();
+        SOLVE_TIME.recordSince(startNanos);
+        if (result == SolveResult.UNSOLVABLE) {
+            UNSOLVED.increment();
+        } else if (result == SolveResult.TIMED_OUT) {
+            TIMED_OUT.increment();
+        }
+        if (event.shouldCommit()) {
+            event.setSolver(getClass().getSimpleName() + "-" + grid.getSize() + "x" + grid.getSize());
+            event.setSolved(result.isSolved());
+            event.setTimedOut(result == SolveResult.TIMED_OUT);
+            event.setCellsFilled(filled);
+            event.setNodesVisited(nodesVisited);
+            event.setBacktracks(backtracks);
+            event.commit();
+        }
+        return result;
+    }
+    
+    /**
+     * Fills an empty grid and removes random cells from it.
+     * The puzzle is solvable but, with many cells removed, not necessarily unique.
+     * @param boxSize side of one box, e.g. 4 for a 16x16 grid
+     * @param cellsToRemove number of cells to empty
+     * @return new puzzle grid
+     */
+    public SudokuGrid generate(int boxSize, int cellsToRemove) {
+        SudokuGrid grid = new SudokuGrid(boxSize);
+        if (cellsToRemove < 0 || cellsToRemove > grid.getCellCount()) {
+            throw new IllegalArgumentException("Cells to remove must be between 0 and " + grid.getCellCount());
+        }
+        if (!solve(grid)) {
+            throw new IllegalStateException("Empty " + grid.getSize() + "x" + grid.getSize() + " grid was not filled");
+        }
+        int[] cells = grid.getValues();
+        int removed = 0;
+        while (removed < cellsToRemove) {
+            int index = random.nextInt(cells.length);
+            if (cells[index] != 0) {
+                cells[index] = 0;
+                removed++;
+            }
+        }
+        grid.setValues(cells);
+        return grid;
+    }
+    
+    private boolean run(int boxSize, int[] clues) {
+        restartLimit = FIRST_RESTART_LIMIT;
+        while (true) {
+            restarting = false;
+            if (!load(boxSize, clues)) {
+                return false;
+            }
+            if (search(0)) {
+                return true;
+            }
+            if (!restarting) {
+                return false;
+            }
+            restartLimit *= 2;
+        }
+    }
+    
+    private boolean load(int boxSize, int[] clues) {
+        if (layout == null || layout.boxSize != boxSize) {
+            layout = GridLayout.of(boxSize);
+            candidates = new long[layout.cellCount];
+            values = new int[layout.cellCount];
+            queue = new int[layout.cellCount];
+            savedCandidates = new long[layout.cellCount][];
+            savedValues = new int[layout.cellCount][];
+        }
+        Arrays.fill(candidates, layout.allDigits);
+        Arrays.fill(values, 0);
+        queueHead = 0;
+        queueTail = 0;
+        for (int cell = 0; cell < clues.length; cell++) {
+            if (clues[cell] != 0 && !place(cell, 1L << (clues[cell] - 1))) {
+                return false;
+            }
+        }
+        return propagate();
+    }
+    
+    private boolean search(int depth) {
+        int best = -1;
+        int bestCount = Integer.MAX_VALUE;
+        for (int cell = 0; cell < layout.cellCount; cell++) {
+            if (values[cell] == 0) {
+                int count = Long.bitCount(candidates[cell]);
+                if (count < bestCount) {
+                    best = cell;
+                    bestCount = count;
+                    if (count == 2) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (best < 0) {
+            return true;
+        }
+        
+        save(depth);
+        long untried = candidates[best];
+        while (untried != 0) {
+            if ((nodesVisited & CHECK_INTERVAL_MASK) == 0 && isBudgetExhausted()) {
+                return false;
+            }
+            if (backtracks >= restartLimit) {
+                restarting = true;
+                return false;
+            }
+            long bit = randomBit(untried);
+            untried ^= bit;
+            nodesVisited++;
+            queueHead = 0;
+            queueTail = 0;
+            if (place(best, bit) && propagate() && search(depth + 1)) {
+                return true;
+            }
+            if (stopped || restarting) {
+                return false;
+            }
+            restore(depth);
+            backtracks++;
+        }
+        return false;
+    }
+    
+    /**
+     * Places a digit and queues it for removal from the peers.
+     * @return false if the digit is no longer a candidate of the cell
+     */
+    private boolean place(int cell, long bit) {
+        if ((candidates[cell] & bit) == 0) {
+            return false;
+        }
+        candidates[cell] = bit;
+        if (values[cell] == 0) {
+            values[cell] = Long.numberOfTrailingZeros(bit) + 1;
+            queue[queueTail++] = cell;
+        }
+        return true;
+    }
+    
+    /**
+     * Removes queued digits from their peers and places naked and hidden singles until
+     * nothing changes.
+     * @return false on a contradiction
+     */
+    private boolean propagate() {
+        boolean progress = true;
+        while (progress) {
+            while (queueHead < queueTail) {
+                int cell = queue[queueHead++];
+                long bit = candidates[cell];
+                for (int peer : layout.peers[cell]) {
+                    long remaining = candidates[peer];
+                    if ((remaining & bit) == 0) {
+                        continue;
+                    }
+                    remaining &= ~bit;
+                    if (remaining == 0) {
+                        return false;
+                    }
+                    candidates[peer] = remaining;
+                    if (Long.bitCount(remaining) == 1) {
+                        place(peer, remaining);
+                    }
+                }
+            }
+            progress = false;
+            for (int[] unit : layout.units) {
+                long once = 0;
+                long twice = 0;
+                for (int cell : unit) {
+                    twice |= once & candidates[cell];
+                    once |= candidates[cell];
+                }
+                if (once != layout.allDigits) {
+                    return false;
+                }
+                long singles = once & ~twice;
+                while (singles != 0) {
+                    long bit = Long.lowestOneBit(singles);
+                    singles ^= bit;
+                    for (int cell : unit) {
+                        if ((candidates[cell] & bit) != 0) {
+                            if (values[cell] == 0) {
+                                place(cell, bit);
+                                progress = true;
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+    
+    private void save(int depth) {
+        if (savedCandidates[depth] == null) {
+            savedCandidates[depth] = new long[layout.cellCount];
+            savedValues[depth] = new int[layout.cellCount];
+        }
+        System.arraycopy(candidates, 0, savedCandidates[depth], 0, layout.cellCount);
+        System.arraycopy(values, 0, savedValues[depth], 0, layout.cellCount);
+    }
+    
+    private void restore(int depth) {
+        System.arraycopy(savedCandidates[depth], 0, candidates, 0, layout.cellCount);
+        System.arraycopy(savedValues[depth], 0, values, 0, layout.cellCount);
+    }
+    
+    private long randomBit(long mask) {
+        long remaining = mask;
+        for (int skip = random.nextInt(Long.bitCount(mask)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return Long.lowestOneBit(remaining);
+    }
+    
+    private boolean isBudgetExhausted() {
+        if (listener != null) {
+            listener.onProgress(nodesVisited, System.nanoTime() - runStartNanos);
+        }
+        stopped = budget.isExhausted();
+        return stopped;
+    }
+    
+    private static int countEmpty(int[] cells) {
+        int empty = 0;
+        for (int value : cells) {
+            if (value == 0) {
+                empty++;
+            }
+        }
+        return empty;
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        random = new SplittableRandom();
+    }
+}
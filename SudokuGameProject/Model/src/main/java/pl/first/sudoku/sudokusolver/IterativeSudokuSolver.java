@@ -0,0 +1,325 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import pl.first.sudoku.jfr.SolveEvent;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.metrics.Timer;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Backtracking solver that searches in one flat loop instead of recursing.
+ * The board is copied into primitive arrays once; the search keeps explicit {@code int[]}
+ * stacks of cell indices, untried candidate masks and permutation positions, always fills
+ * the empty cell with the fewest candidates, and takes digit orders from a permutation
+ * table built when the solver is created. Nothing is allocated per node, and the board is
+ * only written back when a solution is found.
+ * @author zhuma
+ */
+public class IterativeSudokuSolver implements SudokuSolver {
+    private static final long serialVersionUID = 204L;
+    private static final int BOARD_SIZE = 9;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int ALL_DIGITS = (1 << BOARD_SIZE) - 1;
+    /** Number of digit orders in the table; a power of two so it can be indexed by a mask. */
+    private static final int PERMUTATION_COUNT = 256;
+    private static final long CHECK_INTERVAL_MASK = 1023;
+    private static final int[] ROW = new int[CELL_COUNT];
+    private static final int[] COLUMN = new int[CELL_COUNT];
+    private static final int[] BOX = new int[CELL_COUNT];
+    private static final Timer SOLVE_TIME = MetricsRegistry.global().timer(
+            "sudoku_solver_seconds", "Duration of solver calls", "solver", "iterative");
+    private static final Counter UNSOLVED = MetricsRegistry.global().counter(
+            "sudoku_solver_unsolved_total", "Solver calls that found no solution", "solver", "iterative");
+    private static final Counter TIMED_OUT = MetricsRegistry.global().counter(
+            "sudoku_solver_timeouts_total", "Solver calls stopped by their budget", "solver", "iterative");
+    
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            ROW[cell] = cell / BOARD_SIZE;
+            COLUMN[cell] = cell % BOARD_SIZE;
+            BOX[cell] = ROW[cell] / 3 * 3 + COLUMN[cell] / 3;
+        }
+    }
+    
+    private transient RandomGenerator random;
+    /** {@value #PERMUTATION_COUNT} shuffled orders of the digit bits 0 to 8, back to back. */
+    private final int[] permutations;
+    private transient int[] values;
+    private transient int[] rowMasks;
+    private transient int[] columnMasks;
+    private transient int[] boxMasks;
+    private transient int[] freeCells;
+    private transient int[] cellStack;
+    private transient int[] candidateStack;
+    private transient int[] orderStack;
+    private transient int[] positionStack;
+    private transient long nodesVisited;
+    private transient long backtracks;
+    
+    public IterativeSudokuSolver() {
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * Creates a solver drawing its digit orders from the given random generator.
+     * The solver is not thread-safe; give every worker its own solver and generator. After
+     * deserialization the permutation table is kept and a fresh unseeded generator is used.
+     * @param random generator for the permutation table and the per-run salt
+     */
+    public IterativeSudokuSolver(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random generator cannot be null");
+        }
+        this.random = random;
+        this.permutations = createPermutations(random);
+    }
+    
+    @Override
+    public boolean solve(SudokuBoard board) {
+        return run(board, null, null).isSolved();
+    }
+    
+    /**
+     * Solves the board unless the budget runs out first.
+     * The budget is checked every 1024 placements, when the listener is notified as well.
+     * The board is left unchanged unless the result is {@link SolveResult#SOLVED}.
+     */
+    @Override
+    public SolveResult solve(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
+        }
+        return run(board, budget, listener);
+    }
+    
+    private SolveResult run(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        long startNanos = System.nanoTime();
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        nodesVisited = 0;
+        backtracks = 0;
+        int empty = load(board);
+        SolveResult result;
+        if (empty < 0) {
+            result = SolveResult.UNSOLVABLE;
+        } else if (budget != null && budget.isExhausted()) {
+            result = SolveResult.TIMED_OUT;
+        } else {
+            result = search(empty, budget, listener, startNanos);
+        }
+        if (result.isSolved()) {
+            board.setValues(values);
+        }
+        event.end();
+        SOLVE_TIME.recordSince(startNanos);
+        if (result == SolveResult.UNSOLVABLE) {
+            UNSOLVED.increment();
+        } else if (result == SolveResult.TIMED_OUT) {
+            TIMED_OUT.increment();
+        }
+        if (event.shouldCommit()) {
+            event.setSolver(getClass().getSimpleName());
+            event.setSolved(result.isSolved());
+            event.setTimedOut(result == SolveResult.TIMED_OUT);
+            event.setCellsFilled(result.isSolved() ? Math.max(empty, 0) : 0);
+            event.setNodesVisited(nodesVisited);
+            event.setBacktracks(backtracks);
+            event.commit();
+        }
+        return result;
+    }
+    
+    /**
+     * Copies the board into the work arrays.
+     * @return number of empty cells, or -1 if two clues conflict
+     */
+    private int load(SudokuBoard board) {
+        if (values == null) {
+            values = new int[CELL_COUNT];
+            rowMasks = new int[BOARD_SIZE];
+            columnMasks = new int[BOARD_SIZE];
+            boxMasks = new int[BOARD_SIZE];
+            freeCells = new int[CELL_COUNT];
+            cellStack = new int[CELL_COUNT];
+            candidateStack = new int[CELL_COUNT];
+            orderStack = new int[CELL_COUNT];
+            positionStack = new int[CELL_COUNT];
+        }
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            rowMasks[i] = 0;
+            columnMasks[i] = 0;
+            boxMasks[i] = 0;
+        }
+        int empty = 0;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int value = board.getValueAt(ROW[cell], COLUMN[cell]);
+            values[cell] = value;
+            if (value == 0) {
+                freeCells[empty++] = cell;
+                continue;
+            }
+            int bit = 1 << (value - 1);
+            if (((rowMasks[ROW[cell]] | columnMasks[COLUMN[cell]] | boxMasks[BOX[cell]]) & bit) != 0) {
+                return -1;
+            }
+            rowMasks[ROW[cell]] |= bit;
+            columnMasks[COLUMN[cell]] |= bit;
+            boxMasks[BOX[cell]] |= bit;
+        }
+        return empty;
+    }
+    
+    private SolveResult search(int empty, SolveBudget budget, SolveProgressListener listener, long startNanos) {
+        final int[] cells = values;
+        final int[] rows = rowMasks;
+        final int[] columns = columnMasks;
+        final int[] boxes = boxMasks;
+        final int[] free = freeCells;
+        final int[] cellAt = cellStack;
+        final int[] candidatesAt = candidateStack;
+        final int[] orderAt = orderStack;
+        final int[] positionAt = positionStack;
+        final int[] orders = permutations;
+        final long salt = random.nextLong();
+        long nodes = 0;
+        long undone = 0;
+        int depth = 0;
+        boolean descend = true;
+        
+        while (true) {
+            if (descend) {
+                if (depth == empty) {
+                    return finish(SolveResult.SOLVED, nodes, undone);
+                }
+                int best = depth;
+                int bestCandidates = 0;
+                int bestCount = BOARD_SIZE + 1;
+                for (int i = depth; i < empty; i++) {
+                    int cell = free[i];
+                    int candidates = ALL_DIGITS & ~(rows[ROW[cell]] | columns[COLUMN[cell]] | boxes[BOX[cell]]);
+                    int count = Integer.bitCount(candidates);
+                    if (count < bestCount) {
+                        best = i;
+                        bestCandidates = candidates;
+                        bestCount = count;
+                        if (count <= 1) {
+                            break;
+                        }
+                    }
+                }
+                int chosen = free[best];
+                free[best] = free[depth];
+                free[depth] = chosen;
+                cellAt[depth] = chosen;
+                candidatesAt[depth] = bestCandidates;
+                orderAt[depth] = (int) mix(salt + depth) & (PERMUTATION_COUNT - 1);
+                positionAt[depth] = 0;
+            }
+            
+            int candidates = candidatesAt[depth];
+            if (candidates == 0) {
+                if (depth == 0) {
+                    return finish(SolveResult.UNSOLVABLE, nodes, undone);
+                }
+                depth--;
+                int cell = cellAt[depth];
+                int bit = 1 << (cells[cell] - 1);
+                rows[ROW[cell]] ^= bit;
+                columns[COLUMN[cell]] ^= bit;
+                boxes[BOX[cell]] ^= bit;
+                cells[cell] = 0;
+                undone++;
+                descend = false;
+                continue;
+            }
+            
+            int offset = orderAt[depth] * BOARD_SIZE;
+            int position = positionAt[depth];
+            int digit;
+            do {
+                digit = orders[offset + position++];
+            } while ((candidates & (1 << digit)) == 0);
+            int bit = 1 << digit;
+            int cell = cellAt[depth];
+            positionAt[depth] = position;
+            candidatesAt[depth] = candidates ^ bit;
+            cells[cell] = digit + 1;
+            rows[ROW[cell]] |= bit;
+            columns[COLUMN[cell]] |= bit;
+            boxes[BOX[cell]] |= bit;
+            depth++;
+            descend = true;
+            
+            if ((++nodes & CHECK_INTERVAL_MASK) == 0 && budget != null) {
+                if (listener != null) {
+                    listener.onProgress(nodes, System.nanoTime() - startNanos);
+                }
+                if (budget.isExhausted()) {
+                    return finish(SolveResult.TIMED_OUT, nodes, undone);
+                }
+            }
+        }
+    }
+    
+    private SolveResult finish(SolveResult result, long nodes, long undone) {
+        nodesVisited = nodes;
+        backtracks = undone;
+        return result;
+    }
+    
+    private static int[] createPermutations(RandomGenerator random) {
+        int[] table = new int[PERMUTATION_COUNT * BOARD_SIZE];
+        for (int permutation = 0; permutation < PERMUTATION_COUNT; permutation++) {
+            int offset = permutation * BOARD_SIZE;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                int j = random.nextInt(i + 1);
+                table[offset + i] = table[offset + j];
+                table[offset + j] = i;
+            }
+        }
+        return table;
+    }
+    
+    /**
+     * Scrambles a per-run salt into a permutation index (the SplitMix64 finalizer).
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        random = new SplittableRandom();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reproducible puzzle generator for one difficulty level.
+ * Puzzle {@code i} of a seed is built only from its own {@link SplittableRandom}, seeded with
+ * a 64-bit mix of the seed and {@code i}: the grid is filled by a solver on one split of that
+ * stream and the holes are dug with the rest. A stream depends on nothing but its seed and
+ * index, so the output for a seed is the same for every thread count, any index is reached in
+ * constant time, and a puzzle can be stored as its seed and index.
+ * @author zhuma
+ */
+public final class PuzzleGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(PuzzleGenerator.class);
+    /** Odd increment of the golden ratio, spreading consecutive indexes over the seed space. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    
+    private final GameDifficulty difficulty;
+    
+    public PuzzleGenerator(GameDifficulty difficulty) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null");
+        }
+        this.difficulty = difficulty;
+    }
+    
+    public GameDifficulty getDifficulty() {
+        return difficulty;
+    }
+    
+    /**
+     * Generates a single puzzle of a seed's sequence.
+     * @param seed seed of the sequence
+     * @param index position of the puzzle in the sequence
+     * @return puzzle equal to element {@code index} of any batch generated for the seed
+     */
+    public SudokuBoard generate(long seed, long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Puzzle index cannot be negative");
+        }
+        return generate(streamsFrom(seed, index, 1)[0]);
+    }
+    
+    /**
+     * Generates consecutive puzzles of a seed's sequence on several threads.
+     * @param seed seed of the sequence
+     * @param firstIndex position of the first puzzle in the sequence
+     * @param count number of puzzles
+     * @param threads number of worker threads; does not affect the result
+     * @return puzzles in index order
+     */
+    public List<SudokuBoard> generate(long seed, long firstIndex, int count, int threads) {
+        if (firstIndex < 0 || count < 0 || threads < 1) {
+            throw new IllegalArgumentException("Index and count cannot be negative and threads must be positive");
+        }
+        SplittableRandom[] streams = streamsFrom(seed, firstIndex, count);
+        SudokuBoard[] puzzles = new SudokuBoard[count];
+        if (threads == 1 || count < 2) {
+            for (int i = 0; i < count; i++) {
+                puzzles[i] = generate(streams[i]);
+            }
+            return Arrays.asList(puzzles);
+        }
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threads, count), runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int slot = i;
+                tasks.add(workers.submit(() -> {
+                    puzzles[slot] = generate(streams[slot]);
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Puzzle generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Puzzle generation failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        logger.debug("Generated {} {} puzzles of seed {} from index {} on {} threads", count, difficulty,
+                seed, firstIndex, threads);
+        return Arrays.asList(puzzles);
+    }
+    
+    private SudokuBoard generate(SplittableRandom stream) {
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver(stream.split()));
+        solved.solveGame();
+        return difficulty.prepareGradedBoard(solved, stream);
+    }
+    
+    private static SplittableRandom[] streamsFrom(long seed, long firstIndex, int count) {
+        SplittableRandom[] streams = new SplittableRandom[count];
+        for (int i = 0; i < count; i++) {
+            streams[i] = streamOf(seed, firstIndex + i);
+        }
+        return streams;
+    }
+    
+    private static SplittableRandom streamOf(long seed, long index) {
+        return new SplittableRandom(mix64(seed + (index + 1) * GOLDEN_GAMMA));
+    }
+    
+    /**
+     * Finalizer of the SplitMix64 generator; nearby inputs give unrelated outputs.
+     */
+    private static long mix64(long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Difficulty grade of one puzzle computed by {@link PuzzleGrader}.
+ * @author zhuma
+ */
+public final class PuzzleGrade {
+    private final SolvingTechnique hardestTechnique;
+    private final int[] uses;
+    private final long searchNodes;
+    private final int solutionCount;
+    
+    PuzzleGrade(SolvingTechnique hardestTechnique, int[] uses, long searchNodes, int solutionCount) {
+        this.hardestTechnique = hardestTechnique;
+        this.uses = uses.clone();
+        this.searchNodes = searchNodes;
+        this.solutionCount = solutionCount;
+    }
+    
+    /**
+     * Returns the most expensive technique the cheapest solving path needed.
+     */
+    public SolvingTechnique getHardestTechnique() {
+        return hardestTechnique;
+    }
+    
+    public int getUses(SolvingTechnique technique) {
+        return uses[technique.ordinal()];
+    }
+    
+    /**
+     * Returns the number of branches the propagation-only search explored, 0 if the
+     * techniques alone solved the puzzle.
+     */
+    public long getSearchNodes() {
+        return searchNodes;
+    }
+    
+    /**
+     * Returns the number of solutions found, counting stops at 2.
+     */
+    public int getSolutionCount() {
+        return solutionCount;
+    }
+    
+    public boolean isSolvable() {
+        return solutionCount > 0;
+    }
+    
+    public boolean isUnique() {
+        return solutionCount == 1;
+    }
+    
+    /**
+     * Returns a single number for sorting puzzles: the technique level, 1 for naked singles up
+     * to 6 for guessing, plus the base 2 logarithm of the search effort when guessing was needed.
+     */
+    public double getRating() {
+        double rating = hardestTechnique.ordinal() + 1;
+        if (hardestTechnique == SolvingTechnique.GUESS) {
+            rating += Math.log(1 + searchNodes) / Math.log(2);
+        }
+        return rating;
+    }
+    
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("hardestTechnique", hardestTechnique)
+                .append("searchNodes", searchNodes)
+                .append("solutionCount", solutionCount)
+                .append("rating", getRating())
+                .toString();
+    }
+}
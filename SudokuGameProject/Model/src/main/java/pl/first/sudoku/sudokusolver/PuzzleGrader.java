@@ -0,0 +1,439 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.util.Arrays;
+
+/**
+ * Grades puzzles by the cheapest logical techniques that solve them and, when those are not
+ * enough, by the effort of a propagation-only search.
+ * 
+ * <p>The grader works on a primitive representation: one 9-bit candidate mask per cell and
+ * precomputed unit, peer and box-line intersection tables. After every successful step it
+ * restarts from the cheapest technique, so the recorded hardest technique is the cheapest
+ * one that suffices. When all techniques are stuck, a depth-first search that only applies
+ * naked and hidden singles between guesses counts its branches and up to two solutions.
+ * Instances are kept per thread and reused, so grading does not allocate beyond the result.
+ * @author zhuma
+ */
+public final class PuzzleGrader {
+    private static final int SIZE = 9;
+    private static final int BOX_SIZE = 3;
+    private static final int CELL_COUNT = 81;
+    private static final int UNIT_COUNT = 27;
+    private static final int PEER_COUNT = 20;
+    private static final int ALL_DIGITS = 0x1FF;
+    private static final int MAX_SOLUTIONS = 2;
+    private static final int[][] UNITS = new int[UNIT_COUNT][SIZE];
+    private static final int[][] PEERS = new int[CELL_COUNT][PEER_COUNT];
+    private static final int[][] INTERSECTIONS = new int[2 * SIZE * BOX_SIZE][BOX_SIZE];
+    private static final int[][] BOX_REST = new int[2 * SIZE * BOX_SIZE][SIZE - BOX_SIZE];
+    private static final int[][] LINE_REST = new int[2 * SIZE * BOX_SIZE][SIZE - BOX_SIZE];
+    private static final ThreadLocal<PuzzleGrader> INSTANCES = ThreadLocal.withInitial(PuzzleGrader::new);
+    
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                UNITS[i][j] = i * SIZE + j;
+                UNITS[SIZE + i][j] = j * SIZE + i;
+                UNITS[2 * SIZE + i][j] = ((i / BOX_SIZE) * BOX_SIZE + j / BOX_SIZE) * SIZE
+                        + (i % BOX_SIZE) * BOX_SIZE + j % BOX_SIZE;
+            }
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int count = 0;
+            for (int other = 0; other < CELL_COUNT; other++) {
+                boolean peer = row(other) == row(cell) || col(other) == col(cell) || box(other) == box(cell);
+                if (other != cell && peer) {
+                    PEERS[cell][count++] = other;
+                }
+            }
+        }
+        int index = 0;
+        for (int box = 0; box < SIZE; box++) {
+            for (int line = 0; line < 2 * SIZE; line++) {
+                if (!intersects(line, box)) {
+                    continue;
+                }
+                int[] inside = new int[BOX_SIZE];
+                int[] boxRest = new int[SIZE - BOX_SIZE];
+                int[] lineRest = new int[SIZE - BOX_SIZE];
+                int insideCount = 0;
+                int boxCount = 0;
+                int lineCount = 0;
+                for (int cell : UNITS[2 * SIZE + box]) {
+                    if (contains(UNITS[line], cell)) {
+                        inside[insideCount++] = cell;
+                    } else {
+                        boxRest[boxCount++] = cell;
+                    }
+                }
+                for (int cell : UNITS[line]) {
+                    if (box(cell) != box) {
+                        lineRest[lineCount++] = cell;
+                    }
+                }
+                INTERSECTIONS[index] = inside;
+                BOX_REST[index] = boxRest;
+                LINE_REST[index] = lineRest;
+                index++;
+            }
+        }
+    }
+    
+    private final int[] cells = new int[CELL_COUNT];
+    private final int[] candidates = new int[CELL_COUNT];
+    private final int[] uses = new int[SolvingTechnique.values().length];
+    private final int[] digitPositions = new int[SIZE];
+    private final int[][] savedCells = new int[CELL_COUNT + 1][CELL_COUNT];
+    private final int[][] savedCandidates = new int[CELL_COUNT + 1][CELL_COUNT];
+    private final int[] savedEmpty = new int[CELL_COUNT + 1];
+    private int empty;
+    private boolean contradiction;
+    private boolean searching;
+    private long searchNodes;
+    private int solutions;
+    
+    private PuzzleGrader() {
+    }
+    
+    /**
+     * Grades a puzzle.
+     * @param puzzle 81 cell values in row-major order, 0 for empty cells
+     * @return grade of the puzzle; unsolvable puzzles have a solution count of 0
+     */
+    public static PuzzleGrade grade(int[] puzzle) {
+        return INSTANCES.get().rate(puzzle);
+    }
+    
+    public static PuzzleGrade grade(SudokuBoard board) {
+        return grade(board.getValues());
+    }
+    
+    private PuzzleGrade rate(int[] puzzle) {
+        if (puzzle.length != CELL_COUNT) {
+            throw new IllegalArgumentException("Puzzle must have " + CELL_COUNT + " cells");
+        }
+        Arrays.fill(uses, 0);
+        searching = false;
+        searchNodes = 0;
+        solutions = 0;
+        load(puzzle);
+        
+        while (empty > 0 && !contradiction) {
+            if (!nakedSingles() && !hiddenSingles() && !lockedCandidates() && !nakedPairs() && !hiddenPairs()) {
+                break;
+            }
+        }
+        
+        SolvingTechnique hardest = SolvingTechnique.NAKED_SINGLE;
+        for (SolvingTechnique technique : SolvingTechnique.values()) {
+            if (uses[technique.ordinal()] > 0) {
+                hardest = technique;
+            }
+        }
+        if (contradiction) {
+            return new PuzzleGrade(hardest, uses, 0, 0);
+        }
+        if (empty == 0) {
+            return new PuzzleGrade(hardest, uses, 0, 1);
+        }
+        
+        searching = true;
+        search(0);
+        uses[SolvingTechnique.GUESS.ordinal()]++;
+        return new PuzzleGrade(SolvingTechnique.GUESS, uses, searchNodes, solutions);
+    }
+    
+    private void load(int[] puzzle) {
+        Arrays.fill(cells, 0);
+        Arrays.fill(candidates, ALL_DIGITS);
+        empty = CELL_COUNT;
+        contradiction = false;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int value = puzzle[cell];
+            if (value < 0 || value > SIZE) {
+                throw new IllegalArgumentException("Invalid cell value: " + value);
+            }
+            if (value != 0) {
+                if ((candidates[cell] & bit(value)) == 0) {
+                    contradiction = true;
+                }
+                place(cell, value);
+            }
+        }
+    }
+    
+    private void search(int level) {
+        if (!propagate()) {
+            return;
+        }
+        if (empty == 0) {
+            solutions++;
+            return;
+        }
+        
+        int branchCell = -1;
+        int fewest = SIZE + 1;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            if (cells[cell] == 0) {
+                int count = Integer.bitCount(candidates[cell]);
+                if (count < fewest) {
+                    fewest = count;
+                    branchCell = cell;
+                }
+            }
+        }
+        
+        System.arraycopy(cells, 0, savedCells[level], 0, CELL_COUNT);
+        System.arraycopy(candidates, 0, savedCandidates[level], 0, CELL_COUNT);
+        savedEmpty[level] = empty;
+        for (int mask = candidates[branchCell]; mask != 0 && solutions < MAX_SOLUTIONS; mask &= mask - 1) {
+            searchNodes++;
+            System.arraycopy(savedCells[level], 0, cells, 0, CELL_COUNT);
+            System.arraycopy(savedCandidates[level], 0, candidates, 0, CELL_COUNT);
+            empty = savedEmpty[level];
+            contradiction = false;
+            place(branchCell, Integer.numberOfTrailingZeros(mask) + 1);
+            if (!contradiction) {
+                search(level + 1);
+            }
+        }
+    }
+    
+    private boolean propagate() {
+        boolean progress = true;
+        while (progress && empty > 0 && !contradiction) {
+            progress = nakedSingles() || hiddenSingles();
+        }
+        return !contradiction;
+    }
+    
+    private boolean nakedSingles() {
+        boolean progress = false;
+        for (int cell = 0; cell < CELL_COUNT && !contradiction; cell++) {
+            int mask = candidates[cell];
+            if (cells[cell] == 0 && mask != 0 && (mask & (mask - 1)) == 0) {
+                place(cell, Integer.numberOfTrailingZeros(mask) + 1);
+                count(SolvingTechnique.NAKED_SINGLE);
+                progress = true;
+            }
+        }
+        return progress;
+    }
+    
+    private boolean hiddenSingles() {
+        for (int[] unit : UNITS) {
+            int once = 0;
+            int twice = 0;
+            int placed = 0;
+            for (int cell : unit) {
+                int mask = candidates[cell];
+                twice |= once & mask;
+                once |= mask;
+                if (cells[cell] != 0) {
+                    placed |= bit(cells[cell]);
+                }
+            }
+            if ((once | placed) != ALL_DIGITS) {
+                contradiction = true;
+                return false;
+            }
+            int singles = once & ~twice;
+            if (singles != 0) {
+                for (; singles != 0 && !contradiction; singles &= singles - 1) {
+                    int digitBit = singles & -singles;
+                    for (int cell : unit) {
+                        if ((candidates[cell] & digitBit) != 0) {
+                            place(cell, Integer.numberOfTrailingZeros(digitBit) + 1);
+                            count(SolvingTechnique.HIDDEN_SINGLE);
+                            break;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean lockedCandidates() {
+        for (int i = 0; i < INTERSECTIONS.length; i++) {
+            int inside = union(INTERSECTIONS[i]);
+            int boxRest = union(BOX_REST[i]);
+            int lineRest = union(LINE_REST[i]);
+            int pointing = inside & ~boxRest & lineRest;
+            int claiming = inside & ~lineRest & boxRest;
+            if (pointing != 0 || claiming != 0) {
+                eliminate(LINE_REST[i], pointing);
+                eliminate(BOX_REST[i], claiming);
+                count(SolvingTechnique.LOCKED_CANDIDATES);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean nakedPairs() {
+        for (int[] unit : UNITS) {
+            for (int i = 0; i < SIZE; i++) {
+                int pair = candidates[unit[i]];
+                if (Integer.bitCount(pair) != 2) {
+                    continue;
+                }
+                for (int j = i + 1; j < SIZE; j++) {
+                    if (candidates[unit[j]] == pair && eliminateExcept(unit, pair, unit[i], unit[j])) {
+                        count(SolvingTechnique.NAKED_PAIR);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+    
+    private boolean hiddenPairs() {
+        for (int[] unit : UNITS) {
+            Arrays.fill(digitPositions, 0);
+            for (int position = 0; position < SIZE; position++) {
+                for (int mask = candidates[unit[position]]; mask != 0; mask &= mask - 1) {
+                    digitPositions[Integer.numberOfTrailingZeros(mask)] |= 1 << position;
+                }
+            }
+            for (int first = 0; first < SIZE; first++) {
+                int positions = digitPositions[first];
+                if (Integer.bitCount(positions) != 2) {
+                    continue;
+                }
+                for (int second = first + 1; second < SIZE; second++) {
+                    if (digitPositions[second] != positions) {
+                        continue;
+                    }
+                    int pair = (1 << first) | (1 << second);
+                    int cellA = unit[Integer.numberOfTrailingZeros(positions)];
+                    int cellB = unit[31 - Integer.numberOfLeadingZeros(positions)];
+                    if ((candidates[cellA] | candidates[cellB]) != pair) {
+                        candidates[cellA] &= pair;
+                        candidates[cellB] &= pair;
+                        count(SolvingTechnique.HIDDEN_PAIR);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+    
+    private void place(int cell, int value) {
+        int digitBit = bit(value);
+        cells[cell] = value;
+        candidates[cell] = 0;
+        empty--;
+        for (int peer : PEERS[cell]) {
+            if ((candidates[peer] & digitBit) != 0) {
+                candidates[peer] &= ~digitBit;
+                if (candidates[peer] == 0) {
+                    contradiction = true;
+                }
+            }
+        }
+    }
+    
+    private void eliminate(int[] targets, int mask) {
+        if (mask == 0) {
+            return;
+        }
+        for (int cell : targets) {
+            if ((candidates[cell] & mask) != 0) {
+                candidates[cell] &= ~mask;
+                if (candidates[cell] == 0) {
+                    contradiction = true;
+                }
+            }
+        }
+    }
+    
+    private boolean eliminateExcept(int[] unit, int mask, int keepA, int keepB) {
+        boolean changed = false;
+        for (int cell : unit) {
+            if (cell != keepA && cell != keepB && (candidates[cell] & mask) != 0) {
+                candidates[cell] &= ~mask;
+                changed = true;
+                if (candidates[cell] == 0) {
+                    contradiction = true;
+                }
+            }
+        }
+        return changed;
+    }
+    
+    private int union(int[] targets) {
+        int mask = 0;
+        for (int cell : targets) {
+            mask |= candidates[cell];
+        }
+        return mask;
+    }
+    
+    private void count(SolvingTechnique technique) {
+        if (!searching) {
+            uses[technique.ordinal()]++;
+        }
+    }
+    
+    private static int bit(int value) {
+        return 1 << (value - 1);
+    }
+    
+    private static int row(int cell) {
+        return cell / SIZE;
+    }
+    
+    private static int col(int cell) {
+        return cell % SIZE;
+    }
+    
+    private static int box(int cell) {
+        return (row(cell) / BOX_SIZE) * BOX_SIZE + col(cell) / BOX_SIZE;
+    }
+    
+    private static boolean intersects(int line, int box) {
+        for (int cell : UNITS[line]) {
+            if (box(cell) == box) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean contains(int[] unit, int cell) {
+        for (int member : unit) {
+            if (member == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces new puzzles from an existing one by random validity-preserving transforms.
+ * Digit relabeling, band and stack swaps, row and column swaps inside bands and stacks,
+ * and transposition keep clue count and solving difficulty, so no solver is needed.
+ * Transforms are applied directly to primitive cell arrays using reusable scratch
+ * permutations; instances are not thread-safe.
+ * @author zhuma
+ */
+public class PuzzleMultiplier {
+    private static final int BOARD_SIZE = 9;
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int ATTEMPTS_PER_PUZZLE = 8;
+    
+    private final RandomGenerator random;
+    private final int[] rowOrder = new int[BOARD_SIZE];
+    private final int[] colOrder = new int[BOARD_SIZE];
+    private final int[] digitMap = new int[BOARD_SIZE + 1];
+    private final int[] lineScratch = new int[SUBSECTION_SIZE];
+    
+    public PuzzleMultiplier() {
+        this(new SplittableRandom());
+    }
+    
+    public PuzzleMultiplier(RandomGenerator random) {
+        this.random = random;
+    }
+    
+    /**
+     * Writes a randomly transformed copy of the source cells into the target array.
+     * @param source row-major array of 81 values, 0 for empty cells
+     * @param target array of 81 elements receiving the transformed cells
+     * @throws IllegalArgumentException if an array has the wrong length or a cell is outside 0-9
+     */
+    public void transform(int[] source, int[] target) {
+        if (source == null || target == null || source.length != CELL_COUNT || target.length != CELL_COUNT) {
+            throw new IllegalArgumentException("Cell arrays must contain exactly 81 elements");
+        }
+        if (source == target) {
+            throw new IllegalArgumentException("Source and target must be different arrays");
+        }
+        for (int value : source) {
+            if (value < 0 || value > BOARD_SIZE) {
+                throw new IllegalArgumentException("Value must be between 0 and 9");
+            }
+        }
+        shuffleLines(rowOrder);
+        shuffleLines(colOrder);
+        digitMap[0] = 0;
+        for (int digit = 1; digit <= BOARD_SIZE; digit++) {
+            digitMap[digit] = digit;
+        }
+        shuffle(digitMap, 1, BOARD_SIZE);
+        boolean transposed = random.nextBoolean();
+        
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            int sourceRow = rowOrder[row];
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                int value = transposed
+                        ? source[colOrder[col] * BOARD_SIZE + sourceRow]
+                        : source[sourceRow * BOARD_SIZE + colOrder[col]];
+                target[row * BOARD_SIZE + col] = digitMap[value];
+            }
+        }
+    }
+    
+    public int[] transform(int[] source) {
+        int[] target = new int[CELL_COUNT];
+        transform(source, target);
+        return target;
+    }
+    
+    /**
+     * Generates distinct transformed copies of the given cells, all different from the source.
+     * Highly symmetric grids have few distinct copies, so fewer puzzles than requested may
+     * be returned after a bounded number of attempts.
+     * @param source row-major array of 81 values, 0 for empty cells
+     * @param count number of puzzles to generate
+     * @return list of at most {@code count} distinct cell arrays
+     */
+    public List<int[]> multiply(int[] source, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        List<int[]> puzzles = new ArrayList<>(count);
+        Set<String> seen = new HashSet<>();
+        seen.add(toKey(source));
+        int[] candidate = new int[CELL_COUNT];
+        
+        for (int attempt = 0; puzzles.size() < count && attempt < count * ATTEMPTS_PER_PUZZLE; attempt++) {
+            transform(source, candidate);
+            if (seen.add(toKey(candidate))) {
+                puzzles.add(candidate);
+                candidate = new int[CELL_COUNT];
+            }
+        }
+        return puzzles;
+    }
+    
+    public List<SudokuBoard> multiply(SudokuBoard board, int count) {
+        List<int[]> puzzles = multiply(board.getValues(), count);
+        List<SudokuBoard> boards = new ArrayList<>(puzzles.size());
+        for (int[] cells : puzzles) {
+            SudokuBoard puzzle = new SudokuBoard(new BacktrackingSudokuSolver());
+            puzzle.setValues(cells);
+            boards.add(puzzle);
+        }
+        return boards;
+    }
+    
+    private void shuffleLines(int[] order) {
+        for (int block = 0; block < SUBSECTION_SIZE; block++) {
+            lineScratch[block] = block;
+        }
+        shuffle(lineScratch, 0, SUBSECTION_SIZE);
+        for (int block = 0; block < SUBSECTION_SIZE; block++) {
+            int first = block * SUBSECTION_SIZE;
+            for (int line = 0; line < SUBSECTION_SIZE; line++) {
+                order[first + line] = lineScratch[block] * SUBSECTION_SIZE + line;
+            }
+            shuffle(order, first, SUBSECTION_SIZE);
+        }
+    }
+    
+    private void shuffle(int[] values, int from, int length) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[from + i];
+            values[from + i] = values[from + j];
+            values[from + j] = swap;
+        }
+    }
+    
+    private static String toKey(int[] cells) {
+        char[] key = new char[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            key[i] = (char) ('0' + cells[i]);
+        }
+        return new String(key);
+    }
+}
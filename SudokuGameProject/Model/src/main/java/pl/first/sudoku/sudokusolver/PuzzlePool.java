@@ -0,0 +1,367 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of pre-generated puzzles for every difficulty level.
+ * Background worker threads keep each queue filled to a target depth, so starting a game
+ * only removes a ready puzzle. Each generated grid is multiplied into several equally hard
+ * puzzles by {@link GameDifficulty#prepareBoards}; the puzzles of one grid are spread over the
+ * queue between those of other grids, so consecutive games never come from the same grid.
+ * When a storage directory is given, queued puzzles are written there on {@link #close()} and
+ * loaded again by {@link #start()}, which removes the file so a crash cannot replay them.
+ * @author zhuma
+ */
+public class PuzzlePool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(PuzzlePool.class);
+    private static final int DEFAULT_DEPTH = 8;
+    private static final int DEFAULT_WORKERS = 1;
+    private static final int PUZZLES_PER_GRID = 4;
+    /** Grids whose remaining puzzles are dealt out in turn before a new grid is generated. */
+    private static final int INTERLEAVED_GRIDS = 4;
+    private static final int CELL_COUNT = 81;
+    private static final String FILE_EXTENSION = ".pool";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    private static final Map<GameDifficulty, Counter> POOL_TAKES = takes("pool");
+    private static final Map<GameDifficulty, Counter> GENERATED_TAKES = takes("generated");
+    
+    private final int targetDepth;
+    private final Path storagePath;
+    private final Map<GameDifficulty, BlockingQueue<SudokuBoard>> queues = new EnumMap<>(GameDifficulty.class);
+    private final Map<GameDifficulty, AtomicBoolean> refillsPending = new EnumMap<>(GameDifficulty.class);
+    private final Map<GameDifficulty, Deque<Deque<SudokuBoard>>> reserves = new EnumMap<>(GameDifficulty.class);
+    private final ExecutorService workers;
+    private volatile boolean closed;
+    
+    public PuzzlePool() {
+        this(DEFAULT_DEPTH, DEFAULT_WORKERS, null);
+    }
+    
+    /**
+     * Creates a pool; no puzzles are generated until {@link #start()} or {@link #take} is called.
+     * @param targetDepth number of puzzles kept ready per difficulty
+     * @param workerCount number of background generator threads
+     * @param storageDirectory directory used to keep puzzles across restarts, or null
+     */
+    public PuzzlePool(int targetDepth, int workerCount, String storageDirectory) {
+        if (targetDepth < 1 || workerCount < 1) {
+            throw new IllegalArgumentException("Pool depth and worker count must be positive");
+        }
+        this.targetDepth = targetDepth;
+        this.storagePath = storageDirectory == null ? null : Paths.get(storageDirectory);
+        for (GameDifficulty difficulty : GameDifficulty.values()) {
+            queues.put(difficulty, new ArrayBlockingQueue<>(targetDepth));
+            refillsPending.put(difficulty, new AtomicBoolean());
+            reserves.put(difficulty, new ArrayDeque<>());
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-pool-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Loads persisted puzzles, if any, and starts refilling every queue in the background.
+     */
+    public void start() {
+        if (storagePath != null) {
+            for (GameDifficulty difficulty : GameDifficulty.values()) {
+                load(difficulty);
+            }
+        }
+        for (GameDifficulty difficulty : GameDifficulty.values()) {
+            requestRefill(difficulty);
+        }
+        logger.info("Puzzle pool started with target depth {}", targetDepth);
+    }
+    
+    /**
+     * Removes a ready puzzle and schedules a refill. If the queue is empty, a puzzle left over
+     * from an already multiplied grid is used, and only if there is none either a single puzzle
+     * is generated on the calling thread.
+     * @param difficulty requested difficulty
+     * @return new puzzle board
+     */
+    public SudokuBoard take(GameDifficulty difficulty) {
+        SudokuBoard puzzle = queues.get(difficulty).poll();
+        requestRefill(difficulty);
+        if (puzzle == null) {
+            puzzle = pollReserve(difficulty, true);
+        }
+        if (puzzle != null) {
+            POOL_TAKES.get(difficulty).increment();
+            return puzzle;
+        }
+        logger.debug("Puzzle pool for {} is empty, generating on demand", difficulty);
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        GENERATED_TAKES.get(difficulty).increment();
+        return difficulty.prepareBoard(solved);
+    }
+    
+    public EditableSudokuBoardDecorator takeDecorated(GameDifficulty difficulty) {
+        EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(take(difficulty));
+        decorator.lockNonEmptyFields();
+        return decorator;
+    }
+    
+    public int size(GameDifficulty difficulty) {
+        return queues.get(difficulty).size();
+    }
+    
+    public int getTargetDepth() {
+        return targetDepth;
+    }
+    
+    /**
+     * Waits until the queue for the given difficulty reaches the target depth.
+     * @return true if the queue is full, false on timeout
+     */
+    public boolean awaitFull(GameDifficulty difficulty, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (size(difficulty) < targetDepth) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Puzzle pool workers did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (storagePath != null) {
+            for (GameDifficulty difficulty : GameDifficulty.values()) {
+                persist(difficulty);
+            }
+        }
+        logger.info("Puzzle pool closed");
+    }
+    
+    private void requestRefill(GameDifficulty difficulty) {
+        AtomicBoolean pending = refillsPending.get(difficulty);
+        if (closed || queues.get(difficulty).remainingCapacity() == 0 || !pending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            workers.execute(() -> refill(difficulty));
+        } catch (RejectedExecutionException e) {
+            pending.set(false);
+        }
+    }
+    
+    private void refill(GameDifficulty difficulty) {
+        BlockingQueue<SudokuBoard> queue = queues.get(difficulty);
+        boolean failed = false;
+        try {
+            while (!closed && !Thread.currentThread().isInterrupted() && queue.remainingCapacity() > 0) {
+                SudokuBoard puzzle = pollReserve(difficulty, false);
+                if (puzzle == null) {
+                    puzzle = generate(difficulty);
+                }
+                if (!queue.offer(puzzle)) {
+                    returnToReserve(difficulty, puzzle);
+                }
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            logger.error("Failed to refill puzzle pool for {}", difficulty, e);
+        } finally {
+            refillsPending.get(difficulty).set(false);
+        }
+        logger.debug("Puzzle pool for {} refilled to {}", difficulty, queue.size());
+        if (!failed) {
+            // a take() racing with the end of this refill may have found it still pending
+            requestRefill(difficulty);
+        }
+    }
+    
+    /**
+     * Multiplies a new grid into puzzles and keeps all but the returned one in the reserve.
+     */
+    private SudokuBoard generate(GameDifficulty difficulty) {
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        Deque<SudokuBoard> siblings = new ArrayDeque<>(difficulty.prepareBoards(solved, PUZZLES_PER_GRID));
+        SudokuBoard puzzle = siblings.poll();
+        if (!siblings.isEmpty()) {
+            Deque<Deque<SudokuBoard>> reserve = reserves.get(difficulty);
+            synchronized (reserve) {
+                reserve.addLast(siblings);
+            }
+        }
+        return puzzle;
+    }
+    
+    /**
+     * Deals the next puzzle from the reserve, taking the grids in turn.
+     * @param any whether to use the reserve even when it holds too few grids to interleave them
+     * @return a reserved puzzle, or null if a new grid should be generated first
+     */
+    private SudokuBoard pollReserve(GameDifficulty difficulty, boolean any) {
+        Deque<Deque<SudokuBoard>> reserve = reserves.get(difficulty);
+        synchronized (reserve) {
+            if (reserve.isEmpty() || !any && reserve.size() < INTERLEAVED_GRIDS) {
+                return null;
+            }
+            Deque<SudokuBoard> siblings = reserve.pollFirst();
+            SudokuBoard puzzle = siblings.poll();
+            if (!siblings.isEmpty()) {
+                reserve.addLast(siblings);
+            }
+            return puzzle;
+        }
+    }
+    
+    private void returnToReserve(GameDifficulty difficulty, SudokuBoard puzzle) {
+        Deque<Deque<SudokuBoard>> reserve = reserves.get(difficulty);
+        Deque<SudokuBoard> single = new ArrayDeque<>();
+        single.add(puzzle);
+        synchronized (reserve) {
+            reserve.addFirst(single);
+        }
+    }
+    
+    private static Map<GameDifficulty, Counter> takes(String source) {
+        Map<GameDifficulty, Counter> counters = new EnumMap<>(GameDifficulty.class);
+        for (GameDifficulty difficulty : GameDifficulty.values()) {
+            counters.put(difficulty, MetricsRegistry.global().counter("sudoku_puzzle_pool_takes_total",
+                    "Puzzles handed out by the pool", "difficulty", difficulty.name().toLowerCase(),
+                    "source", source));
+        }
+        return counters;
+    }
+    
+    private Path storageFile(GameDifficulty difficulty) {
+        return storagePath.resolve(difficulty.name().toLowerCase() + FILE_EXTENSION);
+    }
+    
+    private void load(GameDifficulty difficulty) {
+        Path file = storageFile(difficulty);
+        if (!Files.exists(file)) {
+            return;
+        }
+        BlockingQueue<SudokuBoard> queue = queues.get(difficulty);
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int[] cells = decodeCells(line.trim());
+                if (cells == null) {
+                    logger.warn("Skipping malformed puzzle in {}", file);
+                    continue;
+                }
+                SudokuBoard puzzle = new SudokuBoard(new BacktrackingSudokuSolver());
+                puzzle.setValues(cells);
+                if (!queue.offer(puzzle)) {
+                    break;
+                }
+            }
+            logger.debug("Loaded {} puzzles for {} from {}", queue.size(), difficulty, file);
+        } catch (IOException e) {
+            logger.warn("Failed to load puzzle pool from {}", file, e);
+        }
+        try {
+            // the loaded puzzles now live in memory only; close() writes the file again
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to remove loaded puzzle pool file {}", file, e);
+        }
+    }
+    
+    private void persist(GameDifficulty difficulty) {
+        Path file = storageFile(difficulty);
+        List<String> lines = new ArrayList<>();
+        for (SudokuBoard puzzle : queues.get(difficulty)) {
+            StringBuilder builder = new StringBuilder(CELL_COUNT);
+            for (int value : puzzle.getValues()) {
+                builder.append((char) ('0' + value));
+            }
+            lines.add(builder.toString());
+        }
+        try {
+            Files.createDirectories(storagePath);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Persisted {} puzzles for {} to {}", lines.size(), difficulty, file);
+        } catch (IOException e) {
+            logger.warn("Failed to persist puzzle pool to {}", file, e);
+        }
+    }
+    
+    private static int[] decodeCells(String line) {
+        if (line.length() != CELL_COUNT) {
+            return null;
+        }
+        int[] cells = new int[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            cells[i] = c - '0';
+        }
+        return cells;
+    }
+}
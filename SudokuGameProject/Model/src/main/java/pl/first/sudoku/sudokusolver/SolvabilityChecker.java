@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Checks in the background whether a board the player is editing can still be solved.
+ * Every {@link #submit} takes a {@link BoardSnapshot} on the calling thread, cancels the
+ * previous check and schedules a new one after the debounce delay, so a burst of edits leads
+ * to one check of the latest board. Checks run on a single daemon thread; a check overtaken
+ * by a newer submit is cancelled through its {@link SolveBudget} and its report is dropped.
+ * 
+ * <p>When the locked clues have a unique solution it is solved once and cached, and entries
+ * are compared with it. Otherwise the snapshot itself is solved with a {@link GridSolver}.
+ * Both solves go through the {@link CachingSudokuSolver#shared shared solution cache}, so a
+ * puzzle checked before, or solved for showing its solution, is not solved again.
+ * Reports are passed to the consumer on the checker thread; a consumer that hands them over to
+ * another thread can drop the ones overtaken meanwhile with {@link #isLatest}.
+ * @author zhuma
+ */
+public class SolvabilityChecker implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SolvabilityChecker.class);
+    private static final int CELL_COUNT = 81;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    private static final Counter SOLVABLE_CHECKS = checks("solved");
+    private static final Counter UNSOLVABLE_CHECKS = checks("unsolvable");
+    private static final Counter UNDECIDED_CHECKS = checks("timed_out");
+    private static final Counter STALE_CHECKS = checks("stale");
+    
+    private final long debounceNanos;
+    private final Duration timeout;
+    private final Consumer<SolvabilityReport> consumer;
+    private final ScheduledExecutorService worker;
+    private final AtomicLong latest = new AtomicLong();
+    private final SudokuSolver solver = CachingSudokuSolver.shared(new GridSolver());
+    private ScheduledFuture<?> pending;
+    private SolveBudget pendingBudget;
+    /** Clues and solution of the last reference puzzle; only used on the checker thread. */
+    private int[] referenceClues;
+    private int[] referenceSolution;
+    
+    /**
+     * Creates a checker; its thread starts with the first submit.
+     * @param debounce quiet time after the last submit before a check starts
+     * @param timeout time allowed for one check once it has started
+     * @param consumer receiver of the reports, called on the checker thread
+     */
+    public SolvabilityChecker(Duration debounce, Duration timeout, Consumer<SolvabilityReport> consumer) {
+        if (debounce == null || debounce.isNegative() || timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Debounce and timeout must be non-negative durations");
+        }
+        this.debounceNanos = debounce.toNanos();
+        this.timeout = timeout;
+        this.consumer = consumer;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sudoku-solvability");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Schedules a check of the current board and cancels any older one.
+     * @param decoratedBoard board read on the calling thread; locked fields count as clues
+     */
+    public synchronized void submit(EditableSudokuBoardDecorator decoratedBoard) {
+        BoardSnapshot snapshot = BoardSnapshot.of(decoratedBoard.getSudokuBoard());
+        boolean[] clues = new boolean[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            clues[cell] = !decoratedBoard.isFieldEditable(cell / 9, cell % 9);
+        }
+        
+        cancel();
+        long generation = latest.get();
+        SolveBudget budget = SolveBudget.of(timeout.plusNanos(debounceNanos));
+        try {
+            pending = worker.schedule(() -> check(generation, snapshot, clues, budget),
+                    debounceNanos, TimeUnit.NANOSECONDS);
+            pendingBudget = budget;
+        } catch (RejectedExecutionException e) {
+            logger.debug("Solvability checker is closed, check skipped");
+        }
+    }
+    
+    /**
+     * Tells whether a report belongs to the most recent submit.
+     * @param report report passed to the consumer
+     * @return false if the board was submitted again or the check was cancelled since
+     */
+    public boolean isLatest(SolvabilityReport report) {
+        return report.getGeneration() == latest.get();
+    }
+    
+    /**
+     * Cancels the scheduled or running check, if any; its report is dropped.
+     */
+    public synchronized void cancel() {
+        latest.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pendingBudget.cancel();
+            pending = null;
+            pendingBudget = null;
+        }
+    }
+    
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Solvability checker did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void check(long generation, BoardSnapshot snapshot, boolean[] clues, SolveBudget budget) {
+        if (generation != latest.get()) {
+            return;
+        }
+        SolvabilityReport report = evaluate(snapshot, clues, budget, generation);
+        if (generation != latest.get()) {
+            STALE_CHECKS.increment();
+            logger.debug("Solvability check overtaken by a newer edit");
+            return;
+        }
+        countOutcome(report.getResult());
+        consumer.accept(report);
+    }
+    
+    private SolvabilityReport evaluate(BoardSnapshot snapshot, boolean[] clues, SolveBudget budget,
+            long generation) {
+        int[] values = snapshot.getValues();
+        int[] clueValues = new int[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            clueValues[cell] = clues[cell] ? values[cell] : 0;
+        }
+        if (!Arrays.equals(clueValues, referenceClues)) {
+            SolveResult result = loadReference(clueValues, budget);
+            if (result != SolveResult.SOLVED) {
+                return new SolvabilityReport(result, false, 0, generation);
+            }
+        }
+        
+        if (referenceSolution != null) {
+            int wrongEntries = 0;
+            for (int cell = 0; cell < CELL_COUNT; cell++) {
+                if (!clues[cell] && values[cell] != 0 && values[cell] != referenceSolution[cell]) {
+                    wrongEntries++;
+                }
+            }
+            SolveResult result = wrongEntries == 0 ? SolveResult.SOLVED : SolveResult.UNSOLVABLE;
+            return new SolvabilityReport(result, true, wrongEntries, generation);
+        }
+        return new SolvabilityReport(snapshot.solve(solver, budget), false, 0, generation);
+    }
+    
+    /**
+     * Grades the clues and, when they have one solution, solves and caches it.
+     * @return {@link SolveResult#SOLVED} once the reference is known, otherwise why it is not
+     */
+    private SolveResult loadReference(int[] clueValues, SolveBudget budget) {
+        PuzzleGrade grade = PuzzleGrader.grade(clueValues);
+        if (!grade.isSolvable()) {
+            return SolveResult.UNSOLVABLE;
+        }
+        int[] solution = null;
+        if (grade.isUnique()) {
+            SudokuBoard board = new SudokuBoard(solver);
+            board.setValues(clueValues);
+            SolveResult result = solver.solve(board, budget, null);
+            if (!result.isSolved()) {
+                return result;
+            }
+            solution = board.getValues();
+        }
+        referenceClues = clueValues;
+        referenceSolution = solution;
+        return SolveResult.SOLVED;
+    }
+    
+    private static void countOutcome(SolveResult result) {
+        if (result == SolveResult.SOLVED) {
+            SOLVABLE_CHECKS.increment();
+        } else if (result == SolveResult.UNSOLVABLE) {
+            UNSOLVABLE_CHECKS.increment();
+        } else {
+            UNDECIDED_CHECKS.increment();
+        }
+    }
+    
+    private static Counter checks(String outcome) {
+        return MetricsRegistry.global().counter("sudoku_solvability_checks_total",
+                "Background solvability checks by outcome", "outcome", outcome);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * Outcome of one background check by {@link SolvabilityChecker}.
+ * @author zhuma
+ */
+public final class SolvabilityReport {
+    private final SolveResult result;
+    private final boolean unique;
+    private final int wrongEntries;
+    private final long generation;
+    
+    SolvabilityReport(SolveResult result, boolean unique, int wrongEntries, long generation) {
+        this.result = result;
+        this.unique = unique;
+        this.wrongEntries = wrongEntries;
+        this.generation = generation;
+    }
+    
+    /**
+     * Returns {@link SolveResult#SOLVED} when the board can still be completed,
+     * {@link SolveResult#UNSOLVABLE} when it cannot, and {@link SolveResult#TIMED_OUT} when the
+     * check ran out of time before deciding.
+     */
+    public SolveResult getResult() {
+        return result;
+    }
+    
+    public boolean isSolvable() {
+        return result.isSolved();
+    }
+    
+    /**
+     * Tells whether the locked clues have exactly one solution, so entries could be compared with it.
+     */
+    public boolean isUnique() {
+        return unique;
+    }
+    
+    /**
+     * Returns the number of entries that differ from the unique solution, or 0 if it is not unique.
+     */
+    public int getWrongEntries() {
+        return wrongEntries;
+    }
+    
+    long getGeneration() {
+        return generation;
+    }
+    
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("result", result)
+                .append("unique", unique)
+                .append("wrongEntries", wrongEntries)
+                .toString();
+    }
+}
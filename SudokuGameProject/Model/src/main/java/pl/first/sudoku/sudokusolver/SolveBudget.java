@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.time.Duration;
+
+/**
+ * Deadline and cancellation token for a solver run.
+ * A budget is exhausted once its deadline has passed or {@link #cancel()} was called from
+ * any thread. Solvers check it periodically, so a run stops shortly after, not exactly at,
+ * the deadline. One budget may be shared by several runs, e.g. all solves of one request.
+ * @author zhuma
+ */
+public final class SolveBudget {
+    private final long deadlineNanos;
+    private final boolean bounded;
+    private volatile boolean cancelled;
+    
+    private SolveBudget(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+    
+    /**
+     * Creates a budget without a deadline, which only ends when cancelled.
+     * @return new unbounded budget
+     */
+    public static SolveBudget unlimited() {
+        return new SolveBudget(0, false);
+    }
+    
+    /**
+     * Creates a budget that ends after the given time from now.
+     * @param timeout time allowed for solving
+     * @return new budget
+     */
+    public static SolveBudget of(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout must be a non-negative duration");
+        }
+        long nanos;
+        try {
+            nanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            return unlimited();
+        }
+        return new SolveBudget(System.nanoTime() + nanos, true);
+    }
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    public boolean hasDeadline() {
+        return bounded;
+    }
+    
+    public boolean isExhausted() {
+        return cancelled || bounded && System.nanoTime() - deadlineNanos >= 0;
+    }
+    
+    /**
+     * Returns the time left until the deadline.
+     * @return remaining time, zero when exhausted, or {@code Long.MAX_VALUE} without a deadline
+     */
+    public long getRemainingNanos() {
+        if (cancelled) {
+            return 0;
+        }
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Arrays;
+
+/**
+ * Search statistics of one instrumented solver run, returned next to its result.
+ * Depth is the number of cells the solver has filled on the current search path; the
+ * branching factor at a depth is the average number of placements tried per visit. A validity
+ * check is one candidate mask computed for a visited cell, which tests all digits at once; it
+ * takes a few nanoseconds, so checks are counted rather than timed.
+ * @author zhuma
+ */
+public final class SolveStats {
+    private final SolveResult result;
+    private final long nodes;
+    private final long backtracks;
+    private final int maxDepth;
+    private final long[] visitsPerDepth;
+    private final long[] childrenPerDepth;
+    private final long propagationHits;
+    private final long validityChecks;
+    private final long elapsedNanos;
+    
+    private SolveStats(Recorder recorder, SolveResult result, long elapsedNanos) {
+        this.result = result;
+        this.nodes = recorder.nodes;
+        this.backtracks = recorder.backtracks;
+        this.maxDepth = recorder.maxDepth;
+        this.visitsPerDepth = Arrays.copyOf(recorder.visitsPerDepth, recorder.maxDepth + 1);
+        this.childrenPerDepth = Arrays.copyOf(recorder.childrenPerDepth, recorder.maxDepth + 1);
+        this.propagationHits = recorder.propagationHits;
+        this.validityChecks = recorder.validityChecks;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public SolveResult getResult() {
+        return result;
+    }
+    
+    public boolean isSolved() {
+        return result.isSolved();
+    }
+    
+    /**
+     * Returns the number of placements made, including the ones later undone.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+    
+    public long getBacktracks() {
+        return backtracks;
+    }
+    
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+    
+    /**
+     * Returns the average number of placements tried per visit of the given depth.
+     * @param depth number of cells filled on the search path, 0 to {@link #getMaxDepth()}
+     * @return branching factor, 0 if the depth was never reached with an empty cell
+     */
+    public double getBranchingFactor(int depth) {
+        if (depth < 0 || depth >= visitsPerDepth.length || visitsPerDepth[depth] == 0) {
+            return 0;
+        }
+        return (double) childrenPerDepth[depth] / visitsPerDepth[depth];
+    }
+    
+    public double[] getBranchingFactors() {
+        double[] factors = new double[visitsPerDepth.length];
+        for (int depth = 0; depth < factors.length; depth++) {
+            factors[depth] = getBranchingFactor(depth);
+        }
+        return factors;
+    }
+    
+    /**
+     * Returns the number of candidate values pruned by the row, column and box constraints.
+     * The backtracking solver has no separate propagation step, so every digit excluded from a
+     * visited cell's candidate mask counts as a hit.
+     */
+    public long getPropagationHits() {
+        return propagationHits;
+    }
+    
+    /**
+     * Returns the number of candidate masks computed, one per visit of an empty cell.
+     */
+    public long getValidityChecks() {
+        return validityChecks;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("result", result)
+                .append("nodes", nodes)
+                .append("backtracks", backtracks)
+                .append("maxDepth", maxDepth)
+                .append("propagationHits", propagationHits)
+                .append("validityChecks", validityChecks)
+                .append("elapsedNanos", elapsedNanos)
+                .toString();
+    }
+    
+    /**
+     * Mutable counters filled in by a solver during one instrumented run.
+     */
+    static final class Recorder {
+        private final long[] visitsPerDepth;
+        private final long[] childrenPerDepth;
+        private long nodes;
+        private long backtracks;
+        private int maxDepth;
+        private long propagationHits;
+        private long validityChecks;
+        
+        Recorder(int maxCells) {
+            this.visitsPerDepth = new long[maxCells + 1];
+            this.childrenPerDepth = new long[maxCells + 1];
+        }
+        
+        void visit(int depth, int excludedCandidates) {
+            visitsPerDepth[depth]++;
+            validityChecks++;
+            propagationHits += excludedCandidates;
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+        }
+        
+        void place(int depth) {
+            childrenPerDepth[depth]++;
+            nodes++;
+            if (depth + 1 > maxDepth) {
+                maxDepth = depth + 1;
+            }
+        }
+        
+        void backtrack() {
+            backtracks++;
+        }
+        
+        SolveStats toStats(SolveResult result, long elapsedNanos) {
+            return new SolveStats(this, result, elapsedNanos);
+        }
+    }
+}
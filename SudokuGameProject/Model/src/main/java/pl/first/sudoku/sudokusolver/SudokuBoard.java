@@ -28,14 +28,20 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import pl.first.sudoku.jfr.ValidateEvent;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * SudokuBoard class represents a 9x9 Sudoku puzzle board.
  * It provides methods to generate and access a valid Sudoku board.
+ * Bulk changes can be grouped between {@link #beginUpdate()} and {@link #commitUpdate()}, so
+ * {@link BoardChangeListener}s receive one coalesced {@link BoardChange} instead of one event per write.
  * @author zhuma
  */
 public class SudokuBoard implements Serializable, Cloneable {
@@ -46,6 +52,9 @@ public class SudokuBoard implements Serializable, Cloneable {
     
     private List<SudokuField> board;
     private SudokuSolver solver;
+    private transient List<BoardChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private transient int updateDepth;
+    private transient int[] valuesBeforeUpdate;
     
     public SudokuBoard(SudokuSolver solver) {
         this.solver = solver;
@@ -63,8 +72,17 @@ public class SudokuBoard implements Serializable, Cloneable {
         return row * BOARD_SIZE + col;
     }
     
+    /**
+     * Solves the board in one update, so trial placements of the solver are not published.
+     * @return true if the board was solved
+     */
     public boolean solveGame() {
-        return solver.solve(this);
+        beginUpdate();
+        try {
+            return solver.solve(this);
+        } finally {
+            commitUpdate();
+        }
     }
     
     public int getValueAt(int row, int col) {
@@ -75,7 +93,87 @@ public class SudokuBoard implements Serializable, Cloneable {
         if (value < NO_VALUE || value > 9) {
             throw new IllegalArgumentException("Value must be between 0 and 9");
         }
-        board.get(getIndex(row, col)).setFieldValue(value);
+        int index = getIndex(row, col);
+        SudokuField field = board.get(index);
+        if (updateDepth > 0) {
+            field.setFieldValueQuietly(value);
+            return;
+        }
+        int oldValue = field.getFieldValue();
+        field.setFieldValue(value);
+        if (oldValue != value && !changeListeners.isEmpty()) {
+            publish(new BoardChange(this, new int[] {index}, new int[] {oldValue}, new int[] {value}));
+        }
+    }
+    
+    /**
+     * Starts a bulk update. Until the matching {@link #commitUpdate()} writes through the board
+     * notify neither field listeners nor board listeners. Updates may be nested; only the
+     * outermost commit publishes.
+     */
+    public void beginUpdate() {
+        if (updateDepth++ == 0) {
+            valuesBeforeUpdate = getValues();
+        }
+    }
+    
+    /**
+     * Ends a bulk update. The outermost commit sends one {@link BoardChange} with every cell whose
+     * value differs from before the update, or nothing if no value changed.
+     */
+    public void commitUpdate() {
+        if (updateDepth == 0) {
+            throw new IllegalStateException("No board update in progress");
+        }
+        if (--updateDepth > 0) {
+            return;
+        }
+        int[] before = valuesBeforeUpdate;
+        valuesBeforeUpdate = null;
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        int changed = 0;
+        for (int i = 0; i < before.length; i++) {
+            if (board.get(i).getFieldValue() != before[i]) {
+                changed++;
+            }
+        }
+        if (changed == 0) {
+            return;
+        }
+        int[] cells = new int[changed];
+        int[] oldValues = new int[changed];
+        int[] newValues = new int[changed];
+        int next = 0;
+        for (int i = 0; i < before.length; i++) {
+            int value = board.get(i).getFieldValue();
+            if (value != before[i]) {
+                cells[next] = i;
+                oldValues[next] = before[i];
+                newValues[next] = value;
+                next++;
+            }
+        }
+        publish(new BoardChange(this, cells, oldValues, newValues));
+    }
+    
+    public boolean isUpdating() {
+        return updateDepth > 0;
+    }
+    
+    public void addBoardChangeListener(BoardChangeListener listener) {
+        changeListeners.add(listener);
+    }
+    
+    public void removeBoardChangeListener(BoardChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+    
+    private void publish(BoardChange change) {
+        for (BoardChangeListener listener : changeListeners) {
+            listener.onBoardChanged(change);
+        }
     }
     
     public SudokuRow getRow(int y) {
@@ -91,6 +189,18 @@ public class SudokuBoard implements Serializable, Cloneable {
     }
     
     public boolean isValid() {
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
+        boolean valid = verifyAll();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setValid(valid);
+            event.commit();
+        }
+        return valid;
+    }
+    
+    private boolean verifyAll() {
         for (int row = 0; row < BOARD_SIZE; row++) {
             if (!getRow(row).verify()) {
                 return false;
@@ -122,6 +232,41 @@ public class SudokuBoard implements Serializable, Cloneable {
         return board.get(getIndex(row, col));
     }
     
+    /**
+     * Returns a row-major copy of all cell values.
+     * @return array of 81 values, 0 for empty cells
+     */
+    public int[] getValues() {
+        int[] values = new int[BOARD_SIZE * BOARD_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = board.get(i).getFieldValue();
+        }
+        return values;
+    }
+    
+    /**
+     * Overwrites all cell values from a row-major array in one update.
+     * @param values array of 81 values, 0 for empty cells
+     */
+    public void setValues(int[] values) {
+        if (values == null || values.length != BOARD_SIZE * BOARD_SIZE) {
+            throw new IllegalArgumentException("Values array must contain exactly 81 elements");
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < NO_VALUE || values[i] > 9) {
+                throw new IllegalArgumentException("Value must be between 0 and 9");
+            }
+        }
+        beginUpdate();
+        try {
+            for (int i = 0; i < values.length; i++) {
+                board.get(i).setFieldValueQuietly(values[i]);
+            }
+        } finally {
+            commitUpdate();
+        }
+    }
+    
     @Override
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
@@ -144,6 +289,9 @@ public class SudokuBoard implements Serializable, Cloneable {
         try {
             SudokuBoard cloned = (SudokuBoard) super.clone();
             cloned.board = new ArrayList<>(BOARD_SIZE * BOARD_SIZE);
+            cloned.changeListeners = new CopyOnWriteArrayList<>();
+            cloned.updateDepth = 0;
+            cloned.valuesBeforeUpdate = null;
 
             for (int i = 0; i < BOARD_SIZE * BOARD_SIZE; i++) {
                 cloned.board.add(this.board.get(i).clone());
@@ -154,4 +302,9 @@ public class SudokuBoard implements Serializable, Cloneable {
             throw new InternalError("Should not happen since we implement Cloneable", e);
         }
     }
+    
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        changeListeners = new CopyOnWriteArrayList<>();
+    }
 }
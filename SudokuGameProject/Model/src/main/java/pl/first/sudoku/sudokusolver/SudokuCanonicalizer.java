@@ -0,0 +1,817 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import java.util.Arrays;
+
+/**
+ * Computes the canonical (minimal lexicographic) form of a Sudoku grid.
+ * Two grids share a canonical form exactly when one can be turned into the other by
+ * transposition, band and stack swaps, row and column swaps inside bands and stacks,
+ * and digit relabeling. Empty cells sort before any digit.
+ * 
+ * <p>The search never enumerates the whole group. After relabeling, the first row of a line
+ * only depends on how many empty cells each of its stacks holds, so the canonical first row
+ * is known before any search and rows that cannot produce it are skipped. For every
+ * remaining orientation, first row and second row of the same band, the column order is
+ * built position by position, keeping the first row canonical and pruning against the
+ * best grid found so far on the second row, whose values follow from where each digit sits
+ * in the first row. Only column orders that tie with the best grid reach the row search,
+ * which is again branch-and-bound. Columns empty in both first rows are not ordered yet:
+ * each run of them in a stack stays a cell of interchangeable columns, and every further row
+ * splits the cells by its relabeled values, so sparse grids refine one partition instead of
+ * searching every order of their blank columns. Empty lines of one band or stack are
+ * interchangeable, so only one order of them is tried. Solved grids with a band whose rows
+ * share their digit triples start only from such bands. Grids that repeat a digit within a
+ * line fall back to pruning on the relabeled first row alone. Instances reuse their scratch
+ * buffers and are not thread-safe; the static methods use one instance per thread.
+ * @author zhuma
+ */
+public final class SudokuCanonicalizer {
+    private static final int BOARD_SIZE = 9;
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final int UNSET = -1;
+    /** Orders of one, two and three columns, indexed by their count. */
+    private static final int[][][] ORDERS = {
+        {},
+        {{0}},
+        {{0, 1}, {1, 0}},
+        {{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}}
+    };
+    private static final ThreadLocal<SudokuCanonicalizer> INSTANCES =
+            ThreadLocal.withInitial(SudokuCanonicalizer::new);
+    
+    private final int[] straight = new int[CELL_COUNT];
+    private final int[] transposedCells = new int[CELL_COUNT];
+    private final int[] best = new int[CELL_COUNT];
+    private final int[][] maps = new int[BOARD_SIZE + 1][BOARD_SIZE + 1];
+    private final int[] nextLabels = new int[BOARD_SIZE + 1];
+    private final int[] rowPath = new int[BOARD_SIZE];
+    private final int[] bestRowPath = new int[BOARD_SIZE];
+    private final int[] bestColOrder = new int[BOARD_SIZE];
+    
+    private final int[] cols = new int[BOARD_SIZE];
+    private final int[] positionOf = new int[BOARD_SIZE];
+    private final int[] slotStack = new int[SUBSECTION_SIZE];
+    private final int[] stackSlot = new int[SUBSECTION_SIZE];
+    private final int[][] columnMaps = new int[BOARD_SIZE + 1][BOARD_SIZE + 1];
+    private final int[] columnOfDigit = new int[BOARD_SIZE + 1];
+    private final int[] stackZeros = new int[SUBSECTION_SIZE];
+    private final int[] slotZeros = new int[SUBSECTION_SIZE];
+    private final int[] firstRowLabels = new int[BOARD_SIZE];
+    private final int[][] orders = new int[BOARD_SIZE + 1][];
+    private final int[][] orderBuffers = new int[BOARD_SIZE + 1][BOARD_SIZE];
+    private final int[] joins = new int[BOARD_SIZE + 1];
+    private final int[][] freshColumns = new int[BOARD_SIZE][BOARD_SIZE];
+    
+    private int[] grid;
+    private boolean transposed;
+    private boolean complete;
+    private int firstRow;
+    private int secondRow;
+    private int validDepth;
+    private int firstRowDigits;
+    private int usedRows;
+    private int placedColumns;
+    private int emptyRows;
+    private int emptyColumns;
+    private boolean bestTransposed;
+    /** Writes of the first two best rows; a column search whose subtree wrote them only ties afterwards. */
+    private int leadingRowWrites;
+    
+    /**
+     * Computes the canonical form and the transform that produces it.
+     * @param cells row-major array of 81 values, 0 for empty cells
+     * @return canonical form of the cells
+     */
+    public CanonicalForm canonicalForm(int[] cells) {
+        if (cells == null || cells.length != CELL_COUNT) {
+            throw new IllegalArgumentException("Cell arrays must contain exactly 81 elements");
+        }
+        System.arraycopy(cells, 0, straight, 0, CELL_COUNT);
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                transposedCells[col * BOARD_SIZE + row] = cells[row * BOARD_SIZE + col];
+            }
+        }
+        boolean distinct = hasDistinctLines(cells);
+        int profile = distinct ? writeFirstRow() : UNSET;
+        complete = profile == 0;
+        boolean pureOnly = complete && (pureBands(straight) | pureBands(transposedCells)) != 0;
+        
+        validDepth = distinct ? 1 : 0;
+        for (int t = 0; t < 2; t++) {
+            grid = t == 0 ? straight : transposedCells;
+            transposed = t == 1;
+            emptyRows = emptyRows(grid);
+            emptyColumns = emptyRows(t == 0 ? transposedCells : straight);
+            int bands = pureOnly ? pureBands(grid) : (1 << SUBSECTION_SIZE) - 1;
+            for (int row = 0; row < BOARD_SIZE; row++) {
+                firstRow = row;
+                if (repeatsEmptyLine(row, emptyRows, 0)) {
+                    continue;
+                }
+                if (distinct) {
+                    if (zeroProfile(grid, row) != profile || (bands >> (row / SUBSECTION_SIZE) & 1) == 0) {
+                        continue;
+                    }
+                    Arrays.fill(columnOfDigit, UNSET);
+                    Arrays.fill(stackZeros, 0);
+                    for (int col = 0; col < BOARD_SIZE; col++) {
+                        int value = grid[row * BOARD_SIZE + col];
+                        if (value == 0) {
+                            stackZeros[col / SUBSECTION_SIZE]++;
+                        } else {
+                            columnOfDigit[value] = col;
+                        }
+                    }
+                    int bandStart = row - row % SUBSECTION_SIZE;
+                    for (int second = bandStart; second < bandStart + SUBSECTION_SIZE; second++) {
+                        if (second != row && !repeatsEmptyLine(second, emptyRows, 1 << row)) {
+                            secondRow = second;
+                            resetColumns();
+                            searchSecondRowColumns(0, 0, false);
+                        }
+                    }
+                } else {
+                    secondRow = UNSET;
+                    resetColumns();
+                    searchFirstRowColumns(0, false);
+                }
+            }
+        }
+        
+        SudokuTransform transform = new SudokuTransform(bestTransposed, bestRowPath, bestColOrder,
+                firstAppearanceMap(cells, bestTransposed, bestRowPath, bestColOrder));
+        return new CanonicalForm(best, transform);
+    }
+    
+    private void resetColumns() {
+        Arrays.fill(cols, UNSET);
+        Arrays.fill(positionOf, UNSET);
+        Arrays.fill(slotStack, UNSET);
+        Arrays.fill(stackSlot, UNSET);
+        placedColumns = 0;
+    }
+    
+    private static int emptyRows(int[] grid) {
+        int mask = 0;
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            int digits = 0;
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                digits |= grid[row * BOARD_SIZE + col];
+            }
+            if (digits == 0) {
+                mask |= 1 << row;
+            }
+        }
+        return mask;
+    }
+    
+    /**
+     * Checks whether an empty line can be skipped because an earlier empty line of the same
+     * band or stack is still free. Swapping two empty lines leaves the grid unchanged, so
+     * trying both would only repeat the same search.
+     */
+    private static boolean repeatsEmptyLine(int line, int emptyLines, int usedLines) {
+        if ((emptyLines >> line & 1) == 0) {
+            return false;
+        }
+        int earlier = (1 << line) - (1 << (line - line % SUBSECTION_SIZE));
+        return (emptyLines & earlier & ~usedLines) != 0;
+    }
+    
+    /**
+     * Finds the bands of a solved grid whose rows split the digits into the same three triples.
+     * Taking the first two rows from such a band gives the second row 456789123, while any other
+     * band puts digits of two stacks into the first stack and starts the second row with 457 or
+     * more, so grids with such a band only need to start from one.
+     * @return mask of the pure bands
+     */
+    private static int pureBands(int[] grid) {
+        int mask = 0;
+        for (int band = 0; band < SUBSECTION_SIZE; band++) {
+            int first = band * SUBSECTION_SIZE * BOARD_SIZE;
+            int triple = 0;
+            for (int col = 0; col < SUBSECTION_SIZE; col++) {
+                triple |= 1 << grid[first + BOARD_SIZE + col];
+            }
+            for (int stack = 0; stack < SUBSECTION_SIZE; stack++) {
+                int start = first + stack * SUBSECTION_SIZE;
+                if ((1 << grid[start] | 1 << grid[start + 1] | 1 << grid[start + 2]) == triple) {
+                    mask |= 1 << band;
+                }
+            }
+        }
+        return mask;
+    }
+    
+    private static boolean hasDistinctLines(int[] cells) {
+        for (int line = 0; line < BOARD_SIZE; line++) {
+            int rowDigits = 0;
+            int colDigits = 0;
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                int rowBit = (1 << cells[line * BOARD_SIZE + i]) & ~1;
+                int colBit = (1 << cells[i * BOARD_SIZE + line]) & ~1;
+                if ((rowDigits & rowBit) != 0 || (colDigits & colBit) != 0) {
+                    return false;
+                }
+                rowDigits |= rowBit;
+                colDigits |= colBit;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Encodes the empty cell counts of a row's stacks, largest first, so that a larger
+     * profile relabels to a smaller first row: its stacks are ordered by descending count
+     * and every stack lists its empty cells before its digits.
+     */
+    private static int zeroProfile(int[] grid, int row) {
+        int first = 0;
+        int second = 0;
+        int third = 0;
+        for (int col = 0; col < SUBSECTION_SIZE; col++) {
+            first += grid[row * BOARD_SIZE + col] == 0 ? 1 : 0;
+            second += grid[row * BOARD_SIZE + col + SUBSECTION_SIZE] == 0 ? 1 : 0;
+            third += grid[row * BOARD_SIZE + col + 2 * SUBSECTION_SIZE] == 0 ? 1 : 0;
+        }
+        int largest = Math.max(first, Math.max(second, third));
+        int smallest = Math.min(first, Math.min(second, third));
+        return largest * 16 + (first + second + third - largest - smallest) * 4 + smallest;
+    }
+    
+    /**
+     * Writes the canonical first row, which needs no search for grids without repeated digits.
+     * @return zero profile a first row needs to produce it
+     */
+    private int writeFirstRow() {
+        int profile = 0;
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            profile = Math.max(profile, Math.max(zeroProfile(straight, row), zeroProfile(transposedCells, row)));
+        }
+        int label = 0;
+        for (int slot = 0; slot < SUBSECTION_SIZE; slot++) {
+            slotZeros[slot] = profile >> (2 * (SUBSECTION_SIZE - 1 - slot)) & 3;
+            for (int i = 0; i < SUBSECTION_SIZE; i++) {
+                int position = slot * SUBSECTION_SIZE + i;
+                firstRowLabels[position] = i < slotZeros[slot] ? 0 : ++label;
+                best[position] = firstRowLabels[position];
+            }
+        }
+        firstRowDigits = label;
+        return profile;
+    }
+    
+    /**
+     * Builds column orders for a partial grid, pruning on the relabeled first row.
+     */
+    private void searchFirstRowColumns(int position, boolean improved) {
+        if (position == BOARD_SIZE) {
+            searchFromColumns();
+            return;
+        }
+        int slot = position / SUBSECTION_SIZE;
+        int[] parentMap = columnMaps[position];
+        int[] map = columnMaps[position + 1];
+        
+        for (int col = 0; col < BOARD_SIZE; col++) {
+            if (positionOf[col] != UNSET || !fitsSlot(col, slot)
+                    || repeatsEmptyLine(col, emptyColumns, placedColumns)) {
+                continue;
+            }
+            System.arraycopy(parentMap, 0, map, 0, BOARD_SIZE + 1);
+            int value = grid[firstRow * BOARD_SIZE + col];
+            if (value != 0) {
+                if (map[value] == 0) {
+                    map[value] = ++map[0];
+                }
+                value = map[value];
+            }
+            boolean better = improved || validDepth == 0;
+            if (!better) {
+                if (value > best[position]) {
+                    continue;
+                }
+                better = value < best[position];
+            }
+            int writes = leadingRowWrites;
+            boolean claimed = place(col, position);
+            searchFirstRowColumns(position + 1, better);
+            unplace(col, claimed);
+            improved &= writes == leadingRowWrites;
+        }
+    }
+    
+    /**
+     * Builds column orders that keep the first row canonical, pruning on the second row.
+     * A digit the second row shares with the first is labeled by its column's position in the
+     * first row, so that column is placed as early as the band structure allows; other digits
+     * are labeled after all digits of the first row, in order of appearance.
+     * @param newLabels digits of the second row before this position missing from the first row
+     */
+    private void searchSecondRowColumns(int position, int newLabels, boolean improved) {
+        if (position == BOARD_SIZE) {
+            searchFromColumns();
+            return;
+        }
+        if (cols[position] != UNSET) {
+            scoreSecondRow(position, cols[position], newLabels, improved);
+            return;
+        }
+        int slot = position / SUBSECTION_SIZE;
+        boolean empty = position % SUBSECTION_SIZE < slotZeros[slot];
+        int first = slotStack[slot] == UNSET ? 0 : slotStack[slot] * SUBSECTION_SIZE;
+        int last = slotStack[slot] == UNSET ? BOARD_SIZE : first + SUBSECTION_SIZE;
+        for (int col = first; col < last; col++) {
+            if (positionOf[col] == UNSET && (grid[firstRow * BOARD_SIZE + col] == 0) == empty
+                    && fitsSlot(col, slot) && !repeatsEmptyLine(col, emptyColumns, placedColumns)
+                    && !(empty && isDeferred(col))) {
+                int writes = leadingRowWrites;
+                boolean claimed = place(col, position);
+                scoreSecondRow(position, col, newLabels, improved);
+                unplace(col, claimed);
+                improved &= writes == leadingRowWrites;
+            }
+        }
+    }
+    
+    /**
+     * Checks whether a column empty in the first row has to wait for a blank column of its stack,
+     * one empty in both first rows. Blank columns give the smallest second row when they lead
+     * the empty cells of their slot, and any order of them gives the same two rows, so they are
+     * placed first and in column order; the row search orders them once later rows differ.
+     */
+    private boolean isDeferred(int col) {
+        int end = isBlank(col) ? col : col - col % SUBSECTION_SIZE + SUBSECTION_SIZE;
+        for (int other = col - col % SUBSECTION_SIZE; other < end; other++) {
+            if (other != col && positionOf[other] == UNSET && isBlank(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isBlank(int col) {
+        return grid[firstRow * BOARD_SIZE + col] == 0 && grid[secondRow * BOARD_SIZE + col] == 0;
+    }
+    
+    private void scoreSecondRow(int position, int col, int newLabels, boolean improved) {
+        int digit = grid[secondRow * BOARD_SIZE + col];
+        int target = digit == 0 ? UNSET : columnOfDigit[digit];
+        int value = 0;
+        int nextNewLabels = newLabels;
+        boolean forced = false;
+        boolean claimed = false;
+        if (target != UNSET) {
+            if (positionOf[target] == UNSET) {
+                forced = true;
+                claimed = place(target, firstFreePosition(target));
+            }
+            value = firstRowLabels[positionOf[target]];
+        } else if (digit != 0) {
+            value = firstRowDigits + ++nextNewLabels;
+        }
+        boolean better = improved || validDepth < 2;
+        boolean pruned = false;
+        if (!better) {
+            int current = best[BOARD_SIZE + position];
+            pruned = value > current;
+            better = value < current;
+        }
+        if (!pruned) {
+            searchSecondRowColumns(position + 1, nextNewLabels, better);
+        }
+        if (forced) {
+            unplace(target, claimed);
+        }
+    }
+    
+    /**
+     * Returns the first free position for a column holding a digit in the first row: after the
+     * empty cells of its stack's slot, or of the first free slot that takes its stack.
+     */
+    private int firstFreePosition(int col) {
+        int stack = col / SUBSECTION_SIZE;
+        int slot = stackSlot[stack];
+        if (slot == UNSET) {
+            slot = 0;
+            while (slotStack[slot] != UNSET || slotZeros[slot] != stackZeros[stack]) {
+                slot++;
+            }
+        }
+        int position = slot * SUBSECTION_SIZE + slotZeros[slot];
+        while (cols[position] != UNSET) {
+            position++;
+        }
+        return position;
+    }
+    
+    /**
+     * Checks whether a column may go to a slot. While the first row is searched for, any free
+     * stack fits a free slot; afterwards only stacks with as many empty cells as the slot needs.
+     */
+    private boolean fitsSlot(int col, int slot) {
+        int stack = col / SUBSECTION_SIZE;
+        if (slotStack[slot] != UNSET) {
+            return slotStack[slot] == stack;
+        }
+        return stackSlot[stack] == UNSET && (secondRow == UNSET || stackZeros[stack] == slotZeros[slot]);
+    }
+    
+    private boolean place(int col, int position) {
+        cols[position] = col;
+        positionOf[col] = position;
+        placedColumns |= 1 << col;
+        int stack = col / SUBSECTION_SIZE;
+        if (stackSlot[stack] == UNSET) {
+            stackSlot[stack] = position / SUBSECTION_SIZE;
+            slotStack[position / SUBSECTION_SIZE] = stack;
+            return true;
+        }
+        return false;
+    }
+    
+    private void unplace(int col, boolean claimedStack) {
+        int position = positionOf[col];
+        cols[position] = UNSET;
+        positionOf[col] = UNSET;
+        placedColumns &= ~(1 << col);
+        if (claimedStack) {
+            int stack = col / SUBSECTION_SIZE;
+            slotStack[stackSlot[stack]] = UNSET;
+            stackSlot[stack] = UNSET;
+        }
+    }
+    
+    /**
+     * Runs the row search for a complete column order with the first rows already fixed.
+     */
+    private void searchFromColumns() {
+        int joined = 0;
+        if (secondRow != UNSET) {
+            for (int position = 1; position < BOARD_SIZE; position++) {
+                if (position % SUBSECTION_SIZE != 0 && isBlank(cols[position - 1]) && isBlank(cols[position])) {
+                    joined |= 1 << position;
+                }
+            }
+        }
+        orders[1] = cols;
+        orders[2] = cols;
+        joins[1] = joined;
+        joins[2] = joined;
+        nextLabels[0] = 1;
+        int result = placeRow(0, firstRow, cols);
+        if (result > 0) {
+            return;
+        }
+        if (result < 0) {
+            leadingRowWrites++;
+        }
+        rowPath[0] = firstRow;
+        usedRows = 1 << firstRow;
+        boolean improved = result < 0;
+        if (secondRow == UNSET) {
+            searchRow(1, improved);
+            return;
+        }
+        int second = placeRow(1, secondRow, cols);
+        if (second > 0) {
+            return;
+        }
+        if (second < 0) {
+            leadingRowWrites++;
+        }
+        rowPath[1] = secondRow;
+        usedRows |= 1 << secondRow;
+        if (complete) {
+            placeRemainingRows(improved || second < 0);
+        } else {
+            searchRow(2, improved || second < 0);
+        }
+    }
+    
+    /**
+     * Completes the row order of a full grid without search. The first row labels every digit
+     * and no two rows share a digit in a column, so the smallest order sorts the rows of each
+     * band by their first cell and the last two bands by their smallest first cell.
+     */
+    private void placeRemainingRows(boolean improved) {
+        int firstBand = firstRow / SUBSECTION_SIZE;
+        rowPath[2] = firstBand * BOARD_SIZE + SUBSECTION_SIZE - firstRow - secondRow;
+        int band = (firstBand + 1) % SUBSECTION_SIZE;
+        int other = (firstBand + 2) % SUBSECTION_SIZE;
+        if (leadingLabel(sortBand(band, SUBSECTION_SIZE)) > leadingLabel(sortBand(other, 2 * SUBSECTION_SIZE))) {
+            sortBand(band, 2 * SUBSECTION_SIZE);
+            sortBand(other, SUBSECTION_SIZE);
+        }
+        for (int depth = 2; depth < BOARD_SIZE; depth++) {
+            int result = placeRow(depth, rowPath[depth], cols);
+            if (result > 0) {
+                return;
+            }
+            improved |= result < 0;
+        }
+        if (improved) {
+            recordBest(cols);
+        }
+    }
+    
+    private void recordBest(int[] order) {
+        System.arraycopy(rowPath, 0, bestRowPath, 0, BOARD_SIZE);
+        System.arraycopy(order, 0, bestColOrder, 0, BOARD_SIZE);
+        bestTransposed = transposed;
+    }
+    
+    /**
+     * Writes the rows of a band to {@code rowPath} from {@code depth} on, by their first cell.
+     * @return the first row written
+     */
+    private int sortBand(int band, int depth) {
+        int start = band * SUBSECTION_SIZE;
+        for (int i = 0; i < SUBSECTION_SIZE; i++) {
+            int row = start + i;
+            int position = depth + i;
+            while (position > depth && leadingLabel(rowPath[position - 1]) > leadingLabel(row)) {
+                rowPath[position] = rowPath[position - 1];
+                position--;
+            }
+            rowPath[position] = row;
+        }
+        return rowPath[depth];
+    }
+    
+    private int leadingLabel(int row) {
+        return maps[1][grid[row * BOARD_SIZE + cols[0]]];
+    }
+    
+    private void searchRow(int depth, boolean improved) {
+        if (depth == BOARD_SIZE) {
+            if (improved) {
+                recordBest(orders[depth]);
+            }
+            return;
+        }
+        
+        int offset = depth % SUBSECTION_SIZE;
+        int firstBand = offset == 0 ? 0 : rowPath[depth - offset] / SUBSECTION_SIZE;
+        int lastBand = offset == 0 ? SUBSECTION_SIZE - 1 : firstBand;
+        
+        for (int band = firstBand; band <= lastBand; band++) {
+            for (int row = band * SUBSECTION_SIZE; row < band * SUBSECTION_SIZE + SUBSECTION_SIZE; row++) {
+                int bit = 1 << row;
+                if ((usedRows & bit) != 0 || (offset == 0 && (usedRows & (7 << (band * SUBSECTION_SIZE))) != 0)
+                        || repeatsEmptyLine(row, emptyRows, usedRows)) {
+                    continue;
+                }
+                if (joins[depth] != 0) {
+                    usedRows |= bit;
+                    rowPath[depth] = row;
+                    System.arraycopy(maps[depth], 0, maps[depth + 1], 0, BOARD_SIZE + 1);
+                    arrangeRow(depth, 0, nextLabels[depth], 0, depth >= validDepth, improved);
+                    usedRows &= ~bit;
+                    continue;
+                }
+                int result = placeRow(depth, row, orders[depth]);
+                if (result > 0) {
+                    continue;
+                }
+                usedRows |= bit;
+                rowPath[depth] = row;
+                orders[depth + 1] = orders[depth];
+                joins[depth + 1] = 0;
+                searchRow(depth + 1, improved || result < 0);
+                usedRows &= ~bit;
+            }
+        }
+    }
+    
+    /**
+     * Places row {@code rowPath[depth]} from the given position on under a column order whose
+     * cells, runs of positions marked in {@code joins[depth]}, may still be ordered freely, then
+     * continues the row search with the refined order. A cell lists its empty cells first, which
+     * stay one cell, then its labeled digits by label, then its unlabeled digits; these take the
+     * next labels in any order, so every order of them is tried.
+     * @param joined positions before {@code position} that share a cell with their predecessor
+     * @param writing whether the grid is already smaller than the best one before this position
+     */
+    private void arrangeRow(int depth, int position, int nextLabel, int joined, boolean writing, boolean improved) {
+        int[] order = orders[depth];
+        int[] arranged = orderBuffers[depth + 1];
+        int[] fresh = freshColumns[depth];
+        int[] map = maps[depth + 1];
+        int base = rowPath[depth] * BOARD_SIZE;
+        int target = depth * BOARD_SIZE;
+        
+        while (position < BOARD_SIZE) {
+            int end = position + 1;
+            while (end < BOARD_SIZE && (joins[depth] >> end & 1) != 0) {
+                end++;
+            }
+            int filled = position;
+            for (int p = position; p < end; p++) {
+                if (grid[base + order[p]] == 0) {
+                    if (filled > position) {
+                        joined |= 1 << filled;
+                    }
+                    arranged[filled++] = order[p];
+                }
+            }
+            int labeledStart = filled;
+            for (int p = position; p < end; p++) {
+                int label = map[grid[base + order[p]]];
+                if (label != 0) {
+                    int i = filled++;
+                    while (i > labeledStart && map[grid[base + arranged[i - 1]]] > label) {
+                        arranged[i] = arranged[i - 1];
+                        i--;
+                    }
+                    arranged[i] = order[p];
+                }
+            }
+            int freshStart = filled;
+            for (int p = position; p < end; p++) {
+                int digit = grid[base + order[p]];
+                if (digit != 0 && map[digit] == 0) {
+                    fresh[filled] = order[p];
+                    arranged[filled++] = order[p];
+                }
+            }
+            
+            for (int p = position; p < end; p++) {
+                int value = p < labeledStart ? 0
+                        : p < freshStart ? map[grid[base + arranged[p]]] : nextLabel + p - freshStart;
+                if (!writing) {
+                    int current = best[target + p];
+                    if (value > current) {
+                        return;
+                    }
+                    writing = value < current;
+                }
+                if (writing) {
+                    best[target + p] = value;
+                }
+            }
+            
+            int freshCount = end - freshStart;
+            if (freshCount > 1) {
+                for (int[] freshOrder : ORDERS[freshCount]) {
+                    for (int i = 0; i < freshCount; i++) {
+                        int col = fresh[freshStart + freshOrder[i]];
+                        arranged[freshStart + i] = col;
+                        map[grid[base + col]] = nextLabel + i;
+                    }
+                    arrangeRow(depth, end, nextLabel + freshCount, joined, writing, improved);
+                    // A written branch leaves its row prefix in the best grid, so the next ones compare.
+                    writing = false;
+                    for (int digit = 1; digit <= BOARD_SIZE; digit++) {
+                        if (map[digit] >= nextLabel) {
+                            map[digit] = 0;
+                        }
+                    }
+                }
+                return;
+            }
+            if (freshCount == 1) {
+                map[grid[base + arranged[freshStart]]] = nextLabel++;
+            }
+            position = end;
+        }
+        
+        nextLabels[depth + 1] = nextLabel;
+        if (writing) {
+            validDepth = depth + 1;
+        }
+        orders[depth + 1] = arranged;
+        joins[depth + 1] = joined;
+        searchRow(depth + 1, improved || writing);
+    }
+    
+    /**
+     * Relabels a candidate row and compares it with row {@code depth} of the best grid.
+     * Rows that are smaller, or that extend a best grid known only up to this depth, are written.
+     * @return negative if written as a new best row, 0 if equal, positive if greater
+     */
+    private int placeRow(int depth, int row, int[] order) {
+        int[] parentMap = maps[depth];
+        int[] map = maps[depth + 1];
+        System.arraycopy(parentMap, 0, map, 0, BOARD_SIZE + 1);
+        int nextLabel = nextLabels[depth];
+        int base = row * BOARD_SIZE;
+        int target = depth * BOARD_SIZE;
+        boolean writing = depth >= validDepth;
+        
+        for (int col = 0; col < BOARD_SIZE; col++) {
+            int value = grid[base + order[col]];
+            if (value != 0) {
+                int label = map[value];
+                if (label == 0) {
+                    label = nextLabel++;
+                    map[value] = label;
+                }
+                value = label;
+            }
+            if (!writing) {
+                int current = best[target + col];
+                if (value > current) {
+                    return 1;
+                }
+                writing = value < current;
+            }
+            if (writing) {
+                best[target + col] = value;
+            }
+        }
+        
+        nextLabels[depth + 1] = nextLabel;
+        if (writing) {
+            validDepth = depth + 1;
+            return -1;
+        }
+        return 0;
+    }
+    
+    /**
+     * Computes the canonical form using the calling thread's canonicalizer.
+     * @param cells row-major array of 81 values, 0 for empty cells
+     * @return canonical form of the cells
+     */
+    public static CanonicalForm of(int[] cells) {
+        return INSTANCES.get().canonicalForm(cells);
+    }
+    
+    public static CanonicalForm of(SudokuBoard board) {
+        return of(board.getValues());
+    }
+    
+    /**
+     * Finds a transform mapping the given cells to their canonical form.
+     * @param cells row-major array of 81 values, 0 for empty cells
+     * @return transform whose {@link SudokuTransform#apply(int[])} yields the canonical cells
+     */
+    public static SudokuTransform canonicalTransform(int[] cells) {
+        return of(cells).getTransform();
+    }
+    
+    public static SudokuTransform canonicalTransform(SudokuBoard board) {
+        return canonicalTransform(board.getValues());
+    }
+    
+    public static int[] canonicalize(SudokuBoard board) {
+        return of(board).getCells();
+    }
+    
+    /**
+     * Returns the canonical form as an 81 character string of digits.
+     * @param board board to canonicalize
+     * @return canonical key, identical for all equivalent boards
+     */
+    public static String canonicalKey(SudokuBoard board) {
+        return of(board).getKey();
+    }
+    
+    private static int[] firstAppearanceMap(int[] cells, boolean transposed, int[] rows, int[] cols) {
+        int[] map = new int[BOARD_SIZE + 1];
+        int nextLabel = 1;
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                int value = transposed
+                        ? cells[cols[col] * BOARD_SIZE + rows[row]]
+                        : cells[rows[row] * BOARD_SIZE + cols[col]];
+                if (value != 0 && map[value] == 0) {
+                    map[value] = nextLabel++;
+                }
+            }
+        }
+        for (int digit = 1; digit <= BOARD_SIZE; digit++) {
+            if (map[digit] == 0) {
+                map[digit] = nextLabel++;
+            }
+        }
+        return map;
+    }
+}
@@ -24,71 +24,53 @@
 
 package pl.first.sudoku.sudokusolver;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 /**
  * Class representing a single field in a Sudoku puzzle.
  * Contains the value and provides notification when value changes.
- * Now uses JavaFX Properties for proper bidirectional binding.
+ * The field is plain Java; the view adapts it to a JavaFX property for binding.
  * @author zhuma
  */
 public class SudokuField implements Serializable, Cloneable, Comparable<SudokuField> {
     private static final long serialVersionUID = 1L;
     
-    private transient IntegerProperty value;
-    
+    /** Field value; keeps its original name so saved boards stay readable. */
     private int persistentValue = 0;
     
-    private final PropertyChangeSupport changes = new PropertyChangeSupport(this);
-    
-    public SudokuField() {
-        initializeProperty();
-    }
-    
-    private void initializeProperty() {
-        this.value = new SimpleIntegerProperty(persistentValue) {
-            @Override
-            public void set(int newValue) {
-                if (newValue < 0 || newValue > 9) {
-                    throw new IllegalArgumentException("Value must be between 0 and 9");
-                }
-                
-                int oldValue = get();
-                super.set(newValue);
-                
-                persistentValue = newValue;
-                
-                changes.firePropertyChange("value", oldValue, newValue);
-            }
-        };
-    }
-    
-    public IntegerProperty valueProperty() {
-        if (value == null) {
-            initializeProperty();
-        }
-        return value;
-    }
+    private PropertyChangeSupport changes = new PropertyChangeSupport(this);
     
     public int getFieldValue() {
-        return valueProperty().get();
+        return persistentValue;
     }
 
+    /**
+     * Sets the value and notifies listeners with a "value" event if it changed.
+     * @param value value from 0 (empty) to 9
+     */
     public void setFieldValue(int value) {
         if (value < 0 || value > 9) {
             throw new IllegalArgumentException("Value must be between 0 and 9");
         }
-        valueProperty().set(value);
+        int oldValue = persistentValue;
+        persistentValue = value;
+        changes.firePropertyChange("value", oldValue, value);
+    }
+    
+    /**
+     * Sets the value without notifying listeners, for bulk updates published by the board.
+     * @param value value from 0 (empty) to 9
+     */
+    void setFieldValueQuietly(int value) {
+        if (value < 0 || value > 9) {
+            throw new IllegalArgumentException("Value must be between 0 and 9");
+        }
+        persistentValue = value;
     }
     
     public void addPropertyChangeListener(PropertyChangeListener listener) {
@@ -106,12 +88,12 @@ public class SudokuField implements Serializable, Cloneable, Comparable<SudokuFi
     
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj, "changes", "value");
+        return EqualsBuilder.reflectionEquals(this, obj, "changes");
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this, "changes", "value");
+        return HashCodeBuilder.reflectionHashCode(this, "changes");
     }
     
     @Override
@@ -123,23 +105,10 @@ public class SudokuField implements Serializable, Cloneable, Comparable<SudokuFi
     public SudokuField clone() {
         try {
             SudokuField cloned = (SudokuField) super.clone();
-            cloned.persistentValue = this.persistentValue;
-            cloned.initializeProperty();
+            cloned.changes = new PropertyChangeSupport(cloned);
             return cloned;
         } catch (CloneNotSupportedException e) {
             throw new InternalError("Should not happen since we implement Cloneable", e);
         }
     }
-    
-    private void writeObject(ObjectOutputStream out) throws IOException {
-        if (value != null) {
-            persistentValue = value.get();
-        }
-        out.defaultWriteObject();
-    }
-    
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject();
-        initializeProperty();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.io.Serializable;
+
+/**
+ * Sudoku grid of any size N x N with square boxes, e.g. 4x4, 9x9, 16x16 or 25x25.
+ * Cells hold values from 1 to N, 0 marks an empty cell. Unlike {@link SudokuBoard} the grid
+ * stores plain values without field objects, so large grids stay cheap to copy and solve.
+ * @author zhuma
+ */
+public final class SudokuGrid implements Serializable, Cloneable {
+    private static final long serialVersionUID = 8L;
+    private static final int NO_VALUE = 0;
+    
+    private final int boxSize;
+    private int[] cells;
+    
+    /**
+     * Creates an empty grid.
+     * @param boxSize side of one box, from 2 to 8; the grid side is its square
+     */
+    public SudokuGrid(int boxSize) {
+        this.boxSize = GridLayout.of(boxSize).boxSize;
+        this.cells = new int[boxSize * boxSize * boxSize * boxSize];
+    }
+    
+    /**
+     * Creates a grid from row-major values.
+     * @param boxSize side of one box, from 2 to 8
+     * @param values row-major values, 0 for empty cells
+     */
+    public SudokuGrid(int boxSize, int[] values) {
+        this(boxSize);
+        setValues(values);
+    }
+    
+    public int getBoxSize() {
+        return boxSize;
+    }
+    
+    public int getSize() {
+        return boxSize * boxSize;
+    }
+    
+    public int getCellCount() {
+        return cells.length;
+    }
+    
+    public int getValueAt(int row, int col) {
+        return cells[getIndex(row, col)];
+    }
+    
+    public void setValueAt(int row, int col, int value) {
+        checkValue(value);
+        cells[getIndex(row, col)] = value;
+    }
+    
+    /**
+     * Returns a row-major copy of all cell values.
+     * @return array of N * N values, 0 for empty cells
+     */
+    public int[] getValues() {
+        return cells.clone();
+    }
+    
+    /**
+     * Overwrites all cell values from a row-major array.
+     * @param values array of N * N values, 0 for empty cells
+     */
+    public void setValues(int[] values) {
+        if (values == null || values.length != cells.length) {
+            throw new IllegalArgumentException("Values array must contain exactly " + cells.length + " elements");
+        }
+        for (int value : values) {
+            checkValue(value);
+        }
+        System.arraycopy(values, 0, cells, 0, cells.length);
+    }
+    
+    /**
+     * Checks that no row, column or box holds a value twice; empty cells are ignored.
+     * @return true if the grid has no conflicting values
+     */
+    public boolean isValid() {
+        GridLayout layout = GridLayout.of(boxSize);
+        for (int[] unit : layout.units) {
+            long seen = 0;
+            for (int cell : unit) {
+                int value = cells[cell];
+                if (value != NO_VALUE) {
+                    long bit = 1L << (value - 1);
+                    if ((seen & bit) != 0) {
+                        return false;
+                    }
+                    seen |= bit;
+                }
+            }
+        }
+        return true;
+    }
+    
+    public boolean isSolved() {
+        for (int value : cells) {
+            if (value == NO_VALUE) {
+                return false;
+            }
+        }
+        return isValid();
+    }
+    
+    private int getIndex(int row, int col) {
+        int size = getSize();
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            throw new IllegalArgumentException("Invalid grid coordinates");
+        }
+        return row * size + col;
+    }
+    
+    private void checkValue(int value) {
+        if (value < NO_VALUE || value > getSize()) {
+            throw new IllegalArgumentException("Value must be between 0 and " + getSize());
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("boxSize", boxSize)
+                .append("cells", cells)
+                .toString();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj);
+    }
+    
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+    
+    @Override
+    public SudokuGrid clone() {
+        try {
+            SudokuGrid cloned = (SudokuGrid) super.clone();
+            cloned.cells = cells.clone();
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError("Should not happen since we implement Cloneable", e);
+        }
+    }
+}
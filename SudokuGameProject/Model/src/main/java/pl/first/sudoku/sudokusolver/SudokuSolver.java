@@ -32,4 +32,27 @@ import java.io.Serializable;
  */
 public interface SudokuSolver extends Serializable {
     boolean solve(SudokuBoard board);
+    
+    default SolveResult solve(SudokuBoard board, SolveBudget budget) {
+        return solve(board, budget, null);
+    }
+    
+    /**
+     * Solves the board in place unless the budget runs out first.
+     * Solvers that cannot be interrupted only check the budget before they start; the
+     * backtracking solver checks it during the search and leaves the board unchanged on timeout.
+     * @param board board to solve
+     * @param budget deadline and cancellation token of the run
+     * @param listener optional listener for periodic progress reports, may be null
+     * @return whether the board was solved, proved unsolvable, or the budget ran out
+     */
+    default SolveResult solve(SudokuBoard board, SolveBudget budget, SolveProgressListener listener) {
+        if (budget == null) {
+            throw new IllegalArgumentException("Solve budget cannot be null");
+        }
+        if (budget.isExhausted()) {
+            return SolveResult.TIMED_OUT;
+        }
+        return solve(board) ? SolveResult.SOLVED : SolveResult.UNSOLVABLE;
+    }
 }
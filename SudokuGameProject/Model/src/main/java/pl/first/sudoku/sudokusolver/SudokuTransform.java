@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Validity-preserving transformation of a Sudoku grid.
+ * Combines an optional transposition, a band-preserving row order, a stack-preserving
+ * column order and a digit relabeling. Applying it to a valid grid always yields a valid grid.
+ * @author zhuma
+ */
+public final class SudokuTransform implements Serializable {
+    private static final long serialVersionUID = 201L;
+    private static final int BOARD_SIZE = 9;
+    private static final int SUBSECTION_SIZE = 3;
+    private static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final String SEPARATOR = ";";
+    
+    private final boolean transposed;
+    private final int[] rowOrder;
+    private final int[] colOrder;
+    private final int[] digitMap;
+    
+    /**
+     * Creates a transform.
+     * @param transposed whether the source grid is transposed before rows and columns are reordered
+     * @param rowOrder output row i is taken from source row rowOrder[i]
+     * @param colOrder output column j is taken from source column colOrder[j]
+     * @param digitMap source digit d is written as digitMap[d]; index 0 must map to 0
+     */
+    public SudokuTransform(boolean transposed, int[] rowOrder, int[] colOrder, int[] digitMap) {
+        validateLineOrder(rowOrder);
+        validateLineOrder(colOrder);
+        validateDigitMap(digitMap);
+        this.transposed = transposed;
+        this.rowOrder = rowOrder.clone();
+        this.colOrder = colOrder.clone();
+        this.digitMap = digitMap.clone();
+    }
+    
+    public static SudokuTransform identity() {
+        int[] lines = new int[BOARD_SIZE];
+        int[] digits = new int[BOARD_SIZE + 1];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            lines[i] = i;
+        }
+        for (int d = 0; d <= BOARD_SIZE; d++) {
+            digits[d] = d;
+        }
+        return new SudokuTransform(false, lines, lines, digits);
+    }
+    
+    public boolean isTransposed() {
+        return transposed;
+    }
+    
+    public int[] getRowOrder() {
+        return rowOrder.clone();
+    }
+    
+    public int[] getColOrder() {
+        return colOrder.clone();
+    }
+    
+    public int[] getDigitMap() {
+        return digitMap.clone();
+    }
+    
+    public int[] apply(int[] cells) {
+        int[] result = new int[CELL_COUNT];
+        apply(cells, result);
+        return result;
+    }
+    
+    /**
+     * Applies the transform without allocating.
+     * @param source row-major array of 81 values
+     * @param target row-major array of 81 values receiving the result; must not be the source
+     */
+    public void apply(int[] source, int[] target) {
+        if (source.length != CELL_COUNT || target.length != CELL_COUNT) {
+            throw new IllegalArgumentException("Cell arrays must contain exactly 81 elements");
+        }
+        for (int row = 0; row < BOARD_SIZE; row++) {
+            int sourceLine = rowOrder[row];
+            for (int col = 0; col < BOARD_SIZE; col++) {
+                int sourceIndex = transposed
+                        ? colOrder[col] * BOARD_SIZE + sourceLine
+                        : sourceLine * BOARD_SIZE + colOrder[col];
+                target[row * BOARD_SIZE + col] = digitMap[source[sourceIndex]];
+            }
+        }
+    }
+    
+    public void applyTo(SudokuBoard board) {
+        board.setValues(apply(board.getValues()));
+    }
+    
+    /**
+     * Returns the transform that undoes this one.
+     * @return inverse transform
+     */
+    public SudokuTransform inverse() {
+        int[] rowInverse = invert(rowOrder);
+        int[] colInverse = invert(colOrder);
+        int[] digitInverse = invert(digitMap);
+        if (transposed) {
+            return new SudokuTransform(true, colInverse, rowInverse, digitInverse);
+        }
+        return new SudokuTransform(false, rowInverse, colInverse, digitInverse);
+    }
+    
+    /**
+     * Encodes the transform as a compact string, e.g. {@code 0;012345678;012345678;123456789}.
+     * @return encoded transform
+     */
+    public String encode() {
+        StringBuilder builder = new StringBuilder(32);
+        builder.append(transposed ? '1' : '0').append(SEPARATOR);
+        appendDigits(builder, rowOrder, 0);
+        builder.append(SEPARATOR);
+        appendDigits(builder, colOrder, 0);
+        builder.append(SEPARATOR);
+        appendDigits(builder, digitMap, 1);
+        return builder.toString();
+    }
+    
+    public static SudokuTransform decode(String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("Encoded transform must not be null");
+        }
+        String[] parts = encoded.trim().split(SEPARATOR);
+        if (parts.length != 4 || parts[0].length() != 1
+                || parts[1].length() != BOARD_SIZE || parts[2].length() != BOARD_SIZE
+                || parts[3].length() != BOARD_SIZE) {
+            throw new IllegalArgumentException("Malformed transform: " + encoded);
+        }
+        int[] digitMap = new int[BOARD_SIZE + 1];
+        int[] mapped = parseDigits(parts[3]);
+        System.arraycopy(mapped, 0, digitMap, 1, BOARD_SIZE);
+        return new SudokuTransform("1".equals(parts[0]), parseDigits(parts[1]), parseDigits(parts[2]), digitMap);
+    }
+    
+    private static void appendDigits(StringBuilder builder, int[] values, int from) {
+        for (int i = from; i < values.length; i++) {
+            builder.append((char) ('0' + values[i]));
+        }
+    }
+    
+    private static int[] parseDigits(String text) {
+        int[] values = new int[text.length()];
+        for (int i = 0; i < values.length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Malformed transform component: " + text);
+            }
+            values[i] = c - '0';
+        }
+        return values;
+    }
+    
+    private static int[] invert(int[] permutation) {
+        int[] inverse = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            inverse[permutation[i]] = i;
+        }
+        return inverse;
+    }
+    
+    private static void validateLineOrder(int[] order) {
+        if (order == null || order.length != BOARD_SIZE) {
+            throw new IllegalArgumentException("Line order must contain exactly 9 elements");
+        }
+        boolean[] seen = new boolean[BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            int line = order[i];
+            if (line < 0 || line >= BOARD_SIZE || seen[line]) {
+                throw new IllegalArgumentException("Line order must be a permutation: " + Arrays.toString(order));
+            }
+            if (line / SUBSECTION_SIZE != order[i - i % SUBSECTION_SIZE] / SUBSECTION_SIZE) {
+                throw new IllegalArgumentException("Line order must keep bands together: " + Arrays.toString(order));
+            }
+            seen[line] = true;
+        }
+    }
+    
+    private static void validateDigitMap(int[] map) {
+        if (map == null || map.length != BOARD_SIZE + 1 || map[0] != 0) {
+            throw new IllegalArgumentException("Digit map must contain 10 elements and map 0 to 0");
+        }
+        boolean[] seen = new boolean[BOARD_SIZE + 1];
+        for (int d = 1; d <= BOARD_SIZE; d++) {
+            if (map[d] < 1 || map[d] > BOARD_SIZE || seen[map[d]]) {
+                throw new IllegalArgumentException("Digit map must be a permutation of 1-9: " + Arrays.toString(map));
+            }
+            seen[map[d]] = true;
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return encode();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj);
+    }
+    
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+/**
+ * Occurrences of every digit in each row, column and box of a 9x9 board.
+ * @author zhuma
+ */
+final class UnitCounts {
+    static final GridLayout LAYOUT = GridLayout.of(3);
+    private static final int SIZE = LAYOUT.size;
+    private static final int STRIDE = SIZE + 1;
+    
+    /** Indexed by {@code unit * 10 + digit}; rows, then columns, then boxes. */
+    private final int[] counts = new int[3 * SIZE * STRIDE];
+    
+    /**
+     * Adds or removes one occurrence of a digit in the three units of a cell.
+     * @param cell row-major index of the cell
+     * @param value digit, 0 is ignored
+     * @param delta 1 to add, -1 to remove
+     */
+    void add(int cell, int value, int delta) {
+        if (value == 0) {
+            return;
+        }
+        counts[rowSlot(cell, value)] += delta;
+        counts[columnSlot(cell, value)] += delta;
+        counts[boxSlot(cell, value)] += delta;
+    }
+    
+    /**
+     * Checks whether a digit occurs more than once in a unit of the cell.
+     */
+    boolean isRepeated(int cell, int value) {
+        return value != 0 && (counts[rowSlot(cell, value)] > 1 || counts[columnSlot(cell, value)] > 1
+                || counts[boxSlot(cell, value)] > 1);
+    }
+    
+    /**
+     * Checks whether a digit occurs anywhere in a unit of the cell, the cell included.
+     */
+    boolean isUsed(int cell, int value) {
+        return counts[rowSlot(cell, value)] > 0 || counts[columnSlot(cell, value)] > 0
+                || counts[boxSlot(cell, value)] > 0;
+    }
+    
+    private static int rowSlot(int cell, int value) {
+        return LAYOUT.row(cell) * STRIDE + value;
+    }
+    
+    private static int columnSlot(int cell, int value) {
+        return (SIZE + LAYOUT.column(cell)) * STRIDE + value;
+    }
+    
+    private static int boxSlot(int cell, int value) {
+        return (2 * SIZE + LAYOUT.box(cell)) * STRIDE + value;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.GameDifficulty;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+import pl.first.sudoku.sudokusolver.SudokuTransform;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ContentAddressedSudokuBoardDao.
+ * @author zhuma
+ */
+public class ContentAddressedSudokuBoardDaoTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private SudokuBoard createPuzzle() {
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        return GameDifficulty.EASY.prepareBoard(solved);
+    }
+    
+    @Test
+    public void testWriteAndReadBoard() throws Exception {
+        SudokuBoard original = createPuzzle();
+        
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(tempDir.toString())) {
+            dao.write("puzzle", original);
+        }
+        
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(tempDir.toString())) {
+            assertEquals(original, dao.read("puzzle"), "Read board should equal the original board");
+        }
+    }
+    
+    @Test
+    public void testIsomorphicBoardsShareOneObject() throws Exception {
+        SudokuBoard original = createPuzzle();
+        SudokuBoard relabeled = new SudokuBoard(new BacktrackingSudokuSolver());
+        relabeled.setValues(new SudokuTransform(false,
+                new int[] {3, 4, 5, 0, 1, 2, 6, 7, 8},
+                new int[] {0, 2, 1, 3, 4, 5, 6, 7, 8},
+                new int[] {0, 2, 1, 4, 3, 6, 5, 8, 7, 9}).apply(original.getValues()));
+        
+        try (ContentAddressedSudokuBoardDao dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            dao.write("first", original);
+            dao.write("second", relabeled);
+            dao.write("third", original);
+            
+            assertEquals(1, dao.objectCount(), "Isomorphic boards should be stored once");
+            assertEquals(original, dao.read("first"), "First reference should restore the original board");
+            assertEquals(relabeled, dao.read("second"), "Second reference should restore the relabeled board");
+            
+            List<String> names = dao.names();
+            assertEquals(3, names.size(), "Every named save should be listed");
+            assertTrue(names.containsAll(List.of("first", "second", "third")), "All names should be listed");
+        }
+    }
+    
+    @Test
+    public void testDistinctBoardsUseDistinctObjects() throws Exception {
+        try (ContentAddressedSudokuBoardDao dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            dao.write("one", createPuzzle());
+            dao.write("empty", new SudokuBoard(new BacktrackingSudokuSolver()));
+            
+            assertEquals(2, dao.objectCount(), "Different boards should be stored separately");
+        }
+    }
+    
+    @Test
+    public void testReadMissingReference() throws Exception {
+        try (Dao<SudokuBoard> dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            assertThrows(DaoException.class, () -> dao.read("missing"),
+                    "Reading a missing reference should throw DaoException");
+        }
+    }
+    
+    @Test
+    public void testReadCorruptedReference() throws Exception {
+        try (Dao<SudokuBoard> dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            Files.writeString(tempDir.resolve("refs").resolve("broken"), "abc\nnot-a-transform\n");
+            
+            assertThrows(DaoException.class, () -> dao.read("broken"),
+                    "Reading a malformed reference should throw DaoException");
+        }
+    }
+    
+    @Test
+    public void testEditableSavesKeepTheirClueMasks() throws Exception {
+        SudokuBoard puzzle = createPuzzle();
+        EditableSudokuBoardDecorator started = new EditableSudokuBoardDecorator(puzzle);
+        started.lockNonEmptyFields();
+        SudokuBoard copy = new SudokuBoard(new BacktrackingSudokuSolver());
+        copy.setValues(puzzle.getValues());
+        EditableSudokuBoardDecorator unlocked = new EditableSudokuBoardDecorator(copy);
+        
+        try (EditableContentAddressedSudokuBoardDao dao =
+                new EditableContentAddressedSudokuBoardDao(tempDir.toString())) {
+            dao.write("started", started);
+            dao.write("unlocked", unlocked);
+            
+            EditableSudokuBoardDecorator read = dao.read("started");
+            assertEquals(puzzle, read.getSudokuBoard(), "Read board should equal the saved board");
+            for (int row = 0; row < 9; row++) {
+                for (int col = 0; col < 9; col++) {
+                    assertEquals(started.isFieldEditable(row, col), read.isFieldEditable(row, col),
+                            "Editability of [" + row + "," + col + "] should be kept");
+                    assertTrue(dao.read("unlocked").isFieldEditable(row, col),
+                            "Unlocked save should stay editable");
+                }
+            }
+        }
+        try (ContentAddressedSudokuBoardDao dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            assertEquals(1, dao.objectCount(), "Saves differing only in their clue mask should share one object");
+            assertEquals(puzzle, dao.read("started"), "Plain DAO should read editable saves");
+        }
+    }
+    
+    @Test
+    public void testPlainSaveReadsAsEditable() throws Exception {
+        SudokuBoard puzzle = createPuzzle();
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(tempDir.toString())) {
+            dao.write("plain", puzzle);
+        }
+        
+        try (Dao<EditableSudokuBoardDecorator> dao =
+                SudokuBoardDaoFactory.getEditableContentAddressedDao(tempDir.toString())) {
+            EditableSudokuBoardDecorator read = dao.read("plain");
+            assertEquals(puzzle, read.getSudokuBoard(), "Plain save should be readable as editable");
+            assertTrue(read.isFieldEditable(0, 0), "Plain save should have every field editable");
+        }
+    }
+    
+    @Test
+    public void testReadMalformedEditabilityMask() throws Exception {
+        try (EditableContentAddressedSudokuBoardDao dao =
+                new EditableContentAddressedSudokuBoardDao(tempDir.toString())) {
+            dao.write("save", new EditableSudokuBoardDecorator(createPuzzle()));
+            Path ref = tempDir.resolve("refs").resolve("save");
+            List<String> lines = Files.readAllLines(ref);
+            Files.write(ref, List.of(lines.get(0), lines.get(1), "01x"));
+            
+            assertThrows(DaoException.class, () -> dao.read("save"),
+                    "Reading a malformed editability mask should throw DaoException");
+        }
+    }
+    
+    @Test
+    public void testPruneObjectsRemovesOverwrittenContent() throws Exception {
+        SudokuBoard first = createPuzzle();
+        try (ContentAddressedSudokuBoardDao dao = new ContentAddressedSudokuBoardDao(tempDir.toString())) {
+            dao.write("kept", first);
+            dao.write("overwritten", first);
+            dao.write("overwritten", new SudokuBoard(new BacktrackingSudokuSolver()));
+            dao.write("replaced", createPuzzle());
+            dao.write("replaced", first);
+            
+            assertEquals(3, dao.objectCount(), "Overwriting should leave the old object behind");
+            assertEquals(1, dao.pruneObjects(), "Only the unreferenced object should be deleted");
+            assertEquals(2, dao.objectCount(), "Referenced objects should be kept");
+            assertEquals(first, dao.read("kept"), "Kept save should still be readable");
+            assertEquals(first, dao.read("replaced"), "Replaced save should still be readable");
+            assertEquals(0, dao.pruneObjects(), "Second prune should find nothing");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DaoTelemetry metrics recorded by the DAOs.
+ * @author zhuma
+ */
+public class DaoTelemetryTest {
+    private static final String READ_COUNT =
+            "sudoku_dao_operation_seconds_count{backend=\"file\",operation=\"read\"}";
+    private static final String WRITE_COUNT =
+            "sudoku_dao_operation_seconds_count{backend=\"file\",operation=\"write\"}";
+    private static final String READ_ERRORS = "sudoku_dao_errors_total{backend=\"file\",operation=\"read\"}";
+    
+    @TempDir
+    Path tempDir;
+    
+    private static double sample(String series) {
+        Map<String, Double> samples = MetricsRegistry.global().getSamples();
+        return samples.getOrDefault(series, 0.0);
+    }
+    
+    @Test
+    public void testCallsAreTimedPerBackendAndOperation() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        double reads = sample(READ_COUNT);
+        double writes = sample(WRITE_COUNT);
+        double errors = sample(READ_ERRORS);
+        
+        try (FileSudokuBoardDao dao = new FileSudokuBoardDao(tempDir.toString())) {
+            dao.write("board", board);
+            dao.read("board");
+            assertThrows(DaoException.class, () -> dao.read("missing"), "Missing board should fail");
+        }
+        
+        assertEquals(writes + 1, sample(WRITE_COUNT), "Write should be timed");
+        assertEquals(reads + 2, sample(READ_COUNT), "Both reads should be timed");
+        assertEquals(errors + 1, sample(READ_ERRORS), "Failed read should be counted as an error");
+    }
+}
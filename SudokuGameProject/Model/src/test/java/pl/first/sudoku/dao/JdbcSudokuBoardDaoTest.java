@@ -26,16 +26,27 @@ package pl.first.sudoku.dao;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pl.first.sudoku.metrics.Counter;
+import pl.first.sudoku.metrics.Gauge;
+import pl.first.sudoku.metrics.MetricsRegistry;
 import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
 import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
 import pl.first.sudoku.sudokusolver.SudokuBoard;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -293,6 +304,45 @@ public class JdbcSudokuBoardDaoTest {
         }
     }
     
+    @Test
+    public void testFailedTableSetupClosesConnection() throws SQLException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "createStatement":
+                            throw new SQLException("Tables cannot be created");
+                        case "close":
+                            closed.set(true);
+                            return null;
+                        case "isClosed":
+                            return closed.get();
+                        default:
+                            return null;
+                    }
+                });
+        Driver driver = new FixedConnectionDriver(connection);
+        DriverManager.registerDriver(driver);
+        Gauge active = MetricsRegistry.global().gauge("sudoku_jdbc_connections_active", "");
+        Counter opened = MetricsRegistry.global().counter("sudoku_jdbc_connections_opened_total", "");
+        Counter failures = MetricsRegistry.global().counter("sudoku_jdbc_connection_failures_total", "");
+        long activeBefore = active.getValue();
+        long openedBefore = opened.getCount();
+        long failuresBefore = failures.getCount();
+        try {
+            assertThrows(JdbcDaoException.class,
+                    () -> new JdbcSudokuBoardDao(FixedConnectionDriver.URL, "user", "password"),
+                    "Failed table setup should fail the constructor");
+        } finally {
+            DriverManager.deregisterDriver(driver);
+        }
+        
+        assertTrue(closed.get(), "Connection should be closed after failed setup");
+        assertEquals(activeBefore, active.getValue(), "Failed setup should not raise the active gauge");
+        assertEquals(openedBefore, opened.getCount(), "Failed setup should not count as opened");
+        assertEquals(failuresBefore + 1, failures.getCount(), "Failed setup should count as one failure");
+    }
+    
     @Test
     public void testDriverNotFound() {
         try {
@@ -775,4 +825,51 @@ public class JdbcSudokuBoardDaoTest {
                       exception.getCause().getMessage().contains("not found"));
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Driver handing out one prepared connection, to test setup failures without a database.
+     */
+    private static final class FixedConnectionDriver implements Driver {
+        private static final String URL = "jdbc:sudoku-test:failing";
+        private final Connection connection;
+        
+        private FixedConnectionDriver(Connection connection) {
+            this.connection = connection;
+        }
+        
+        @Override
+        public Connection connect(String url, Properties info) {
+            return acceptsURL(url) ? connection : null;
+        }
+        
+        @Override
+        public boolean acceptsURL(String url) {
+            return URL.equals(url);
+        }
+        
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+        
+        @Override
+        public int getMajorVersion() {
+            return 1;
+        }
+        
+        @Override
+        public int getMinorVersion() {
+            return 0;
+        }
+        
+        @Override
+        public boolean jdbcCompliant() {
+            return false;
+        }
+        
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+    }
+}
@@ -64,6 +64,43 @@ public class SudokuBoardDaoFactoryTest {
         }
     }
     
+    @Test
+    public void testGetContentAddressedDao() throws Exception {
+        Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getContentAddressedDao(tempDir.toString());
+        
+        assertTrue(dao instanceof ContentAddressedSudokuBoardDao,
+                "Factory should return ContentAddressedSudokuBoardDao instance");
+        
+        SudokuBoard testBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        testBoard.solveGame();
+        
+        try (dao) {
+            dao.write("test", testBoard);
+            assertEquals(testBoard, dao.read("test"), "DAO should work correctly");
+        }
+    }
+    
+    @Test
+    public void testGetEditableContentAddressedDao() throws Exception {
+        Dao<EditableSudokuBoardDecorator> dao = SudokuBoardDaoFactory.getEditableContentAddressedDao(
+                tempDir.toString());
+        
+        assertTrue(dao instanceof EditableContentAddressedSudokuBoardDao,
+                "Factory should return EditableContentAddressedSudokuBoardDao instance");
+        
+        SudokuBoard testBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        testBoard.solveGame();
+        EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(testBoard);
+        decorator.setFieldEditable(4, 4, false);
+        
+        try (dao) {
+            dao.write("test", decorator);
+            EditableSudokuBoardDecorator read = dao.read("test");
+            assertEquals(testBoard, read.getSudokuBoard(), "DAO should work correctly");
+            assertFalse(read.isFieldEditable(4, 4), "DAO should keep locked fields");
+        }
+    }
+    
     @Test
     public void testGetEditableFileDao() throws Exception {
         String directoryName = tempDir.toString();
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.first.sudoku.dao.FileSudokuBoardDao;
+import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.GameDifficulty;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the flight recorder events emitted by the model.
+ * @author zhuma
+ */
+public class JfrEventsTest {
+    @TempDir
+    Path tempDir;
+    
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path dump = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SolveEvent.class).withoutThreshold();
+            recording.enable(PrepareBoardEvent.class).withoutThreshold();
+            recording.enable(ValidateEvent.class).withoutThreshold();
+            recording.enable(DaoEvent.class).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump);
+    }
+    
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+    
+    @Test
+    public void testSolveEventCountsSearch() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        List<RecordedEvent> events = ofType(record(board::solveGame), "pl.first.sudoku.Solve");
+        
+        assertEquals(1, events.size(), "One solve should emit one event");
+        RecordedEvent event = events.get(0);
+        assertTrue(event.getBoolean("solved"), "Empty board should be solved");
+        assertEquals(81, event.getInt("cellsFilled"), "All cells of an empty board should be filled");
+        assertTrue(event.getLong("nodesVisited") >= 81, "Every filled cell should be a visited node");
+        assertEquals(event.getLong("nodesVisited") - 81, event.getLong("backtracks"),
+                "Every node that did not stay on the board should be a backtrack");
+        assertEquals("BacktrackingSudokuSolver", event.getString("solver"), "Solver name should be recorded");
+    }
+    
+    @Test
+    public void testPrepareBoardAndValidateEvents() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        List<RecordedEvent> events = record(() -> {
+            GameDifficulty.MEDIUM.prepareBoard(board);
+            GameDifficulty.EASY.prepareDecoratedBoard(board);
+            board.isValid();
+        });
+        
+        List<RecordedEvent> prepared = ofType(events, "pl.first.sudoku.PrepareBoard");
+        assertEquals(2, prepared.size(), "Both prepare methods should emit an event");
+        assertEquals("MEDIUM", prepared.get(0).getString("difficulty"), "Difficulty should be recorded");
+        assertEquals(40, prepared.get(0).getInt("cellsRemoved"), "Removed cells should be recorded");
+        
+        List<RecordedEvent> validated = ofType(events, "pl.first.sudoku.Validate");
+        assertEquals(1, validated.size(), "One validation should emit one event");
+        assertTrue(validated.get(0).getBoolean("valid"), "Solved board should be valid");
+    }
+    
+    @Test
+    public void testDaoEventsCarryNameBytesAndBackend() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        String directory = tempDir.resolve("boards").toString();
+        List<RecordedEvent> events = ofType(record(() -> {
+            try (FileSudokuBoardDao dao = new FileSudokuBoardDao(directory)) {
+                dao.write("board1", board);
+                dao.read("board1");
+                dao.names();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }), "pl.first.sudoku.DaoOperation");
+        
+        assertEquals(3, events.size(), "Each DAO call should emit one event");
+        List<String> operations = events.stream().map(event -> event.getString("operation"))
+                .collect(Collectors.toList());
+        assertEquals(List.of(DaoEvent.WRITE, DaoEvent.READ, DaoEvent.NAMES), operations,
+                "Operations should be recorded in call order");
+        for (RecordedEvent event : events) {
+            assertEquals("file", event.getString("backend"), "Backend should be recorded");
+            assertTrue(event.getBoolean("success"), "Successful calls should be marked as such");
+        }
+        assertEquals("board1", events.get(0).getString("name"), "Board name should be recorded");
+        assertTrue(events.get(0).getLong("bytes") > 0, "Written size should be recorded");
+        assertEquals(events.get(0).getLong("bytes"), events.get(1).getLong("bytes"),
+                "Read size should match written size");
+    }
+    
+    @Test
+    public void testFailedDaoCallIsRecorded() throws Exception {
+        String directory = tempDir.resolve("boards").toString();
+        List<RecordedEvent> events = ofType(record(() -> {
+            try (FileSudokuBoardDao dao = new FileSudokuBoardDao(directory)) {
+                assertThrows(Exception.class, () -> dao.read("missing"), "Missing board should fail");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }), "pl.first.sudoku.DaoOperation");
+        
+        assertEquals(1, events.size(), "Failed call should still emit an event");
+        assertFalse(events.get(0).getBoolean("success"), "Failed call should not be marked successful");
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Histogram.
+ * @author zhuma
+ */
+public class HistogramTest {
+    @Test
+    public void testBucketsCoverTheirValues() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.bucketIndex(value);
+            assertTrue(Histogram.highestValueIn(index) >= value, "Bucket should reach " + value);
+            if (index > 0) {
+                assertTrue(Histogram.highestValueIn(index - 1) < value, "Previous bucket should end below " + value);
+            }
+        }
+    }
+    
+    @Test
+    public void testRelativeErrorIsBounded() {
+        for (long value = 16; value < 10_000_000; value = value * 3 + 7) {
+            long highest = Histogram.highestValueIn(Histogram.bucketIndex(value));
+            assertTrue((highest - value) / (double) value <= 1.0 / 16, "Bucket of " + value + " is too wide");
+        }
+    }
+    
+    @Test
+    public void testQuantiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        
+        assertEquals(1000, histogram.getCount(), "Every value should be counted");
+        assertEquals(500_500_000L, histogram.getSum(), "Sum should be exact");
+        assertEquals(1_000_000L, histogram.getMax(), "Max should be exact");
+        assertEquals(500_000, histogram.getValueAtQuantile(0.5), 500_000 / 16.0, "Median should be close");
+        assertEquals(990_000, histogram.getValueAtQuantile(0.99), 990_000 / 16.0, "p99 should be close");
+        assertEquals(1_000_000L, histogram.getValueAtQuantile(1.0), "p100 should be the maximum");
+    }
+    
+    @Test
+    public void testEmptyAndNegative() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtQuantile(0.5), "Empty histogram should report 0");
+        
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount(), "Negative value should be recorded");
+        assertEquals(0, histogram.getMax(), "Negative value should be clamped to 0");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtQuantile(1.5),
+                "Quantile above 1 should be rejected");
+    }
+    
+    @Test
+    public void testReset() {
+        Histogram histogram = new Histogram();
+        histogram.record(42);
+        histogram.reset();
+        
+        assertEquals(0, histogram.getCount(), "Count should be cleared");
+        assertEquals(0, histogram.getSum(), "Sum should be cleared");
+        assertEquals(0, histogram.getValueAtQuantile(0.5), "Buckets should be cleared");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MetricsHttpServer.
+ * @author zhuma
+ */
+public class MetricsHttpServerTest {
+    private static HttpURLConnection open(MetricsHttpServer server, String method) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(
+                "http://127.0.0.1:" + server.getPort() + MetricsHttpServer.PATH).toURL().openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+    
+    @Test
+    public void testServesPrometheusText() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("served_total", "Served").increment();
+        
+        try (MetricsHttpServer server = new MetricsHttpServer(registry,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            HttpURLConnection connection = open(server, "GET");
+            
+            assertEquals(200, connection.getResponseCode(), "Scrape should succeed");
+            assertTrue(connection.getContentType().startsWith("text/plain; version=0.0.4"),
+                    "Content type should be the Prometheus text format");
+            String body = new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(registry.scrape(), body, "Body should be the registry scrape");
+        }
+    }
+    
+    @Test
+    public void testBindsLoopbackByDefault() throws Exception {
+        try (MetricsHttpServer server = new MetricsHttpServer(new MetricsRegistry(), 0)) {
+            assertTrue(server.getAddress().getAddress().isLoopbackAddress(),
+                    "Endpoint should only listen on the loopback interface by default");
+            assertTrue(server.getPort() > 0, "Port 0 should pick a free port");
+        }
+    }
+    
+    @Test
+    public void testRejectsOtherMethods() throws Exception {
+        try (MetricsHttpServer server = new MetricsHttpServer(new MetricsRegistry(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            
+            assertEquals(405, open(server, "POST").getResponseCode(), "POST should not be allowed");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MetricsRegistry.
+ * @author zhuma
+ */
+public class MetricsRegistryTest {
+    @Test
+    public void testSameNameAndLabelsReturnSameMetric() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter first = registry.counter("test_total", "Test", "kind", "a");
+        Counter second = registry.counter("test_total", "Test", "kind", "a");
+        Counter other = registry.counter("test_total", "Test", "kind", "b");
+        
+        assertSame(first, second, "Same series should be reused");
+        assertNotSame(first, other, "Different labels should be a different series");
+    }
+    
+    @Test
+    public void testInvalidRegistrationsAreRejected() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total", "Test");
+        
+        assertThrows(IllegalArgumentException.class, () -> registry.timer("test_total", "Test"),
+                "Name registered as counter should not become a timer");
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad-name", "Test"),
+                "Invalid metric name should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("odd_total", "Test", "label"),
+                "Label without value should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("test_total", "Test").add(-1),
+                "Counter should not decrease");
+    }
+    
+    @Test
+    public void testScrapeFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("requests_total", "Requests", "path", "a\"b").add(3);
+        Gauge gauge = registry.gauge("open", "Open things");
+        gauge.increment();
+        gauge.increment();
+        gauge.decrement();
+        registry.timer("call_seconds", "Calls", "op", "read").record(2, TimeUnit.SECONDS);
+        
+        String text = registry.scrape();
+        
+        assertTrue(text.contains("# HELP requests_total Requests\n# TYPE requests_total counter\n"),
+                "Counter family header should be written");
+        assertTrue(text.contains("requests_total{path=\"a\\\"b\"} 3\n"), "Label value should be escaped");
+        assertTrue(text.contains("# TYPE open gauge\nopen 1\n"), "Gauge should be written without labels");
+        assertTrue(text.contains("# TYPE call_seconds summary\n"), "Timer should be a summary");
+        assertTrue(text.contains("call_seconds{op=\"read\",quantile=\"0.5\"} 2"), "Quantile should be in seconds");
+        assertTrue(text.contains("call_seconds_sum{op=\"read\"} 2\n"), "Sum should be in seconds");
+        assertTrue(text.contains("call_seconds_count{op=\"read\"} 1\n"), "Count should be written");
+        assertTrue(text.indexOf("call_seconds") < text.indexOf("open")
+                && text.indexOf("open") < text.indexOf("requests_total"), "Families should be sorted by name");
+    }
+    
+    @Test
+    public void testSamplesAndReset() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("events_total", "Events", "kind", "x").add(5);
+        
+        Map<String, Double> samples = registry.getSamples();
+        assertEquals(5.0, (double) samples.get("events_total{kind=\"x\"}"), "Sample should be keyed by series");
+        
+        registry.reset();
+        assertEquals(0.0, (double) registry.getSamples().get("events_total{kind=\"x\"}"),
+                "Reset should zero the counter");
+    }
+    
+    @Test
+    public void testMBeanRegistration() throws Exception {
+        MetricsRegistry.global().registerMBean();
+        MetricsRegistry.global().registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+        
+        assertTrue(server.isRegistered(name), "Global registry should be registered once");
+        String text = (String) server.getAttribute(name, "PrometheusText");
+        assertNotNull(text, "Prometheus text should be readable over JMX");
+    }
+}
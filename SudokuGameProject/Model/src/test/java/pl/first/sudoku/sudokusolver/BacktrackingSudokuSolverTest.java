@@ -25,6 +25,15 @@
 package pl.first.sudoku.sudokusolver;
 
 import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -95,4 +104,118 @@ public class BacktrackingSudokuSolverTest {
         assertTrue(different, "Two independent solutions should be different");
         System.out.println("Number of different positions between two solutions: " + differences);
     }
+    
+    @Test
+    public void testSolveWithBudget() {
+        SudokuSolver solver = new BacktrackingSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        
+        assertEquals(SolveResult.SOLVED, solver.solve(board, SolveBudget.of(Duration.ofMinutes(1))),
+                "Board should be solved within the budget");
+        assertTrue(board.isValid(), "Board should be valid after solving");
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(board, null, null),
+                "Missing budget should be rejected");
+    }
+    
+    @Test
+    public void testDeadlineStopsEndlessSearch() {
+        SudokuBoard board = createDeadEndBoard();
+        int[] before = board.getValues();
+        AtomicLong reports = new AtomicLong();
+        
+        long startNanos = System.nanoTime();
+        SolveResult result = new BacktrackingSudokuSolver().solve(board, SolveBudget.of(Duration.ofMillis(100)),
+                (nodes, elapsedNanos) -> reports.incrementAndGet());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+        
+        assertEquals(SolveResult.TIMED_OUT, result, "Search without a solution in reach should time out");
+        assertTrue(elapsedMillis < 5000, "Search should stop shortly after the deadline, took " + elapsedMillis);
+        assertTrue(reports.get() > 1, "Listener should be notified during the search");
+        assertArrayEquals(before, board.getValues(), "Timed out search should leave the board unchanged");
+    }
+    
+    @Test
+    public void testCancellationFromListener() {
+        SolveBudget budget = SolveBudget.unlimited();
+        AtomicLong lastNodes = new AtomicLong();
+        
+        SolveResult result = new BacktrackingSudokuSolver().solve(createDeadEndBoard(), budget, (nodes, elapsed) -> {
+            lastNodes.set(nodes);
+            if (nodes >= 4096) {
+                budget.cancel();
+            }
+        });
+        
+        assertEquals(SolveResult.TIMED_OUT, result, "Cancelled search should report a timeout");
+        assertEquals(4096, lastNodes.get(), "Search should stop at the first check after cancelling");
+    }
+    
+    @Test
+    public void testExpiredBudgetAndConflictingClues() {
+        SudokuSolver solver = new BacktrackingSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        
+        assertEquals(SolveResult.TIMED_OUT, solver.solve(board, SolveBudget.of(Duration.ZERO)),
+                "Expired budget should not start a search");
+        assertArrayEquals(new int[81], board.getValues(), "Board should stay empty");
+        
+        board.setValueAt(0, 0, 5);
+        board.setValueAt(8, 0, 5);
+        assertEquals(SolveResult.UNSOLVABLE, solver.solve(board, SolveBudget.unlimited()),
+                "Conflicting clues should be reported without searching");
+    }
+    
+    @Test
+    public void testSeededGeneratorIsReproducible() {
+        SudokuBoard first = new SudokuBoard(new BacktrackingSudokuSolver(new SplittableRandom(42)));
+        SudokuBoard second = new SudokuBoard(new BacktrackingSudokuSolver(new SplittableRandom(42)));
+        SudokuBoard other = new SudokuBoard(new BacktrackingSudokuSolver(new SplittableRandom(43)));
+        
+        assertTrue(first.solveGame() && second.solveGame() && other.solveGame(), "Every board should be filled");
+        assertArrayEquals(first.getValues(), second.getValues(), "Equal seeds should fill equal grids");
+        assertFalse(java.util.Arrays.equals(first.getValues(), other.getValues()),
+                "Different seeds should fill different grids");
+        assertThrows(IllegalArgumentException.class, () -> new BacktrackingSudokuSolver(null),
+                "Null generator should be rejected");
+    }
+    
+    @Test
+    public void testUnsolvableBoardIsLeftUnchanged() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValueAt(0, 0, 5);
+        board.setValueAt(0, 8, 5);
+        int[] before = board.getValues();
+        
+        assertFalse(board.solveGame(), "Conflicting clues should not be solved");
+        assertArrayEquals(before, board.getValues(), "Failed solve should leave the board unchanged");
+    }
+    
+    @Test
+    public void testSerializedSolverStillSolves() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new BacktrackingSudokuSolver(new SplittableRandom(1)));
+        }
+        BacktrackingSudokuSolver restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (BacktrackingSudokuSolver) in.readObject();
+        }
+        SudokuBoard board = new SudokuBoard(restored);
+        
+        assertTrue(restored.solve(board), "Restored solver should get a new generator");
+        assertTrue(board.isValid(), "Restored solver should fill a valid grid");
+    }
+    
+    /**
+     * Column 8 holds 1 to 8 and the last box a 9, so the last cell has no candidate; a
+     * row-major search only notices that after filling every other cell.
+     */
+    private SudokuBoard createDeadEndBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        for (int row = 0; row < 8; row++) {
+            board.setValueAt(row, 8, row + 1);
+        }
+        board.setValueAt(6, 6, 9);
+        return board;
+    }
 }
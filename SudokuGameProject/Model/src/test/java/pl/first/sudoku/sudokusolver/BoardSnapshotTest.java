@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA_DEAD_END;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for BoardSnapshot.
+ * @author zhuma
+ */
+public class BoardSnapshotTest {
+    
+    @Test
+    public void testSolveOffThreadAndApplyOnce() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        List<BoardChange> changes = new ArrayList<>();
+        int[] fieldEvents = {0};
+        board.addBoardChangeListener(changes::add);
+        board.getSudokuField(0, 1).addPropertyChangeListener(evt -> fieldEvents[0]++);
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        
+        SolveResult result = CompletableFuture.supplyAsync(
+                () -> snapshot.solve(new GridSolver(), SolveBudget.unlimited())).get();
+        
+        assertEquals(SolveResult.SOLVED, result, "Snapshot should be solved");
+        assertTrue(snapshot.isSolved(), "Snapshot should keep the solution");
+        assertArrayEquals(parse(INKALA), board.getValues(), "Live board should not change while solving");
+        assertTrue(changes.isEmpty(), "Solving a snapshot should not notify the live board");
+        
+        assertTrue(snapshot.applyTo(board), "Solution should be applied to an unchanged board");
+        assertTrue(board.isValid(), "Applied solution should be valid");
+        assertEquals(1, changes.size(), "Solution should be applied in one update");
+        assertEquals(60, changes.get(0).size(), "Only the empty cells should change");
+        assertEquals(0, fieldEvents[0], "Field listeners should not see the bulk update");
+        assertArrayEquals(parse(INKALA), snapshot.getValues(), "Snapshot should keep the original values");
+    }
+    
+    @Test
+    public void testStaleSnapshotIsNotApplied() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        BoardSnapshot snapshot = BoardSnapshot.of(board);
+        snapshot.solve(new GridSolver(), SolveBudget.unlimited());
+        
+        board.setValueAt(0, 1, 1);
+        int[] edited = board.getValues();
+        
+        assertFalse(snapshot.applyTo(board), "Snapshot of an older board state should not be applied");
+        assertArrayEquals(edited, board.getValues(), "Edited board should be left unchanged");
+    }
+    
+    @Test
+    public void testUnsolvedSnapshotIsNotApplied() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA_DEAD_END));
+        BoardSnapshot unsolvable = BoardSnapshot.of(board);
+        BoardSnapshot cancelled = BoardSnapshot.of(board);
+        SolveBudget budget = SolveBudget.unlimited();
+        budget.cancel();
+        
+        assertEquals(SolveResult.UNSOLVABLE, unsolvable.solve(new GridSolver(), SolveBudget.unlimited()),
+                "Dead end puzzle should be unsolvable");
+        assertEquals(SolveResult.TIMED_OUT, cancelled.solve(new GridSolver(), budget),
+                "Cancelled budget should time out");
+        assertFalse(unsolvable.isSolved(), "Unsolvable snapshot should have no solution");
+        assertFalse(unsolvable.applyTo(board), "Unsolvable snapshot should not be applied");
+        assertFalse(cancelled.applyTo(board), "Timed out snapshot should not be applied");
+        assertFalse(BoardSnapshot.of(board).applyTo(board), "Unsolved snapshot should not be applied");
+        assertArrayEquals(parse(INKALA_DEAD_END), board.getValues(), "Board should be left unchanged");
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CachingSudokuSolver.
+ * @author zhuma
+ */
+public class CachingSudokuSolverTest {
+    private static SudokuBoard solvedBoard;
+    private static SudokuBoard puzzleBoard;
+    
+    @BeforeAll
+    public static void setUp() {
+        solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        solvedBoard.solveGame();
+        puzzleBoard = GameDifficulty.EASY.prepareBoard(solvedBoard);
+    }
+    
+    private static class CountingSolver implements SudokuSolver {
+        private static final long serialVersionUID = 1L;
+        private final SudokuSolver solver = new BacktrackingSudokuSolver();
+        private int calls;
+        
+        @Override
+        public boolean solve(SudokuBoard board) {
+            calls++;
+            return solver.solve(board);
+        }
+    }
+    
+    @Test
+    public void testRepeatedPuzzleIsServedFromCache() {
+        CountingSolver counting = new CountingSolver();
+        CachingSudokuSolver solver = new CachingSudokuSolver(counting);
+        SudokuBoard first = puzzleBoard.clone();
+        SudokuBoard second = puzzleBoard.clone();
+        
+        assertTrue(solver.solve(first), "First solve should succeed");
+        assertTrue(solver.solve(second), "Second solve should succeed");
+        
+        assertEquals(1, counting.calls, "Only the first solve should reach the wrapped solver");
+        assertEquals(1, solver.getHitCount(), "Second solve should be a cache hit");
+        assertEquals(1, solver.getMissCount(), "First solve should be a cache miss");
+        assertArrayEquals(first.getValues(), second.getValues(), "Cached solution should match the original one");
+    }
+    
+    @Test
+    public void testEquivalentPuzzleIsMappedBack() {
+        CountingSolver counting = new CountingSolver();
+        CachingSudokuSolver solver = new CachingSudokuSolver(counting);
+        SudokuTransform transform = new SudokuTransform(true,
+                new int[] {5, 3, 4, 0, 2, 1, 8, 6, 7},
+                new int[] {2, 1, 0, 7, 8, 6, 3, 4, 5},
+                new int[] {0, 4, 5, 6, 7, 8, 9, 1, 2, 3});
+        int[] puzzle = puzzleBoard.getValues();
+        int[] equivalentPuzzle = transform.apply(puzzle);
+        SudokuBoard equivalent = new SudokuBoard(new BacktrackingSudokuSolver());
+        equivalent.setValues(equivalentPuzzle);
+        
+        solver.solve(puzzleBoard.clone());
+        assertTrue(solver.solve(equivalent), "Equivalent puzzle should be solved");
+        
+        assertEquals(1, counting.calls, "Equivalent puzzle should not reach the wrapped solver");
+        assertTrue(equivalent.isValid(), "Mapped solution should be valid");
+        int[] solution = equivalent.getValues();
+        for (int i = 0; i < 81; i++) {
+            assertNotEquals(0, solution[i], "Mapped solution should be complete");
+            if (equivalentPuzzle[i] != 0) {
+                assertEquals(equivalentPuzzle[i], solution[i], "Mapped solution should keep the clues");
+            }
+        }
+    }
+    
+    @Test
+    public void testOnlySolutionsAreCached() {
+        CountingSolver counting = new CountingSolver();
+        CachingSudokuSolver solver = new CachingSudokuSolver(counting);
+        SolveBudget expired = SolveBudget.of(Duration.ZERO);
+        
+        assertEquals(SolveResult.TIMED_OUT, solver.solve(puzzleBoard.clone(), expired),
+                "Expired budget should time out on a cache miss");
+        assertEquals(0, solver.size(), "Timeouts should not be cached");
+        assertEquals(SolveResult.SOLVED, solver.solve(puzzleBoard.clone(), SolveBudget.unlimited()),
+                "Puzzle should be solved with an unlimited budget");
+        assertEquals(SolveResult.SOLVED, solver.solve(puzzleBoard.clone(), expired),
+                "Cached solution should be served even without budget left");
+        assertEquals(1, counting.calls, "Only the unlimited solve should reach the wrapped solver");
+    }
+    
+    @Test
+    public void testEmptyBoardBypassesCache() {
+        CountingSolver counting = new CountingSolver();
+        CachingSudokuSolver solver = new CachingSudokuSolver(counting);
+        
+        assertTrue(solver.solve(new SudokuBoard(solver)), "Empty board should be solved");
+        assertTrue(solver.solve(new SudokuBoard(solver)), "Empty board should be solved");
+        
+        assertEquals(2, counting.calls, "Boards with too few clues should always be delegated");
+        assertEquals(0, solver.size(), "Boards with too few clues should not be cached");
+    }
+    
+    @Test
+    public void testCapacityIsBounded() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new BacktrackingSudokuSolver(), 2);
+        for (int i = 0; i < 4; i++) {
+            SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+            solved.solveGame();
+            solver.solve(GameDifficulty.EASY.prepareBoard(solved));
+        }
+        
+        assertEquals(2, solver.size(), "Cache should not grow beyond its capacity");
+        solver.clear();
+        assertEquals(0, solver.size(), "Cleared cache should be empty");
+    }
+    
+    @Test
+    public void testSerializationKeepsSolverUsable() throws Exception {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new BacktrackingSudokuSolver(), 8);
+        solver.solve(puzzleBoard.clone());
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(solver);
+        }
+        CachingSudokuSolver restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (CachingSudokuSolver) in.readObject();
+        }
+        
+        assertEquals(8, restored.getCapacity(), "Capacity should survive serialization");
+        assertEquals(0, restored.size(), "Cache contents should not be serialized");
+        assertTrue(restored.solve(puzzleBoard.clone()), "Restored solver should still solve boards");
+    }
+    
+    @Test
+    public void testSharedDecoratorsShareOneCache() {
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        SudokuBoard puzzle = GameDifficulty.MEDIUM.prepareBoard(solved);
+        CountingSolver firstCounting = new CountingSolver();
+        CountingSolver secondCounting = new CountingSolver();
+        CachingSudokuSolver first = CachingSudokuSolver.shared(firstCounting);
+        CachingSudokuSolver second = CachingSudokuSolver.shared(secondCounting);
+        CachingSudokuSolver own = new CachingSudokuSolver(new CountingSolver());
+        
+        assertTrue(first.solve(puzzle.clone()), "First shared decorator should solve the puzzle");
+        assertTrue(second.solve(puzzle.clone()), "Second shared decorator should solve the puzzle");
+        
+        assertEquals(1, firstCounting.calls, "First decorator should solve the puzzle itself");
+        assertEquals(0, secondCounting.calls, "Second decorator should use the shared solution");
+        assertTrue(first.isShared() && !own.isShared(), "Only shared decorators should report sharing");
+        assertEquals(0, own.size(), "Decorators with their own cache should not see shared solutions");
+    }
+    
+    @Test
+    public void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingSudokuSolver(null),
+                "Null solver should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingSudokuSolver(new BacktrackingSudokuSolver(), 0),
+                "Non-positive capacity should be rejected");
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for CandidateTracker.
+ * @author zhuma
+ */
+public class CandidateTrackerTest {
+    
+    @Test
+    public void testInitialCandidates() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        
+        CandidateTracker tracker = new CandidateTracker(board);
+        
+        assertEquals(mask(1, 2, 4, 6), tracker.getCandidates(0, 1), "Cell should allow digits its units lack");
+        assertEquals(0, tracker.getCandidates(0, 0), "Filled cell should have no candidates");
+        assertTrue(tracker.isCandidate(0, 2, 4), "4 should be a candidate of [0,2]");
+        assertFalse(tracker.isCandidate(0, 2, 3), "3 of the box should not be a candidate");
+        assertEquals(CandidateTracker.ALL_CANDIDATES,
+                new CandidateTracker(new SudokuBoard(new BacktrackingSudokuSolver())).getCandidates(4, 4),
+                "Empty board should allow every digit");
+    }
+    
+    @Test
+    public void testPlacingAndClearingUpdatesPeers() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        CandidateTracker tracker = new CandidateTracker(board);
+        List<int[]> reports = new ArrayList<>();
+        tracker.addCandidateListener((source, cells) -> reports.add(cells));
+        
+        board.setValueAt(0, 1, 4);
+        assertEquals(0, tracker.getCandidates(0, 1), "Filled cell should lose its candidates");
+        assertFalse(tracker.isCandidate(0, 2, 4), "Placed digit should be cleared from the row and box");
+        assertFalse(tracker.isCandidate(4, 1, 4), "Placed digit should be cleared from the column");
+        assertTrue(tracker.isCandidate(4, 2, 6), "Other candidates of peers should stay");
+        assertEquals(1, reports.size(), "One edit should be reported once");
+        
+        board.setValueAt(5, 2, 4);
+        board.setValueAt(0, 1, 0);
+        assertEquals(mask(1, 2, 4, 6), tracker.getCandidates(0, 1), "Cleared cell should get its candidates back");
+        assertFalse(tracker.isCandidate(0, 2, 4), "Digit still seen in the column should not be restored");
+        assertTrue(tracker.isCandidate(0, 3, 4), "Digit should be restored where no copy is seen");
+        
+        tracker.dispose();
+        board.setValueAt(0, 1, 4);
+        assertEquals(3, reports.size(), "Disposed tracker should not follow the board");
+    }
+    
+    @Test
+    public void testBatchedUpdateIsReportedOnce() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        CandidateTracker tracker = new CandidateTracker(board);
+        List<int[]> reports = new ArrayList<>();
+        tracker.addCandidateListener((source, cells) -> reports.add(cells));
+        
+        board.beginUpdate();
+        board.setValueAt(0, 1, 4);
+        board.setValueAt(0, 1, 0);
+        board.commitUpdate();
+        assertTrue(reports.isEmpty(), "Update without a net change should not report anything");
+        
+        board.solveGame();
+        assertEquals(1, reports.size(), "Solving should be reported once");
+        for (int cell = 0; cell < 81; cell++) {
+            assertEquals(0, tracker.getCandidates(cell), "Solved board should have no candidates");
+        }
+    }
+    
+    @Test
+    public void testMatchesFullScanAfterRandomEdits() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        CandidateTracker tracker = new CandidateTracker(board);
+        Random random = new Random(7);
+        
+        for (int edit = 0; edit < 2000; edit++) {
+            board.setValueAt(random.nextInt(9), random.nextInt(9), random.nextInt(10));
+            if (edit % 100 == 0) {
+                assertCandidatesMatch(board, tracker);
+            }
+        }
+        assertCandidatesMatch(board, tracker);
+    }
+    
+    private void assertCandidatesMatch(SudokuBoard board, CandidateTracker tracker) {
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                assertEquals(scan(board, row, col), tracker.getCandidates(row, col),
+                        "Tracked candidates should match a full scan at [" + row + "," + col + "]");
+            }
+        }
+    }
+    
+    private int scan(SudokuBoard board, int row, int col) {
+        if (board.getValueAt(row, col) != 0) {
+            return 0;
+        }
+        int mask = CandidateTracker.ALL_CANDIDATES;
+        for (int other = 0; other < 81; other++) {
+            int otherRow = other / 9;
+            int otherCol = other % 9;
+            int value = board.getValueAt(otherRow, otherCol);
+            boolean peer = otherRow == row || otherCol == col
+                    || (otherRow / 3 == row / 3 && otherCol / 3 == col / 3);
+            if (peer && value != 0) {
+                mask &= ~(1 << (value - 1));
+            }
+        }
+        return mask;
+    }
+    
+    private int mask(int... digits) {
+        int mask = 0;
+        for (int digit : digits) {
+            mask |= 1 << (digit - 1);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CanonicalForm.
+ * @author zhuma
+ */
+public class CanonicalFormTest {
+    
+    private static int[] solvedCells() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        return board.getValues();
+    }
+    
+    @Test
+    public void testKeyMatchesCells() {
+        int[] cells = solvedCells();
+        CanonicalForm form = SudokuCanonicalizer.of(cells);
+        StringBuilder expected = new StringBuilder();
+        for (int value : form.getCells()) {
+            expected.append(value);
+        }
+        
+        assertEquals(expected.toString(), form.getKey(), "Key should list the canonical cells");
+        assertEquals(form.getKey(), form.toString(), "toString should return the key");
+    }
+    
+    @Test
+    public void testToOriginalRestoresCells() {
+        int[] cells = solvedCells();
+        CanonicalForm form = SudokuCanonicalizer.of(cells);
+        
+        assertArrayEquals(cells, form.toOriginal(form.getCells()), "Canonical cells should map back to the input");
+    }
+    
+    @Test
+    public void testCellsAreDefensivelyCopied() {
+        CanonicalForm form = SudokuCanonicalizer.of(solvedCells());
+        int[] cells = form.getCells();
+        cells[0] = 0;
+        
+        assertNotEquals(0, form.getCells()[0], "Modifying the returned array should not change the form");
+    }
+    
+    @Test
+    public void testEqualityIgnoresTransform() {
+        int[] cells = solvedCells();
+        CanonicalForm form = SudokuCanonicalizer.of(cells);
+        CanonicalForm other = new CanonicalForm(form.getCells(), SudokuTransform.identity());
+        
+        assertEquals(form, other, "Forms with equal cells should be equal");
+        assertEquals(form.hashCode(), other.hashCode(), "Equal forms should have equal hash codes");
+    }
+    
+    @Test
+    public void testRejectsWrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CanonicalForm(new int[80], SudokuTransform.identity()),
+                "Arrays of wrong length should be rejected");
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for ConflictTracker.
+ * @author zhuma
+ */
+public class ConflictTrackerTest {
+    
+    @Test
+    public void testInitialConflicts() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        board.setValueAt(0, 4, 8);
+        
+        ConflictTracker tracker = new ConflictTracker(board);
+        
+        assertTrue(tracker.isConflict(0, 0), "Original 8 should clash with the new one");
+        assertTrue(tracker.isConflict(0, 4), "New 8 should clash with the original one");
+        assertFalse(tracker.isConflict(1, 2), "Unrelated clue should not be in conflict");
+        assertEquals(2, tracker.getConflictCount(), "Only the two 8s should be in conflict");
+    }
+    
+    @Test
+    public void testReportsOnlyChangedCells() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        ConflictTracker tracker = new ConflictTracker(board);
+        List<int[]> reports = new ArrayList<>();
+        tracker.addConflictListener((source, cells) -> reports.add(cells));
+        
+        board.setValueAt(0, 1, 4);
+        assertTrue(reports.isEmpty(), "Digit without a clash should not report anything");
+        
+        board.setValueAt(0, 1, 7);
+        assertEquals(1, reports.size(), "Clash with the box should be reported once");
+        assertArrayEquals(new int[] {1, 19}, reports.get(0), "Both 7s should be reported");
+        assertTrue(tracker.isConflict(0, 1), "Typed 7 should be in conflict");
+        assertTrue(tracker.isConflict(2, 1), "Clue 7 should be in conflict");
+        
+        board.setValueAt(0, 2, 7);
+        assertArrayEquals(new int[] {2}, reports.get(1), "Only the new 7 should be reported");
+        assertEquals(3, tracker.getConflictCount(), "Three 7s should be in conflict");
+        
+        board.setValueAt(0, 1, 0);
+        assertArrayEquals(new int[] {1}, reports.get(2),
+                "Cleared cell should be reported while the other 7s still clash");
+        board.setValueAt(0, 2, 0);
+        assertArrayEquals(new int[] {2, 19}, reports.get(3), "Clearing the last clash should release the clue");
+        assertEquals(0, tracker.getConflictCount(), "Board should have no conflicts left");
+        
+        tracker.dispose();
+        board.setValueAt(0, 1, 7);
+        assertEquals(4, reports.size(), "Disposed tracker should not follow the board");
+    }
+    
+    @Test
+    public void testBatchedUpdateIsReportedOnce() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        ConflictTracker tracker = new ConflictTracker(board);
+        List<int[]> reports = new ArrayList<>();
+        tracker.addConflictListener((source, cells) -> reports.add(cells));
+        
+        board.beginUpdate();
+        board.setValueAt(0, 1, 8);
+        board.setValueAt(0, 1, 4);
+        board.setValueAt(4, 0, 5);
+        board.commitUpdate();
+        
+        assertEquals(1, reports.size(), "Batched update should be reported once");
+        assertArrayEquals(new int[] {28, 36, 41}, reports.get(0), "New 5 and the 5s it clashes with should be reported");
+        assertFalse(tracker.isConflict(0, 1), "Intermediate 8 should leave no conflict");
+    }
+    
+    @Test
+    public void testMatchesFullScanAfterRandomEdits() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        ConflictTracker tracker = new ConflictTracker(board);
+        Random random = new Random(42);
+        
+        for (int edit = 0; edit < 2000; edit++) {
+            board.setValueAt(random.nextInt(9), random.nextInt(9), random.nextInt(10));
+            if (edit % 100 == 0) {
+                assertConflictsMatch(board, tracker);
+            }
+        }
+        assertConflictsMatch(board, tracker);
+    }
+    
+    private void assertConflictsMatch(SudokuBoard board, ConflictTracker tracker) {
+        int count = 0;
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                boolean expected = clashes(board, row, col);
+                assertEquals(expected, tracker.isConflict(row, col),
+                        "Tracked conflict should match a full scan at [" + row + "," + col + "]");
+                count += expected ? 1 : 0;
+            }
+        }
+        assertEquals(count, tracker.getConflictCount(), "Conflict count should match a full scan");
+    }
+    
+    private boolean clashes(SudokuBoard board, int row, int col) {
+        int value = board.getValueAt(row, col);
+        if (value == 0) {
+            return false;
+        }
+        for (int other = 0; other < 81; other++) {
+            int otherRow = other / 9;
+            int otherCol = other % 9;
+            boolean peer = otherRow == row || otherCol == col
+                    || (otherRow / 3 == row / 3 && otherCol / 3 == col / 3);
+            if (peer && other != row * 9 + col && board.getValueAt(otherRow, otherCol) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -140,6 +140,71 @@ public class GameDifficultyTest {
         }
     }
     
+    @Test
+    public void testPrepareBoards() {
+        java.util.List<SudokuBoard> boards = GameDifficulty.MEDIUM.prepareBoards(sourceBoard, 5);
+        
+        assertEquals(5, boards.size(), "Should return the requested number of boards");
+        for (SudokuBoard board : boards) {
+            assertEquals(40, countEmptyCells(board), "Every multiplied board should keep the clue count");
+        }
+        assertEquals(5, boards.stream().map(SudokuBoard::getValues).map(java.util.Arrays::toString).distinct().count(),
+                "Multiplied boards should be distinct");
+        assertThrows(IllegalArgumentException.class, () -> GameDifficulty.MEDIUM.prepareBoards(sourceBoard, 0),
+                "Requesting no boards should be rejected");
+    }
+    
+    @Test
+    public void testPrepareGradedBoard() {
+        SudokuBoard easy = GameDifficulty.EASY.prepareGradedBoard(sourceBoard);
+        
+        assertEquals(20, countEmptyCells(easy), "Graded easy board should have 20 empty cells");
+        assertTrue(GameDifficulty.EASY.accepts(PuzzleGrader.grade(easy)),
+                "Graded easy board should fall into the easy band");
+        assertEquals(60, countEmptyCells(GameDifficulty.HARD.prepareGradedBoard(sourceBoard)),
+                "Graded hard board should have 60 empty cells");
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                int value = easy.getValueAt(row, col);
+                assertTrue(value == 0 || value == sourceBoard.getValueAt(row, col),
+                        "Graded board should only keep clues from the source board");
+            }
+        }
+    }
+    
+    @Test
+    public void testSeededPreparationIsReproducible() {
+        SudokuBoard first = GameDifficulty.HARD.prepareBoard(sourceBoard, new java.util.SplittableRandom(7));
+        SudokuBoard second = GameDifficulty.HARD.prepareBoard(sourceBoard, new java.util.SplittableRandom(7));
+        
+        SudokuBoard firstGraded = GameDifficulty.MEDIUM.prepareGradedBoard(sourceBoard,
+                new java.util.SplittableRandom(7));
+        SudokuBoard secondGraded = GameDifficulty.MEDIUM.prepareGradedBoard(sourceBoard,
+                new java.util.SplittableRandom(7));
+        
+        assertArrayEquals(first.getValues(), second.getValues(), "Equal seeds should dig equal holes");
+        assertArrayEquals(firstGraded.getValues(), secondGraded.getValues(),
+                "Equal seeds should give equal graded puzzles");
+    }
+    
+    @Test
+    public void testDifficultyBands() {
+        SudokuBoard puzzle = new SudokuBoard(new BacktrackingSudokuSolver());
+        PuzzleGrade empty = PuzzleGrader.grade(puzzle);
+        PuzzleGrade solved = PuzzleGrader.grade(sourceBoard);
+        
+        assertTrue(GameDifficulty.EASY.accepts(solved), "Easy band should accept naked singles");
+        assertFalse(GameDifficulty.HARD.accepts(solved), "Hard band should need more than naked singles");
+        assertTrue(GameDifficulty.HARD.accepts(empty), "Hard band should accept non-unique guessing");
+        assertFalse(GameDifficulty.MEDIUM.accepts(empty), "Medium band should require a unique solution");
+        assertTrue(GameDifficulty.EASY.isUniqueRequired(), "Easy puzzles should be unique");
+        assertFalse(GameDifficulty.HARD.isUniqueRequired(), "Hard puzzles need not be unique");
+        for (GameDifficulty difficulty : GameDifficulty.values()) {
+            assertFalse(difficulty.getMinTechnique().isHarderThan(difficulty.getMaxTechnique()),
+                    "Band of " + difficulty + " should not be empty");
+        }
+    }
+    
     @Test
     public void testPrepareDecoratedBoard() {
         EditableSudokuBoardDecorator easyDecorator = GameDifficulty.EASY.prepareDecoratedBoard(sourceBoard);
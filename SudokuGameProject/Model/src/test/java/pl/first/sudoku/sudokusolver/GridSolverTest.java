@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA_DEAD_END;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for GridSolver.
+ * @author zhuma
+ */
+public class GridSolverTest {
+    
+    @Test
+    public void testFillEmptyGrids() {
+        GridSolver solver = new GridSolver();
+        for (int boxSize = 2; boxSize <= 5; boxSize++) {
+            SudokuGrid grid = new SudokuGrid(boxSize);
+            
+            assertTrue(solver.solve(grid), "Empty grid with box size " + boxSize + " should be filled");
+            assertTrue(grid.isSolved(), "Filled grid with box size " + boxSize + " should be solved");
+        }
+    }
+    
+    @Test
+    public void testSolveBoardThroughSolverContract() {
+        SudokuBoard grid = new SudokuBoard(new GridSolver());
+        SudokuBoard backtracking = new SudokuBoard(new BacktrackingSudokuSolver());
+        grid.setValues(parse(INKALA));
+        backtracking.setValues(parse(INKALA));
+        
+        assertTrue(grid.solveGame(), "Hard puzzle should be solved");
+        assertTrue(backtracking.solveGame(), "Hard puzzle should be solved by the reference solver");
+        assertArrayEquals(backtracking.getValues(), grid.getValues(),
+                "Unique puzzle should get the same solution from both solvers");
+    }
+    
+    @Test
+    public void testUnsolvableGridIsLeftUnchanged() {
+        GridSolver solver = new GridSolver();
+        SudokuGrid grid = new SudokuGrid(3, parse(INKALA_DEAD_END));
+        SudokuGrid original = grid.clone();
+        
+        assertEquals(SolveResult.UNSOLVABLE, solver.solve(grid, SolveBudget.unlimited(), null),
+                "Dead end puzzle should be unsolvable");
+        assertEquals(original, grid, "Unsolvable grid should be left unchanged");
+        
+        SudokuBoard board = new SudokuBoard(solver);
+        board.setValueAt(0, 0, 1);
+        board.setValueAt(0, 1, 1);
+        assertFalse(solver.solve(board), "Conflicting clues should not be solved");
+        assertEquals(0, board.getValueAt(0, 2), "Unsolvable board should be left unchanged");
+    }
+    
+    @Test
+    public void testBudgetStopsSearch() {
+        GridSolver solver = new GridSolver();
+        SudokuGrid grid = new SudokuGrid(4);
+        SolveBudget budget = SolveBudget.unlimited();
+        
+        SolveResult result = solver.solve(grid, budget, (nodes, elapsedNanos) -> budget.cancel());
+        
+        assertEquals(SolveResult.TIMED_OUT, result, "Search cancelled at the first report should time out");
+        assertEquals(new SudokuGrid(4), grid, "Timed out grid should be left unchanged");
+        assertEquals(SolveResult.TIMED_OUT, solver.solve(grid, budget, null), "Exhausted budget should not search");
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(grid, null, null),
+                "Missing budget should be rejected");
+    }
+    
+    @Test
+    public void testGenerate() {
+        GridSolver solver = new GridSolver();
+        SudokuGrid puzzle = solver.generate(4, 100);
+        int empty = 0;
+        for (int value : puzzle.getValues()) {
+            if (value == 0) {
+                empty++;
+            }
+        }
+        
+        assertEquals(100, empty, "Requested number of cells should be removed");
+        assertTrue(puzzle.isValid(), "Puzzle should be valid");
+        assertTrue(solver.solve(puzzle), "Puzzle dug from a solution should be solvable");
+        assertThrows(IllegalArgumentException.class, () -> solver.generate(2, 17),
+                "Removing more cells than the grid has should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> solver.generate(2, -1),
+                "Negative cell count should be rejected");
+    }
+    
+    @Test
+    public void testSeededSolverIsReproducible() {
+        SudokuGrid first = new GridSolver(new SplittableRandom(42)).generate(4, 128);
+        SudokuGrid second = new GridSolver(new SplittableRandom(42)).generate(4, 128);
+        
+        assertEquals(first, second, "Equal seeds should give equal puzzles");
+        assertThrows(IllegalArgumentException.class, () -> new GridSolver(null),
+                "Null random generator should be rejected");
+    }
+    
+    @Test
+    public void testSerialization() throws Exception {
+        GridSolver solver = new GridSolver();
+        solver.solve(new SudokuGrid(3));
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(solver);
+        }
+        GridSolver restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (GridSolver) in.readObject();
+        }
+        
+        SudokuGrid grid = new SudokuGrid(2);
+        assertTrue(restored.solve(grid), "Restored solver should allocate its work arrays again");
+        assertTrue(grid.isSolved(), "Restored solver should produce valid solutions");
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA_DEAD_END;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for IterativeSudokuSolver.
+ * @author zhuma
+ */
+public class IterativeSudokuSolverTest {
+    
+    @Test
+    public void testSolveEmptyBoard() {
+        SudokuSolver solver = new IterativeSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        
+        assertTrue(solver.solve(board), "Empty board should be solved");
+        assertTrue(board.isValid(), "Solution should be valid");
+        for (int value : board.getValues()) {
+            assertTrue(value >= 1 && value <= 9, "Every cell should be filled");
+        }
+    }
+    
+    @Test
+    public void testSolveHardPuzzleMatchesBacktracking() {
+        int[] puzzle = parse(INKALA);
+        SudokuBoard iterative = new SudokuBoard(new IterativeSudokuSolver());
+        SudokuBoard backtracking = new SudokuBoard(new BacktrackingSudokuSolver());
+        iterative.setValues(puzzle);
+        backtracking.setValues(puzzle);
+        
+        assertTrue(iterative.solveGame(), "Hard puzzle should be solved");
+        assertTrue(backtracking.solveGame(), "Hard puzzle should be solved by the reference solver");
+        assertArrayEquals(backtracking.getValues(), iterative.getValues(),
+                "Unique puzzle should get the same solution from both solvers");
+    }
+    
+    @Test
+    public void testRepeatedSolvesReuseSolver() {
+        IterativeSudokuSolver solver = new IterativeSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        for (int i = 0; i < 50; i++) {
+            board.setValues(new int[81]);
+            assertTrue(solver.solve(board), "Every solve should succeed");
+            assertTrue(board.isValid(), "Every solution should be valid");
+        }
+    }
+    
+    @Test
+    public void testRandomSolutions() {
+        SudokuBoard first = new SudokuBoard(new IterativeSudokuSolver());
+        SudokuBoard second = new SudokuBoard(new IterativeSudokuSolver());
+        
+        first.solveGame();
+        second.solveGame();
+        
+        assertFalse(java.util.Arrays.equals(first.getValues(), second.getValues()),
+                "Independent solvers should fill the empty board differently");
+    }
+    
+    @Test
+    public void testSeededSolverIsReproducible() {
+        SudokuBoard first = new SudokuBoard(new IterativeSudokuSolver(new SplittableRandom(42)));
+        SudokuBoard second = new SudokuBoard(new IterativeSudokuSolver(new SplittableRandom(42)));
+        
+        first.solveGame();
+        second.solveGame();
+        
+        assertArrayEquals(first.getValues(), second.getValues(), "Equal seeds should give equal solutions");
+        assertThrows(IllegalArgumentException.class, () -> new IterativeSudokuSolver(null),
+                "Null random generator should be rejected");
+    }
+    
+    @Test
+    public void testUnsolvableBoardIsLeftUnchanged() {
+        SudokuSolver solver = new IterativeSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        int[] puzzle = parse(INKALA_DEAD_END);
+        board.setValues(puzzle);
+        
+        assertFalse(solver.solve(board), "Dead end puzzle should not be solved");
+        assertArrayEquals(puzzle, board.getValues(), "Unsolvable board should be left unchanged");
+        
+        board.setValueAt(0, 1, 8);
+        assertEquals(SolveResult.UNSOLVABLE, solver.solve(board, SolveBudget.unlimited()),
+                "Conflicting clues should be unsolvable");
+    }
+    
+    @Test
+    public void testBudgetStopsSearch() {
+        SudokuSolver solver = new IterativeSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        int[] puzzle = parse(INKALA_DEAD_END);
+        board.setValues(puzzle);
+        SolveBudget budget = SolveBudget.unlimited();
+        AtomicLong lastNodes = new AtomicLong();
+        
+        SolveResult result = solver.solve(board, budget, (nodes, elapsedNanos) -> {
+            lastNodes.set(nodes);
+            if (nodes >= 2048) {
+                budget.cancel();
+            }
+        });
+        
+        assertEquals(SolveResult.TIMED_OUT, result, "Cancelled search should time out");
+        assertEquals(2048, lastNodes.get(), "Search should stop at the first check after cancelling");
+        assertArrayEquals(puzzle, board.getValues(), "Timed out board should be left unchanged");
+        assertEquals(SolveResult.TIMED_OUT, solver.solve(board, budget), "Exhausted budget should not search");
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(board, null, null),
+                "Missing budget should be rejected");
+    }
+    
+    @Test
+    public void testSerialization() throws Exception {
+        IterativeSudokuSolver solver = new IterativeSudokuSolver();
+        solver.solve(new SudokuBoard(solver));
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(solver);
+        }
+        IterativeSudokuSolver restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (IterativeSudokuSolver) in.readObject();
+        }
+        
+        SudokuBoard board = new SudokuBoard(restored);
+        assertTrue(restored.solve(board), "Restored solver should allocate its work arrays again");
+        assertTrue(board.isValid(), "Restored solver should produce valid solutions");
+    }
+}
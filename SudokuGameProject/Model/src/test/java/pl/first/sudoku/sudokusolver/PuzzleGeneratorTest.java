@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PuzzleGenerator.
+ * @author zhuma
+ */
+public class PuzzleGeneratorTest {
+    private static final long SEED = 20250101L;
+    
+    @Test
+    public void testSameSeedGivesSamePuzzles() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.MEDIUM);
+        
+        List<SudokuBoard> first = generator.generate(SEED, 0, 6, 1);
+        List<SudokuBoard> second = generator.generate(SEED, 0, 6, 1);
+        
+        for (int i = 0; i < first.size(); i++) {
+            assertArrayEquals(first.get(i).getValues(), second.get(i).getValues(),
+                    "Puzzle " + i + " should be reproducible");
+        }
+    }
+    
+    @Test
+    public void testThreadCountDoesNotChangeOutput() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.EASY);
+        
+        List<SudokuBoard> sequential = generator.generate(SEED, 0, 8, 1);
+        List<SudokuBoard> parallel = generator.generate(SEED, 0, 8, 4);
+        
+        assertEquals(8, parallel.size(), "Every requested puzzle should be generated");
+        for (int i = 0; i < sequential.size(); i++) {
+            assertArrayEquals(sequential.get(i).getValues(), parallel.get(i).getValues(),
+                    "Puzzle " + i + " should not depend on the thread count");
+        }
+    }
+    
+    @Test
+    public void testSinglePuzzleMatchesBatch() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.EASY);
+        List<SudokuBoard> batch = generator.generate(SEED, 3, 2, 2);
+        
+        assertArrayEquals(batch.get(0).getValues(), generator.generate(SEED, 3).getValues(),
+                "Puzzle 3 should be reproducible from seed and index");
+        assertArrayEquals(batch.get(1).getValues(), generator.generate(SEED, 4).getValues(),
+                "Puzzle 4 should be reproducible from seed and index");
+    }
+    
+    @Test
+    public void testDistantIndexIsReachedDirectly() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.EASY);
+        long index = Long.MAX_VALUE - 10;
+        
+        List<List<SudokuBoard>> batch = new ArrayList<>();
+        
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> batch.add(generator.generate(SEED, index, 2, 1)),
+                "Distant shard should not walk the sequence");
+        assertArrayEquals(batch.get(0).get(1).getValues(), generator.generate(SEED, index + 1).getValues(),
+                "Distant puzzle should be reproducible from seed and index");
+    }
+    
+    @Test
+    public void testPuzzlesAreDistinctAndGraded() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.EASY);
+        SudokuBoard first = generator.generate(SEED, 0);
+        
+        assertFalse(java.util.Arrays.equals(first.getValues(), generator.generate(SEED, 1).getValues()),
+                "Different indexes should give different puzzles");
+        assertFalse(java.util.Arrays.equals(first.getValues(), generator.generate(SEED + 1, 0).getValues()),
+                "Different seeds should give different puzzles");
+        assertTrue(GameDifficulty.EASY.accepts(PuzzleGrader.grade(first)), "Puzzle should be in the easy band");
+        assertEquals(GameDifficulty.EASY, generator.getDifficulty(), "Generator should keep its difficulty");
+    }
+    
+    @Test
+    public void testRejectsInvalidArguments() {
+        PuzzleGenerator generator = new PuzzleGenerator(GameDifficulty.EASY);
+        
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleGenerator(null),
+                "Null difficulty should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(SEED, -1),
+                "Negative index should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(SEED, 0, 1, 0),
+                "Zero threads should be rejected");
+        assertTrue(generator.generate(SEED, 0, 0, 2).isEmpty(), "Zero puzzles should give an empty list");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for PuzzleGrader and PuzzleGrade.
+ * @author zhuma
+ */
+public class PuzzleGraderTest {
+    private static final String NAKED_SINGLES =
+            "048019000013080709795260018001004807050600004304800690032040500400100372006320001";
+    private static final String HIDDEN_SINGLES =
+            "000420908402008760870006204005010020008200005203675840500001407004063082380042100";
+    private static final String LOCKED_CANDIDATES =
+            "057040090000900008000500100100300704000400002870000359700034000002750400001628007";
+    private static final String NAKED_PAIRS =
+            "090050007000089000304761905030042000000006504060500000018000700200008016700310002";
+    private static final String GUESS = INKALA;
+    
+    @Test
+    public void testSolvedBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        
+        PuzzleGrade grade = PuzzleGrader.grade(board);
+        
+        assertTrue(grade.isUnique(), "Solved board should be its own unique solution");
+        assertEquals(SolvingTechnique.NAKED_SINGLE, grade.getHardestTechnique(),
+                "Nothing harder than the cheapest technique should be needed");
+        assertEquals(0, grade.getUses(SolvingTechnique.NAKED_SINGLE), "No cell should be filled");
+        assertEquals(0, grade.getSearchNodes(), "No search should be needed");
+    }
+    
+    @Test
+    public void testHardestTechnique() {
+        assertHardest(SolvingTechnique.NAKED_SINGLE, NAKED_SINGLES);
+        assertHardest(SolvingTechnique.HIDDEN_SINGLE, HIDDEN_SINGLES);
+        assertHardest(SolvingTechnique.LOCKED_CANDIDATES, LOCKED_CANDIDATES);
+        assertHardest(SolvingTechnique.NAKED_PAIR, NAKED_PAIRS);
+    }
+    
+    @Test
+    public void testPuzzleNeedingSearch() {
+        PuzzleGrade grade = PuzzleGrader.grade(parse(GUESS));
+        
+        assertEquals(SolvingTechnique.GUESS, grade.getHardestTechnique(), "Puzzle should need guessing");
+        assertTrue(grade.getSearchNodes() > 0, "Search effort should be counted");
+        assertTrue(grade.isUnique(), "Puzzle should have a unique solution");
+        assertTrue(grade.getRating() > SolvingTechnique.GUESS.ordinal() + 1,
+                "Search effort should raise the rating");
+    }
+    
+    @Test
+    public void testEmptyBoardHasManySolutions() {
+        PuzzleGrade grade = PuzzleGrader.grade(new int[81]);
+        
+        assertTrue(grade.isSolvable(), "Empty board should be solvable");
+        assertFalse(grade.isUnique(), "Empty board should not have a unique solution");
+        assertEquals(2, grade.getSolutionCount(), "Solution count should stop at two");
+    }
+    
+    @Test
+    public void testUnsolvablePuzzle() {
+        int[] puzzle = new int[81];
+        for (int col = 0; col < 8; col++) {
+            puzzle[col] = col + 1;
+        }
+        puzzle[17] = 9;
+        
+        PuzzleGrade grade = PuzzleGrader.grade(puzzle);
+        
+        assertFalse(grade.isSolvable(), "Cell without candidates should make the puzzle unsolvable");
+        assertEquals(0, grade.getSolutionCount(), "Unsolvable puzzle should have no solutions");
+    }
+    
+    @Test
+    public void testConflictingCluesAreUnsolvable() {
+        int[] puzzle = parse(NAKED_SINGLES);
+        puzzle[0] = puzzle[1];
+        
+        assertFalse(PuzzleGrader.grade(puzzle).isSolvable(), "Duplicate clue in a row should be unsolvable");
+    }
+    
+    @Test
+    public void testGradeIsInvariantUnderTransforms() {
+        int[] puzzle = parse(HIDDEN_SINGLES);
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(puzzle);
+        
+        for (SudokuBoard variant : new PuzzleMultiplier().multiply(board, 5)) {
+            PuzzleGrade grade = PuzzleGrader.grade(variant);
+            assertEquals(SolvingTechnique.HIDDEN_SINGLE, grade.getHardestTechnique(),
+                    "Symmetric puzzle should need the same technique");
+            assertTrue(grade.isUnique(), "Symmetric puzzle should stay unique");
+        }
+    }
+    
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> PuzzleGrader.grade(new int[80]),
+                "Wrong cell count should be rejected");
+        int[] puzzle = new int[81];
+        puzzle[4] = 10;
+        assertThrows(IllegalArgumentException.class, () -> PuzzleGrader.grade(puzzle),
+                "Out of range value should be rejected");
+    }
+    
+    @Test
+    public void testTechniqueOrdering() {
+        assertTrue(SolvingTechnique.GUESS.isHarderThan(SolvingTechnique.HIDDEN_PAIR), "Guessing should be hardest");
+        assertFalse(SolvingTechnique.NAKED_SINGLE.isHarderThan(SolvingTechnique.NAKED_SINGLE),
+                "Technique should not be harder than itself");
+    }
+    
+    @Test
+    public void testToString() {
+        String text = PuzzleGrader.grade(parse(NAKED_SINGLES)).toString();
+        
+        assertTrue(text.contains("hardestTechnique=NAKED_SINGLE"), "toString should contain the hardest technique");
+        assertTrue(text.contains("solutionCount=1"), "toString should contain the solution count");
+    }
+    
+    private void assertHardest(SolvingTechnique expected, String puzzle) {
+        PuzzleGrade grade = PuzzleGrader.grade(parse(puzzle));
+        assertEquals(expected, grade.getHardestTechnique(), "Unexpected hardest technique for " + puzzle);
+        assertTrue(grade.getUses(expected) > 0, "Hardest technique should be used for " + puzzle);
+        assertTrue(grade.isUnique(), "Puzzle should be unique: " + puzzle);
+        assertEquals(0, grade.getSearchNodes(), "Logic alone should solve " + puzzle);
+    }
+}
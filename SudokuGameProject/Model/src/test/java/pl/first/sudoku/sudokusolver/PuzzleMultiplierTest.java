@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PuzzleMultiplier.
+ * @author zhuma
+ */
+public class PuzzleMultiplierTest {
+    private static SudokuBoard solvedBoard;
+    private static SudokuBoard puzzleBoard;
+    
+    @BeforeAll
+    public static void setUp() {
+        solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        solvedBoard.solveGame();
+        puzzleBoard = GameDifficulty.HARD.prepareBoard(solvedBoard);
+    }
+    
+    @Test
+    public void testTransformedSolvedGridStaysValid() {
+        PuzzleMultiplier multiplier = new PuzzleMultiplier(new Random(7));
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        
+        for (int i = 0; i < 20; i++) {
+            board.setValues(multiplier.transform(solvedBoard.getValues()));
+            assertTrue(board.isValid(), "Transformed solved grid should stay valid");
+        }
+    }
+    
+    @Test
+    public void testTransformedPuzzleIsEquivalent() {
+        PuzzleMultiplier multiplier = new PuzzleMultiplier(new Random(11));
+        String key = SudokuCanonicalizer.of(puzzleBoard.getValues()).getKey();
+        
+        for (int i = 0; i < 5; i++) {
+            int[] transformed = multiplier.transform(puzzleBoard.getValues());
+            assertEquals(key, SudokuCanonicalizer.of(transformed).getKey(),
+                    "Transformed puzzle should be equivalent to the source");
+        }
+    }
+    
+    @Test
+    public void testMultiplyReturnsDistinctPuzzles() {
+        PuzzleMultiplier multiplier = new PuzzleMultiplier(new Random(3));
+        int[] source = puzzleBoard.getValues();
+        List<int[]> puzzles = multiplier.multiply(source, 50);
+        
+        assertEquals(50, puzzles.size(), "Should produce the requested number of puzzles");
+        assertEquals(50, puzzles.stream().map(Arrays::toString).distinct().count(),
+                "Produced puzzles should be distinct");
+        for (int[] puzzle : puzzles) {
+            assertFalse(Arrays.equals(source, puzzle), "Produced puzzles should differ from the source");
+            assertEquals(Arrays.stream(source).filter(v -> v != 0).count(),
+                    Arrays.stream(puzzle).filter(v -> v != 0).count(), "Clue count should be preserved");
+        }
+    }
+    
+    @Test
+    public void testMultiplyBoards() {
+        List<SudokuBoard> boards = new PuzzleMultiplier().multiply(puzzleBoard, 3);
+        
+        assertEquals(3, boards.size(), "Should produce the requested number of boards");
+        for (SudokuBoard board : boards) {
+            SudokuBoard solved = board.clone();
+            assertTrue(solved.solveGame(), "Multiplied puzzle should be solvable");
+            assertTrue(solved.isValid(), "Solved multiplied puzzle should be valid");
+        }
+    }
+    
+    @Test
+    public void testSymmetricGridStopsEarly() {
+        List<int[]> puzzles = new PuzzleMultiplier().multiply(new int[81], 5);
+        
+        assertTrue(puzzles.isEmpty(), "An empty grid has no distinct transformed copies");
+    }
+    
+    @Test
+    public void testRejectsInvalidInput() {
+        PuzzleMultiplier multiplier = new PuzzleMultiplier();
+        int[] cells = new int[81];
+        
+        assertThrows(IllegalArgumentException.class, () -> multiplier.transform(new int[80]),
+                "Arrays of wrong length should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> multiplier.transform(cells, cells),
+                "Transforming in place should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> multiplier.multiply(cells, -1),
+                "Negative counts should be rejected");
+    }
+    
+    @Test
+    public void testRejectsOutOfRangeValues() {
+        PuzzleMultiplier multiplier = new PuzzleMultiplier();
+        int[] tooLarge = new int[81];
+        tooLarge[40] = 10;
+        int[] negative = new int[81];
+        negative[0] = -1;
+        int[] target = new int[81];
+        
+        assertThrows(IllegalArgumentException.class, () -> multiplier.transform(tooLarge),
+                "Values above 9 should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> multiplier.transform(negative, target),
+                "Negative values should be rejected");
+        assertArrayEquals(new int[81], target, "Rejected input should leave the target untouched");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PuzzlePool.
+ * @author zhuma
+ */
+public class PuzzlePoolTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private static long countEmptyCells(SudokuBoard board) {
+        return Arrays.stream(board.getValues()).filter(value -> value == 0).count();
+    }
+    
+    @Test
+    public void testStartFillsEveryDifficulty() throws InterruptedException {
+        try (PuzzlePool pool = new PuzzlePool(3, 2, null)) {
+            pool.start();
+            
+            for (GameDifficulty difficulty : GameDifficulty.values()) {
+                assertTrue(pool.awaitFull(difficulty, 10, TimeUnit.SECONDS),
+                        "Pool for " + difficulty + " should be filled to the target depth");
+                assertEquals(3, pool.size(difficulty), "Pool should not grow beyond the target depth");
+            }
+        }
+    }
+    
+    @Test
+    public void testTakeReturnsPuzzleAndRefills() throws InterruptedException {
+        try (PuzzlePool pool = new PuzzlePool(2, 1, null)) {
+            pool.start();
+            assertTrue(pool.awaitFull(GameDifficulty.HARD, 10, TimeUnit.SECONDS), "Pool should be filled");
+            
+            SudokuBoard puzzle = pool.take(GameDifficulty.HARD);
+            
+            assertEquals(60, countEmptyCells(puzzle), "Puzzle should match the requested difficulty");
+            assertTrue(pool.awaitFull(GameDifficulty.HARD, 10, TimeUnit.SECONDS), "Pool should be refilled");
+        }
+    }
+    
+    @Test
+    public void testTakeFromEmptyPoolGeneratesPuzzle() {
+        try (PuzzlePool pool = new PuzzlePool(1, 1, null)) {
+            EditableSudokuBoardDecorator decorator = pool.takeDecorated(GameDifficulty.EASY);
+            
+            int clue = findClue(decorator.getSudokuBoard());
+            
+            assertEquals(20, countEmptyCells(decorator.getSudokuBoard()), "Puzzle should be generated on demand");
+            assertFalse(decorator.isFieldEditable(clue / 9, clue % 9), "Clues should be locked");
+        }
+    }
+    
+    @Test
+    public void testPuzzlesArePersistedAcrossRestarts() throws InterruptedException {
+        String directory = tempDir.toString();
+        int[] first;
+        try (PuzzlePool pool = new PuzzlePool(2, 1, directory)) {
+            pool.start();
+            assertTrue(pool.awaitFull(GameDifficulty.MEDIUM, 10, TimeUnit.SECONDS), "Pool should be filled");
+            first = pool.take(GameDifficulty.MEDIUM).getValues();
+        }
+        assertTrue(Files.exists(tempDir.resolve("medium.pool")), "Queued puzzles should be written on close");
+        
+        try (PuzzlePool pool = new PuzzlePool(2, 1, directory)) {
+            pool.start();
+            assertFalse(Files.exists(tempDir.resolve("medium.pool")),
+                    "Loaded puzzles should be removed from storage so a crash cannot replay them");
+            SudokuBoard restored = pool.take(GameDifficulty.MEDIUM);
+            
+            assertEquals(40, countEmptyCells(restored), "Restored puzzle should keep its difficulty");
+            assertFalse(Arrays.equals(first, restored.getValues()), "Taken puzzles should not be persisted");
+        }
+    }
+    
+    @Test
+    public void testConsecutivePuzzlesComeFromDifferentGrids() throws InterruptedException {
+        try (PuzzlePool pool = new PuzzlePool(6, 1, null)) {
+            pool.start();
+            String previous = null;
+            for (int i = 0; i < 12; i++) {
+                assertTrue(pool.awaitFull(GameDifficulty.EASY, 10, TimeUnit.SECONDS), "Pool should be filled");
+                String key = SudokuCanonicalizer.canonicalKey(pool.take(GameDifficulty.EASY));
+                assertNotEquals(previous, key, "Consecutive puzzles should not be isomorphic");
+                previous = key;
+            }
+        }
+    }
+    
+    @Test
+    public void testMalformedStorageIsIgnored() throws Exception {
+        Files.writeString(tempDir.resolve("easy.pool"), "not a puzzle\n");
+        
+        try (PuzzlePool pool = new PuzzlePool(1, 1, tempDir.toString())) {
+            pool.start();
+            
+            assertEquals(20, countEmptyCells(pool.take(GameDifficulty.EASY)), "Malformed lines should be skipped");
+        }
+    }
+    
+    @Test
+    public void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PuzzlePool(0, 1, null),
+                "Non-positive depth should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new PuzzlePool(1, 0, null),
+                "Non-positive worker count should be rejected");
+    }
+    
+    private static int findClue(SudokuBoard board) {
+        int[] cells = board.getValues();
+        int index = 0;
+        while (cells[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.INKALA;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for SolvabilityChecker.
+ * @author zhuma
+ */
+public class SolvabilityCheckerTest {
+    private static final Duration DEBOUNCE = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    
+    @Test
+    public void testEntriesAreComparedWithUniqueSolution() throws Exception {
+        EditableSudokuBoardDecorator board = puzzle();
+        int[] solution = solve(board.getSudokuBoard());
+        BlockingQueue<SolvabilityReport> reports = new LinkedBlockingQueue<>();
+        
+        try (SolvabilityChecker checker = new SolvabilityChecker(DEBOUNCE, TIMEOUT, reports::add)) {
+            board.setValueAt(0, 1, solution[1]);
+            checker.submit(board);
+            SolvabilityReport report = reports.poll(10, TimeUnit.SECONDS);
+            assertNotNull(report, "Check should report");
+            assertTrue(checker.isLatest(report), "Report of the last submit should be the latest");
+            assertTrue(report.isSolvable(), "Correct entry should keep the board solvable");
+            assertTrue(report.isUnique(), "Inkala should have a unique solution");
+            assertEquals(0, report.getWrongEntries(), "Correct entry should not be counted as wrong");
+            
+            board.setValueAt(0, 2, solution[2] % 9 + 1);
+            checker.submit(board);
+            report = reports.poll(10, TimeUnit.SECONDS);
+            assertNotNull(report, "Second check should report");
+            assertEquals(SolveResult.UNSOLVABLE, report.getResult(), "Wrong entry should make the board unsolvable");
+            assertEquals(1, report.getWrongEntries(), "One wrong entry should be counted");
+            checker.submit(board);
+            assertFalse(checker.isLatest(report), "Report should be outdated by a newer submit");
+        }
+    }
+    
+    @Test
+    public void testBurstOfSubmitsReportsLatestBoardOnce() throws Exception {
+        EditableSudokuBoardDecorator board = puzzle();
+        int[] solution = solve(board.getSudokuBoard());
+        BlockingQueue<SolvabilityReport> reports = new LinkedBlockingQueue<>();
+        
+        try (SolvabilityChecker checker = new SolvabilityChecker(Duration.ofMillis(200), TIMEOUT, reports::add)) {
+            for (int col = 1; col < 6; col++) {
+                board.setValueAt(0, col, solution[col] % 9 + 1);
+                checker.submit(board);
+            }
+            for (int col = 1; col < 6; col++) {
+                board.setValueAt(0, col, solution[col]);
+            }
+            checker.submit(board);
+            
+            SolvabilityReport report = reports.poll(10, TimeUnit.SECONDS);
+            assertNotNull(report, "Latest board should be checked");
+            assertTrue(report.isSolvable(), "Report should describe the latest, correct board");
+            assertNull(reports.poll(400, TimeUnit.MILLISECONDS), "Older submits should not report");
+        }
+    }
+    
+    @Test
+    public void testBoardWithoutCluesIsSolvedDirectly() throws Exception {
+        EditableSudokuBoardDecorator board = new EditableSudokuBoardDecorator(
+                new SudokuBoard(new BacktrackingSudokuSolver()));
+        BlockingQueue<SolvabilityReport> reports = new LinkedBlockingQueue<>();
+        
+        try (SolvabilityChecker checker = new SolvabilityChecker(DEBOUNCE, TIMEOUT, reports::add)) {
+            board.setValueAt(0, 0, 5);
+            checker.submit(board);
+            SolvabilityReport report = reports.poll(10, TimeUnit.SECONDS);
+            assertNotNull(report, "Check should report");
+            assertFalse(report.isUnique(), "Board without clues should not be unique");
+            assertTrue(report.isSolvable(), "Single entry should leave the board solvable");
+            
+            board.setValueAt(0, 1, 1);
+            board.setValueAt(1, 2, 2);
+            board.setValueAt(2, 3, 3);
+            board.setValueAt(2, 4, 4);
+            board.setValueAt(2, 5, 6);
+            board.setValueAt(2, 6, 7);
+            board.setValueAt(2, 7, 8);
+            board.setValueAt(2, 8, 9);
+            checker.submit(board);
+            report = reports.poll(10, TimeUnit.SECONDS);
+            assertNotNull(report, "Second check should report");
+            assertEquals(SolveResult.UNSOLVABLE, report.getResult(),
+                    "Row 2 should have no place left for a 5");
+        }
+    }
+    
+    @Test
+    public void testCancelDropsPendingCheck() throws Exception {
+        BlockingQueue<SolvabilityReport> reports = new LinkedBlockingQueue<>();
+        
+        try (SolvabilityChecker checker = new SolvabilityChecker(Duration.ofMillis(100), TIMEOUT, reports::add)) {
+            checker.submit(puzzle());
+            checker.cancel();
+            assertNull(reports.poll(400, TimeUnit.MILLISECONDS), "Cancelled check should not report");
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new SolvabilityChecker(Duration.ofMillis(-1), TIMEOUT, reports::add),
+                "Negative debounce should be rejected");
+    }
+    
+    private EditableSudokuBoardDecorator puzzle() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValues(parse(INKALA));
+        EditableSudokuBoardDecorator decorator = new EditableSudokuBoardDecorator(board);
+        decorator.lockNonEmptyFields();
+        return decorator;
+    }
+    
+    private int[] solve(SudokuBoard board) {
+        SudokuBoard copy = board.clone();
+        assertTrue(new GridSolver().solve(copy), "Puzzle should be solvable");
+        return copy.getValues();
+    }
+}
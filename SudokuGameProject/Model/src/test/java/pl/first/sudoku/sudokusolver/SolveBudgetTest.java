@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SolveBudget and the default budgeted solve of SudokuSolver.
+ * @author zhuma
+ */
+public class SolveBudgetTest {
+    @Test
+    public void testUnlimitedBudget() {
+        SolveBudget budget = SolveBudget.unlimited();
+        
+        assertFalse(budget.hasDeadline(), "Unlimited budget should have no deadline");
+        assertFalse(budget.isExhausted(), "Unlimited budget should not be exhausted");
+        assertEquals(Long.MAX_VALUE, budget.getRemainingNanos(), "Unlimited budget should have all time left");
+        
+        budget.cancel();
+        assertTrue(budget.isCancelled(), "Budget should be cancelled");
+        assertTrue(budget.isExhausted(), "Cancelled budget should be exhausted");
+        assertEquals(0, budget.getRemainingNanos(), "Cancelled budget should have no time left");
+    }
+    
+    @Test
+    public void testDeadline() throws InterruptedException {
+        SolveBudget budget = SolveBudget.of(Duration.ofMillis(20));
+        
+        assertTrue(budget.hasDeadline(), "Budget should have a deadline");
+        assertTrue(budget.getRemainingNanos() <= Duration.ofMillis(20).toNanos(), "Remaining time should be bounded");
+        Thread.sleep(40);
+        assertTrue(budget.isExhausted(), "Budget should be exhausted after its deadline");
+        assertEquals(0, budget.getRemainingNanos(), "Expired budget should have no time left");
+        assertTrue(SolveBudget.of(Duration.ZERO).isExhausted(), "Zero timeout should be exhausted at once");
+        assertFalse(SolveBudget.of(Duration.ofSeconds(Long.MAX_VALUE)).hasDeadline(),
+                "Timeout beyond the nanosecond range should be unlimited");
+    }
+    
+    @Test
+    public void testRejectsInvalidTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> SolveBudget.of(null), "Null timeout should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> SolveBudget.of(Duration.ofMillis(-1)),
+                "Negative timeout should be rejected");
+    }
+    
+    @Test
+    public void testDefaultBudgetedSolve() {
+        SudokuSolver solvesEverything = board -> true;
+        SudokuSolver solvesNothing = board -> false;
+        SudokuBoard board = new SudokuBoard(solvesEverything);
+        
+        assertEquals(SolveResult.SOLVED, solvesEverything.solve(board, SolveBudget.unlimited()),
+                "Successful solve should be reported as solved");
+        assertEquals(SolveResult.UNSOLVABLE, solvesNothing.solve(board, SolveBudget.unlimited()),
+                "Failed solve should be reported as unsolvable");
+        assertEquals(SolveResult.TIMED_OUT, solvesEverything.solve(board, SolveBudget.of(Duration.ZERO)),
+                "Expired budget should not start the solver");
+        assertThrows(IllegalArgumentException.class, () -> solvesEverything.solve(board, null),
+                "Missing budget should be rejected");
+        assertTrue(SolveResult.SOLVED.isSolved(), "Only SOLVED should count as solved");
+        assertFalse(SolveResult.TIMED_OUT.isSolved(), "Timeout should not count as solved");
+    }
+}
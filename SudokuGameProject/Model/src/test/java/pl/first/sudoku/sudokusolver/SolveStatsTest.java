@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SolveStats recorded by BacktrackingSudokuSolver.
+ * @author zhuma
+ */
+public class SolveStatsTest {
+    @Test
+    public void testEmptyBoardStats() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(board);
+        
+        assertTrue(stats.isSolved(), "Empty board should be solved");
+        assertEquals(SolveResult.SOLVED, stats.getResult(), "Result should be reported");
+        assertTrue(board.isValid(), "Board should hold a valid solution");
+        assertEquals(81, stats.getNodes() - stats.getBacktracks(), "Kept placements should fill every cell");
+        assertEquals(81, stats.getMaxDepth(), "Search should reach the full depth");
+        assertEquals(stats.getNodes(), stats.getValidityChecks(),
+                "The root and every placement but the last should lead to one visited cell");
+        assertEquals(1.0, stats.getBranchingFactor(0), "First digit of an empty board cannot fail");
+        assertEquals(82, stats.getBranchingFactors().length, "One branching factor per depth");
+        assertTrue(stats.getElapsedNanos() > 0, "Run time should be recorded");
+    }
+    
+    @Test
+    public void testDepthCountsOnlyEmptyCells() {
+        SudokuBoard solved = new SudokuBoard(new BacktrackingSudokuSolver());
+        solved.solveGame();
+        SudokuBoard puzzle = GameDifficulty.EASY.prepareBoard(solved);
+        
+        SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(puzzle);
+        
+        assertTrue(stats.isSolved(), "Puzzle should be solved");
+        assertEquals(GameDifficulty.EASY.getCellsToRemove(), stats.getMaxDepth(),
+                "Depth should only count cells the solver filled");
+        assertEquals(0.0, stats.getBranchingFactor(-1), "Negative depth should report 0");
+        assertEquals(0.0, stats.getBranchingFactor(1000), "Unreached depth should report 0");
+    }
+    
+    @Test
+    public void testUnsolvableBoardStats() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        for (int col = 0; col < 8; col++) {
+            board.setValueAt(0, col, col + 1);
+        }
+        board.setValueAt(1, 8, 9);
+        
+        SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(board);
+        
+        assertFalse(stats.isSolved(), "Cell without candidates should make the board unsolvable");
+        assertEquals(0, stats.getNodes(), "No placement should be possible");
+        assertEquals(1, stats.getValidityChecks(), "Only the dead cell should be checked");
+        assertEquals(9, stats.getPropagationHits(), "Every candidate should be rejected");
+        assertEquals(0.0, stats.getBranchingFactor(0), "Dead end should have no children");
+        assertTrue(stats.toString().contains("result=UNSOLVABLE"), "toString should show the result");
+    }
+    
+    @Test
+    public void testConflictingCluesAreUnsolvableWithoutSearch() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValueAt(0, 0, 5);
+        board.setValueAt(0, 4, 5);
+        
+        SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(board);
+        
+        assertEquals(SolveResult.UNSOLVABLE, stats.getResult(), "Conflicting clues should be unsolvable");
+        assertEquals(0, stats.getValidityChecks(), "No cell should be searched");
+        assertEquals(0, board.getValueAt(0, 1), "Board should stay untouched");
+    }
+    
+    @Test
+    public void testBudgetStopsInstrumentedRun() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        SolveBudget budget = SolveBudget.unlimited();
+        budget.cancel();
+        
+        SolveStats stats = new BacktrackingSudokuSolver().solveWithStats(board, budget);
+        
+        assertEquals(SolveResult.TIMED_OUT, stats.getResult(), "Cancelled budget should stop the run");
+        assertFalse(stats.isSolved(), "Stopped run should not count as solved");
+        assertEquals(0, board.getValueAt(0, 0), "Board should stay untouched");
+        assertThrows(IllegalArgumentException.class,
+                () -> new BacktrackingSudokuSolver().solveWithStats(board, null), "Budget cannot be null");
+    }
+    
+    @Test
+    public void testPlainSolveMatchesInstrumentedResult() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        assertTrue(new BacktrackingSudokuSolver().solve(board), "Plain solve should still work");
+        assertTrue(board.isValid(), "Plain solve should produce a valid board");
+    }
+}
@@ -440,4 +440,142 @@ public class SudokuBoardTest {
         assertFalse(board1.equals(board2), "Boards with different values should not be equal");
         assertNotEquals(board1.hashCode(), board2.hashCode(), "Different boards should have different hash codes");
     }
+    
+    @Test
+    public void testGetAndSetValues() {
+        SudokuBoard source = new SudokuBoard(new BacktrackingSudokuSolver());
+        source.solveGame();
+        
+        int[] values = source.getValues();
+        assertEquals(81, values.length, "Values array should contain all 81 cells");
+        assertEquals(source.getValueAt(4, 7), values[4 * 9 + 7], "Values should be stored row by row");
+        
+        SudokuBoard copy = new SudokuBoard(new BacktrackingSudokuSolver());
+        copy.setValues(values);
+        assertEquals(source, copy, "Board filled from values should equal the source board");
+        
+        values[0] = 0;
+        assertNotEquals(0, source.getValueAt(0, 0), "Returned values should be a copy");
+    }
+    
+    @Test
+    public void testSetValuesRejectsInvalidInput() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        int[] outOfRange = new int[81];
+        outOfRange[80] = 10;
+        
+        assertThrows(IllegalArgumentException.class, () -> board.setValues(new int[80]),
+                "Arrays of wrong length should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> board.setValues(null),
+                "Null array should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> board.setValues(outOfRange),
+                "Values above 9 should be rejected");
+        assertEquals(0, board.getValueAt(0, 0), "Rejected input should leave the board untouched");
+    }
+    
+    @Test
+    public void testSetValueAtPublishesSingleChange() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        java.util.List<BoardChange> changes = new java.util.ArrayList<>();
+        board.addBoardChangeListener(changes::add);
+        
+        board.setValueAt(2, 5, 7);
+        board.setValueAt(2, 5, 7);
+        
+        assertEquals(1, changes.size(), "Only an actual change should be published");
+        BoardChange change = changes.get(0);
+        assertEquals(1, change.size(), "Change should contain one cell");
+        assertEquals(2, change.getRow(0), "Change should report the row");
+        assertEquals(5, change.getColumn(0), "Change should report the column");
+        assertEquals(2 * 9 + 5, change.getCell(0), "Change should report the row-major index");
+        assertEquals(0, change.getOldValue(0), "Change should report the old value");
+        assertEquals(7, change.getNewValue(0), "Change should report the new value");
+        assertSame(board, change.getBoard(), "Change should report its board");
+    }
+    
+    @Test
+    public void testUpdateCoalescesChanges() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.setValueAt(0, 0, 3);
+        java.util.List<BoardChange> changes = new java.util.ArrayList<>();
+        int[] fieldEvents = {0};
+        board.addBoardChangeListener(changes::add);
+        board.getSudokuField(0, 1).addPropertyChangeListener(evt -> fieldEvents[0]++);
+        
+        board.beginUpdate();
+        assertTrue(board.isUpdating(), "Board should report the running update");
+        board.setValueAt(0, 1, 4);
+        board.setValueAt(0, 1, 5);
+        board.beginUpdate();
+        board.setValueAt(8, 8, 9);
+        board.commitUpdate();
+        board.setValueAt(0, 0, 0);
+        board.setValueAt(0, 0, 3);
+        assertTrue(changes.isEmpty(), "Nothing should be published before the outermost commit");
+        board.commitUpdate();
+        
+        assertFalse(board.isUpdating(), "Update should be finished");
+        assertEquals(1, changes.size(), "One change should be published per update");
+        BoardChange change = changes.get(0);
+        assertEquals(2, change.size(), "Only cells with a different value should be reported");
+        assertEquals(1, change.getCell(0), "Cells should be listed in row-major order");
+        assertEquals(5, change.getNewValue(0), "Last value written should be reported");
+        assertEquals(80, change.getCell(1), "Nested update should be part of the outer one");
+        assertEquals(0, fieldEvents[0], "Field listeners should not be notified by bulk updates");
+        assertThrows(IllegalStateException.class, board::commitUpdate, "Commit without begin should be rejected");
+    }
+    
+    @Test
+    public void testBulkWritesPublishOnce() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        int[] published = {0};
+        int[] changedCells = {0};
+        board.addBoardChangeListener(change -> {
+            published[0]++;
+            changedCells[0] += change.size();
+        });
+        
+        board.solveGame();
+        assertEquals(1, published[0], "Solving should publish one change");
+        assertEquals(81, changedCells[0], "Solving an empty board should change every cell");
+        
+        board.setValues(board.getValues());
+        assertEquals(1, published[0], "Writing equal values should publish nothing");
+        board.setValues(new int[81]);
+        assertEquals(2, published[0], "Setting values should publish one change");
+    }
+    
+    @Test
+    public void testListenersAreNotCopied() throws Exception {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        int[] published = {0};
+        board.addBoardChangeListener(change -> published[0]++);
+        board.beginUpdate();
+        
+        SudokuBoard cloned = board.clone();
+        cloned.setValueAt(0, 0, 1);
+        assertFalse(cloned.isUpdating(), "Clone should not inherit the running update");
+        assertEquals(0, published[0], "Clone should not notify the listeners of the original");
+        board.commitUpdate();
+        
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(cloned);
+        }
+        SudokuBoard restored;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (SudokuBoard) in.readObject();
+        }
+        assertEquals(cloned, restored, "Listeners should not take part in equality");
+        
+        int[] restoredPublished = {0};
+        BoardChangeListener listener = change -> restoredPublished[0]++;
+        restored.addBoardChangeListener(listener);
+        restored.setValueAt(0, 0, 2);
+        assertEquals(1, restoredPublished[0], "Restored board should accept new listeners");
+        restored.removeBoardChangeListener(listener);
+        restored.setValueAt(0, 0, 3);
+        assertEquals(1, restoredPublished[0], "Removed listener should not be notified");
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.first.sudoku.sudokusolver.TestPuzzles.parse;
+
+/**
+ * Tests for SudokuCanonicalizer.
+ * @author zhuma
+ */
+public class SudokuCanonicalizerTest {
+    private static SudokuBoard solvedBoard;
+    private static SudokuBoard puzzleBoard;
+    
+    @BeforeAll
+    public static void setUp() {
+        solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        solvedBoard.solveGame();
+        puzzleBoard = GameDifficulty.MEDIUM.prepareBoard(solvedBoard);
+    }
+    
+    @Test
+    public void testSolvedGridStartsWithOneToNine() {
+        String key = SudokuCanonicalizer.canonicalKey(solvedBoard);
+        
+        assertEquals(81, key.length(), "Canonical key should contain one character per cell");
+        assertTrue(key.startsWith("123456789"), "Canonical solved grid should start with 1-9");
+    }
+    
+    @Test
+    public void testEquivalentBoardsShareCanonicalForm() {
+        SudokuTransform transform = new SudokuTransform(true,
+                new int[] {7, 8, 6, 2, 0, 1, 4, 5, 3},
+                new int[] {3, 5, 4, 0, 1, 2, 8, 7, 6},
+                new int[] {0, 9, 8, 7, 6, 5, 4, 3, 2, 1});
+        SudokuBoard equivalent = new SudokuBoard(new BacktrackingSudokuSolver());
+        equivalent.setValues(transform.apply(puzzleBoard.getValues()));
+        
+        assertEquals(SudokuCanonicalizer.canonicalKey(puzzleBoard), SudokuCanonicalizer.canonicalKey(equivalent),
+                "Equivalent puzzles should have the same canonical key");
+    }
+    
+    @Test
+    public void testEquivalentSolvedGridsShareCanonicalForm() {
+        SudokuTransform transform = new SudokuTransform(false,
+                new int[] {3, 4, 5, 2, 1, 0, 7, 6, 8},
+                new int[] {6, 8, 7, 0, 1, 2, 5, 3, 4},
+                new int[] {0, 2, 3, 1, 5, 6, 4, 8, 9, 7});
+        
+        CanonicalForm original = SudokuCanonicalizer.of(solvedBoard);
+        CanonicalForm equivalent = SudokuCanonicalizer.of(transform.apply(solvedBoard.getValues()));
+        
+        assertEquals(original, equivalent, "Equivalent solved grids should have the same canonical form");
+        assertArrayEquals(equivalent.getCells(), equivalent.getTransform().apply(transform.apply(
+                solvedBoard.getValues())), "Returned transform should produce the canonical cells");
+    }
+    
+    @Test
+    public void testCanonicalTransformProducesCanonicalCells() {
+        int[] cells = puzzleBoard.getValues();
+        SudokuTransform transform = SudokuCanonicalizer.canonicalTransform(cells);
+        int[] canonical = SudokuCanonicalizer.canonicalize(puzzleBoard);
+        
+        assertArrayEquals(canonical, transform.apply(cells), "Transform should map the board to its canonical form");
+        assertArrayEquals(cells, transform.inverse().apply(canonical), "Inverse should map the canonical form back");
+    }
+    
+    @Test
+    public void testDifferentCluePatternsDiffer() {
+        SudokuBoard other = puzzleBoard.clone();
+        int index = 0;
+        while (other.getValues()[index] == 0) {
+            index++;
+        }
+        other.setValueAt(index / 9, index % 9, 0);
+        
+        assertNotEquals(SudokuCanonicalizer.canonicalKey(puzzleBoard), SudokuCanonicalizer.canonicalKey(other),
+                "Puzzles with different clue counts cannot be equivalent");
+    }
+    
+    @Test
+    public void testEmptyLinesDoNotMultiplyTheSearch() {
+        int[] single = new int[81];
+        single[40] = 5;
+        
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertEquals("0".repeat(81), SudokuCanonicalizer.of(new int[81]).getKey(),
+                    "Empty board should be its own canonical form");
+            assertEquals("0".repeat(80) + "1", SudokuCanonicalizer.of(single).getKey(),
+                    "A single clue should move to the last cell");
+        }, "Swapping empty lines should not be searched again");
+    }
+    
+    @Test
+    public void testSparsePuzzleReachesMinimalForm() {
+        int[] royle = parse("000000010400000000020000000000050407008000300001090000300400200050100000000806000");
+        SudokuTransform transform = new SudokuTransform(true,
+                new int[] {4, 3, 5, 7, 6, 8, 1, 0, 2},
+                new int[] {6, 7, 8, 2, 0, 1, 3, 5, 4},
+                new int[] {0, 3, 1, 2, 6, 4, 5, 9, 7, 8});
+        String minimal = "000000001000000020000003000000040500006000300007810000010020004030000070950000000";
+        
+        CanonicalForm original = SudokuCanonicalizer.of(royle);
+        CanonicalForm equivalent = SudokuCanonicalizer.of(transform.apply(royle));
+        
+        assertEquals(minimal, original.getKey(), "17-clue puzzle should reach its minimal form");
+        assertEquals(minimal, equivalent.getKey(), "Transformed 17-clue puzzle should reach the same form");
+        assertArrayEquals(equivalent.getCells(), equivalent.getTransform().apply(transform.apply(royle)),
+                "Returned transform should order the blank columns like the canonical cells");
+    }
+    
+    @Test
+    public void testPureBandGridReachesMinimalForm() {
+        String minimal = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+        SudokuTransform transform = new SudokuTransform(false,
+                new int[] {7, 6, 8, 1, 2, 0, 4, 3, 5},
+                new int[] {2, 0, 1, 8, 7, 6, 4, 5, 3},
+                new int[] {0, 5, 9, 1, 3, 7, 2, 8, 4, 6});
+        
+        assertEquals(minimal, SudokuCanonicalizer.of(transform.apply(parse(minimal))).getKey(),
+                "Grid whose bands repeat their digit triples should reach its minimal form");
+    }
+    
+    @Test
+    public void testRepeatedDigitsInLineShareCanonicalForm() {
+        int[] cells = puzzleBoard.getValues();
+        cells[0] = 7;
+        cells[1] = 7;
+        SudokuTransform transform = new SudokuTransform(true,
+                new int[] {5, 3, 4, 8, 6, 7, 0, 2, 1},
+                new int[] {1, 0, 2, 6, 7, 8, 4, 3, 5},
+                new int[] {0, 4, 5, 6, 7, 8, 9, 1, 2, 3});
+        
+        CanonicalForm original = SudokuCanonicalizer.of(cells);
+        CanonicalForm equivalent = SudokuCanonicalizer.of(transform.apply(cells));
+        
+        assertEquals(original, equivalent, "Grids with a repeated digit should still be canonicalized");
+        assertArrayEquals(original.getCells(), original.getTransform().apply(cells),
+                "Returned transform should produce the canonical cells");
+    }
+    
+    @Test
+    public void testRejectsWrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> SudokuCanonicalizer.canonicalTransform(new int[80]),
+                "Arrays of wrong length should be rejected");
+    }
+}
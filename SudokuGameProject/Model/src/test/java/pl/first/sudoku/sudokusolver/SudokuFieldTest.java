@@ -26,12 +26,11 @@ package pl.first.sudoku.sudokusolver;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.lang.reflect.Method;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Complete tests for SudokuField with JavaFX Properties to achieve 100% coverage.
+ * Complete tests for SudokuField to achieve 100% coverage.
  * @author zhuma
  */
 public class SudokuFieldTest {
@@ -79,153 +78,6 @@ public class SudokuFieldTest {
         }, "Valid values should not throw exceptions");
     }
     
-    @Test
-    public void testJavaFXPropertyExists() {
-        SudokuField field = new SudokuField();
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            
-            assertNotNull(property, "valueProperty() should return non-null");
-            
-            String className = property.getClass().getName();
-            String simpleClassName = property.getClass().getSimpleName();
-            
-            boolean isJavaFXProperty = className.startsWith("javafx.beans.property") ||
-                                     simpleClassName.contains("IntegerProperty") ||
-                                     simpleClassName.contains("Property") ||
-                                     className.contains("IntegerProperty");
-            
-            if (!isJavaFXProperty) {
-                Class<?>[] interfaces = property.getClass().getInterfaces();
-                for (Class<?> iface : interfaces) {
-                    if (iface.getName().contains("IntegerProperty") || 
-                        iface.getSimpleName().contains("Property")) {
-                        isJavaFXProperty = true;
-                        break;
-                    }
-                }
-            }
-            
-            if (!isJavaFXProperty) {
-                Class<?> superClass = property.getClass().getSuperclass();
-                while (superClass != null && !isJavaFXProperty) {
-                    if (superClass.getName().contains("IntegerProperty") ||
-                        superClass.getSimpleName().contains("Property")) {
-                        isJavaFXProperty = true;
-                        break;
-                    }
-                    superClass = superClass.getSuperclass();
-                }
-            }
-            
-            assertTrue(isJavaFXProperty, 
-                    "Should return an IntegerProperty or JavaFX Property, got: " + className + 
-                    " (simple: " + simpleClassName + ")");
-            
-        } catch (NoSuchMethodException e) {
-            fail("SudokuField must have valueProperty() method for JavaFX binding");
-        } catch (Exception e) {
-            fail("Error accessing valueProperty(): " + e.getMessage());
-        }
-    }
-    
-    @Test
-    public void testJavaFXPropertyValueSync() {
-        SudokuField field = new SudokuField();
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            Method getMethod = property.getClass().getMethod("get");
-            
-            Object propertyValue = getMethod.invoke(property);
-            assertEquals(field.getFieldValue(), ((Number) propertyValue).intValue(), 
-                    "Property value should match field value initially");
-            
-            field.setFieldValue(7);
-            propertyValue = getMethod.invoke(property);
-            assertEquals(7, ((Number) propertyValue).intValue(), 
-                    "Property should be updated when field value changes");
-            
-        } catch (Exception e) {
-            fail("Error testing property value synchronization: " + e.getMessage());
-        }
-    }
-    
-    @Test
-    public void testJavaFXPropertySetValue() {
-        SudokuField field = new SudokuField();
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            Method setMethod = property.getClass().getMethod("set", int.class);
-            
-            setMethod.invoke(property, 6);
-            assertEquals(6, field.getFieldValue(), "Setting through property should update field value");
-            
-        } catch (Exception e) {
-            fail("Error testing property set value: " + e.getMessage());
-        }
-    }
-    
-    @Test
-    public void testJavaFXPropertyValidation() {
-        SudokuField field = new SudokuField();
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            Method setMethod = property.getClass().getMethod("set", int.class);
-            
-            assertThrows(IllegalArgumentException.class, () -> {
-                try {
-                    setMethod.invoke(property, -1);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    if (e.getCause() instanceof IllegalArgumentException) {
-                        throw (IllegalArgumentException) e.getCause();
-                    }
-                    throw new RuntimeException("Unexpected exception type", e);
-                }
-            }, "Property should validate negative values");
-            
-            assertThrows(IllegalArgumentException.class, () -> {
-                try {
-                    setMethod.invoke(property, 10);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    if (e.getCause() instanceof IllegalArgumentException) {
-                        throw (IllegalArgumentException) e.getCause();
-                    }
-                    throw new RuntimeException("Unexpected exception type", e);
-                }
-            }, "Property should validate values > 9");
-            
-        } catch (NoSuchMethodException e) {
-            fail("Property should have set method for JavaFX binding");
-        } catch (Exception e) {
-            fail("Error testing property validation: " + e.getMessage());
-        }
-    }
-    
-    @Test
-    public void testValuePropertyNullCase() {
-        SudokuField field = new SudokuField();
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property1 = valuePropertyMethod.invoke(field);
-            assertNotNull(property1, "First call should return non-null property");
-            
-            Object property2 = valuePropertyMethod.invoke(field);
-            assertSame(property1, property2, "Subsequent calls should return same property instance");
-            
-        } catch (Exception e) {
-            fail("Error testing valueProperty null case: " + e.getMessage());
-        }
-    }
-    
     @Test
     public void testEqualsAndHashCode() {
         SudokuField field1 = new SudokuField();
@@ -274,19 +126,6 @@ public class SudokuFieldTest {
         SudokuField clone = original.clone();
 
         assertEquals(original.getFieldValue(), clone.getFieldValue(), "Cloned field should have same value");
-        
-        try {
-            Method valuePropertyMethod = clone.getClass().getMethod("valueProperty");
-            Object clonedProperty = valuePropertyMethod.invoke(clone);
-            assertNotNull(clonedProperty, "Cloned field should have its own property");
-            
-            Method getMethod = clonedProperty.getClass().getMethod("get");
-            Object propertyValue = getMethod.invoke(clonedProperty);
-            assertEquals(5, ((Number) propertyValue).intValue(), "Cloned property should have correct value");
-            
-        } catch (Exception e) {
-            fail("Error testing cloned field property: " + e.getMessage());
-        }
 
         clone.setFieldValue(8);
 
@@ -296,6 +135,20 @@ public class SudokuFieldTest {
         assertNotEquals(original, clone, "Modified clone should not be equal to original");
     }
     
+    @Test
+    public void testCloneDoesNotShareListeners() {
+        SudokuField original = new SudokuField();
+        final int[] events = {0};
+        original.addPropertyChangeListener(evt -> events[0]++);
+        
+        SudokuField clone = original.clone();
+        clone.setFieldValue(4);
+        
+        assertEquals(0, events[0], "Listeners of the original should not hear the clone");
+        original.setFieldValue(4);
+        assertEquals(1, events[0], "Listeners of the original should still hear the original");
+    }
+    
     @Test
     public void testCloneNotSupportedException() {
         SudokuField field = new SudokuField();
@@ -336,47 +189,6 @@ public class SudokuFieldTest {
         assertFalse(propertyChanged[0], "PropertyChanged should still be false after listener removal");
     }
     
-    @Test
-    public void testJavaFXPropertyChangeListener() {
-        SudokuField field = new SudokuField();
-        
-        final boolean[] propertyChanged = {false};
-        final int[] oldValue = {0};
-        final int[] newValue = {0};
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            
-            Method addListenerMethod = property.getClass().getMethod("addListener", 
-                    Class.forName("javafx.beans.value.ChangeListener"));
-            
-            Object listener = java.lang.reflect.Proxy.newProxyInstance(
-                    getClass().getClassLoader(),
-                    new Class[]{Class.forName("javafx.beans.value.ChangeListener")},
-                    (proxy, method, args) -> {
-                        if ("changed".equals(method.getName())) {
-                            propertyChanged[0] = true;
-                            oldValue[0] = ((Number) args[1]).intValue();
-                            newValue[0] = ((Number) args[2]).intValue();
-                        }
-                        return null;
-                    });
-            
-            addListenerMethod.invoke(property, listener);
-            
-            field.setFieldValue(7);
-            
-            assertTrue(propertyChanged[0], "JavaFX property listener should be notified");
-            assertEquals(0, oldValue[0], "Old value should be 0");
-            assertEquals(7, newValue[0], "New value should be 7");
-            
-        } catch (Exception e) {
-            field.setFieldValue(7);
-            assertEquals(7, field.getFieldValue(), "Field should still work without JavaFX listener");
-        }
-    }
-    
     @Test
     public void testEqualsEdgeCases() {
         SudokuField field = new SudokuField();
@@ -417,34 +229,26 @@ public class SudokuFieldTest {
     }
     
     @Test
-    public void testSerialization() {
+    public void testSerialization() throws Exception {
         SudokuField field = new SudokuField();
         field.setFieldValue(6);
         
-        assertEquals(6, field.getFieldValue(), "Field should maintain value");
-        
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            Method getMethod = property.getClass().getMethod("get");
-            Object propertyValue = getMethod.invoke(property);
-            assertEquals(6, ((Number) propertyValue).intValue(), "Property should have same value");
-        } catch (Exception e) {
-            fail("Property should work after field creation: " + e.getMessage());
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(field);
         }
-        
-        SudokuField cloned = field.clone();
-        assertEquals(6, cloned.getFieldValue(), "Cloned field should have same value");
-        
-        try {
-            Method valuePropertyMethod = cloned.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(cloned);
-            Method getMethod = property.getClass().getMethod("get");
-            Object propertyValue = getMethod.invoke(property);
-            assertEquals(6, ((Number) propertyValue).intValue(), "Cloned property should have same value");
-        } catch (Exception e) {
-            fail("Cloned property should work: " + e.getMessage());
+        SudokuField restored;
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (SudokuField) in.readObject();
         }
+        
+        assertEquals(6, restored.getFieldValue(), "Restored field should have same value");
+        assertEquals(field, restored, "Restored field should be equal");
+        final boolean[] propertyChanged = {false};
+        restored.addPropertyChangeListener(evt -> propertyChanged[0] = true);
+        restored.setFieldValue(2);
+        assertTrue(propertyChanged[0], "Restored field should notify listeners");
     }
     
     @Test
@@ -467,47 +271,18 @@ public class SudokuFieldTest {
     }
     
     @Test
-    public void testWriteObjectAndReadObject() {
+    public void testNoEventForUnchangedValue() {
         SudokuField field = new SudokuField();
-        field.setFieldValue(4);
+        field.setFieldValue(3);
+        final int[] events = {0};
+        field.addPropertyChangeListener(evt -> events[0]++);
         
-        assertEquals(4, field.getFieldValue(), "Field should have value 4");
+        field.setFieldValue(3);
+        assertEquals(0, events[0], "Setting the same value should not notify listeners");
         
-        try {
-            Method valuePropertyMethod = field.getClass().getMethod("valueProperty");
-            Object property = valuePropertyMethod.invoke(field);
-            assertNotNull(property, "Property should be available after setting value");
-            
-            Method getMethod = property.getClass().getMethod("get");
-            Object propertyValue = getMethod.invoke(property);
-            assertEquals(4, ((Number) propertyValue).intValue(), "Property should have correct value");
-            
-        } catch (Exception e) {
-            fail("Property should work: " + e.getMessage());
-        }
-    }
-    
-    @Test
-    public void testValuePropertyInitializesWhenNull() throws Exception {
-        SudokuField field = new SudokuField();
-        java.lang.reflect.Field valueField = field.getClass().getDeclaredField("value");
-        valueField.setAccessible(true);
-        valueField.set(field, null);
-
-        Object property = field.valueProperty();
-        assertNotNull(property, "valueProperty() should initialize value if null");
-    }
-
-    @Test
-    public void testWriteObjectWithNullValue() throws Exception {
-        SudokuField field = new SudokuField();
-        java.lang.reflect.Field valueField = field.getClass().getDeclaredField("value");
-        valueField.setAccessible(true);
-        valueField.set(field, null);
-
-        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-        java.io.ObjectOutputStream oos = new java.io.ObjectOutputStream(baos);
-        oos.writeObject(field);
-        oos.close();
+        assertThrows(IllegalArgumentException.class, () -> field.setFieldValue(10),
+                "Invalid value should be rejected");
+        assertEquals(0, events[0], "Rejected value should not notify listeners");
+        assertEquals(3, field.getFieldValue(), "Rejected value should not change the field");
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SudokuGrid.
+ * @author zhuma
+ */
+public class SudokuGridTest {
+    
+    @Test
+    public void testSizes() {
+        SudokuGrid small = new SudokuGrid(2);
+        SudokuGrid large = new SudokuGrid(5);
+        
+        assertEquals(4, small.getSize(), "Box size 2 should give a 4x4 grid");
+        assertEquals(16, small.getCellCount(), "4x4 grid should have 16 cells");
+        assertEquals(25, large.getSize(), "Box size 5 should give a 25x25 grid");
+        assertEquals(625, large.getCellCount(), "25x25 grid should have 625 cells");
+        assertEquals(5, large.getBoxSize(), "Box size should be kept");
+    }
+    
+    @Test
+    public void testInvalidBoxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SudokuGrid(1), "Box size 1 should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new SudokuGrid(9),
+                "Box size 9 does not fit into long masks and should be rejected");
+    }
+    
+    @Test
+    public void testGetAndSetValue() {
+        SudokuGrid grid = new SudokuGrid(4);
+        grid.setValueAt(15, 3, 16);
+        
+        assertEquals(16, grid.getValueAt(15, 3), "Value should be stored");
+        assertEquals(16, grid.getValues()[15 * 16 + 3], "Values should be row-major");
+        assertThrows(IllegalArgumentException.class, () -> grid.setValueAt(0, 0, 17),
+                "Value above the grid size should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> grid.setValueAt(0, 0, -1),
+                "Negative value should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> grid.getValueAt(16, 0),
+                "Row outside the grid should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> grid.getValueAt(0, -1),
+                "Column outside the grid should be rejected");
+    }
+    
+    @Test
+    public void testSetValues() {
+        SudokuGrid grid = new SudokuGrid(2);
+        int[] values = {1, 2, 3, 4, 3, 4, 1, 2, 2, 1, 4, 3, 4, 3, 2, 1};
+        grid.setValues(values);
+        values[0] = 0;
+        
+        assertEquals(1, grid.getValueAt(0, 0), "Grid should copy the values array");
+        grid.getValues()[0] = 0;
+        assertEquals(1, grid.getValueAt(0, 0), "Returned values should be a copy");
+        assertThrows(IllegalArgumentException.class, () -> grid.setValues(new int[9]),
+                "Wrong number of values should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> grid.setValues(null),
+                "Null values should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new SudokuGrid(2, new int[] {
+            5, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}), "Value above the grid size should be rejected");
+    }
+    
+    @Test
+    public void testValidity() {
+        SudokuGrid grid = new SudokuGrid(2, new int[] {1, 2, 3, 4, 3, 4, 1, 2, 2, 1, 4, 3, 4, 3, 2, 1});
+        
+        assertTrue(grid.isValid(), "Solved grid should be valid");
+        assertTrue(grid.isSolved(), "Full valid grid should be solved");
+        
+        grid.setValueAt(3, 3, 0);
+        assertTrue(grid.isValid(), "Empty cells should be ignored");
+        assertFalse(grid.isSolved(), "Grid with an empty cell should not be solved");
+        
+        grid.setValueAt(3, 3, 4);
+        assertFalse(grid.isValid(), "Repeated value in a row should be invalid");
+        
+        SudokuGrid boxConflict = new SudokuGrid(2);
+        boxConflict.setValueAt(0, 0, 1);
+        boxConflict.setValueAt(1, 1, 1);
+        assertFalse(boxConflict.isValid(), "Repeated value in a box should be invalid");
+    }
+    
+    @Test
+    public void testCloneAndEquals() {
+        SudokuGrid grid = new SudokuGrid(3);
+        grid.setValueAt(4, 4, 5);
+        SudokuGrid cloned = grid.clone();
+        
+        assertEquals(grid, cloned, "Clone should be equal");
+        assertEquals(grid.hashCode(), cloned.hashCode(), "Equal grids should have equal hash codes");
+        cloned.setValueAt(4, 4, 6);
+        assertEquals(5, grid.getValueAt(4, 4), "Clone should not share cells");
+        assertNotEquals(grid, cloned, "Changed clone should not be equal");
+        assertNotEquals(new SudokuGrid(2), new SudokuGrid(3), "Grids of different sizes should not be equal");
+        assertTrue(grid.toString().contains("boxSize=3"), "String should contain the box size");
+    }
+}
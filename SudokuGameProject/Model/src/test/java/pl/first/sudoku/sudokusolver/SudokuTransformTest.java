@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package pl.first.sudoku.sudokusolver;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SudokuTransform.
+ * @author zhuma
+ */
+public class SudokuTransformTest {
+    private static final int[] ROWS = {5, 3, 4, 0, 2, 1, 7, 8, 6};
+    private static final int[] COLS = {2, 1, 0, 8, 6, 7, 4, 3, 5};
+    private static final int[] DIGITS = {0, 3, 1, 2, 9, 8, 7, 6, 5, 4};
+    
+    @Test
+    public void testIdentityKeepsBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        
+        assertArrayEquals(board.getValues(), SudokuTransform.identity().apply(board.getValues()),
+                "Identity transform should not change the cells");
+    }
+    
+    @Test
+    public void testTransformPreservesValidity() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        
+        new SudokuTransform(true, ROWS, COLS, DIGITS).applyTo(board);
+        
+        assertTrue(board.isValid(), "Transformed board should still be valid");
+    }
+    
+    @Test
+    public void testInverseRestoresCells() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        int[] original = board.getValues();
+        
+        for (boolean transposed : new boolean[] {false, true}) {
+            SudokuTransform transform = new SudokuTransform(transposed, ROWS, COLS, DIGITS);
+            int[] restored = transform.inverse().apply(transform.apply(original));
+            assertArrayEquals(original, restored, "Inverse should undo the transform, transposed=" + transposed);
+        }
+    }
+    
+    @Test
+    public void testEncodeDecodeRoundTrip() {
+        SudokuTransform transform = new SudokuTransform(true, ROWS, COLS, DIGITS);
+        String encoded = transform.encode();
+        
+        assertEquals("1;534021786;210867435;312987654", encoded, "Encoding should be compact and stable");
+        assertEquals(transform, SudokuTransform.decode(encoded), "Decoded transform should equal the original");
+        assertEquals(transform.hashCode(), SudokuTransform.decode(encoded).hashCode(),
+                "Equal transforms should have equal hash codes");
+    }
+    
+    @Test
+    public void testRejectsInvalidTransforms() {
+        int[] identity = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+        int[] crossesBands = {0, 1, 3, 2, 4, 5, 6, 7, 8};
+        int[] duplicate = {0, 0, 2, 3, 4, 5, 6, 7, 8};
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> new SudokuTransform(false, crossesBands, identity, DIGITS),
+                "Row orders mixing bands should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> new SudokuTransform(false, identity, duplicate, DIGITS),
+                "Column orders with duplicates should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> new SudokuTransform(false, identity, identity, new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 0}),
+                "Digit maps must keep empty cells empty");
+        assertThrows(IllegalArgumentException.class, () -> SudokuTransform.decode("0;012"),
+                "Malformed encodings should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> SudokuTransform.decode(null),
+                "Null encodings should be rejected");
+    }
+}
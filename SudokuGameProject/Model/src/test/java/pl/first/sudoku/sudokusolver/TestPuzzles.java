@@ -24,37 +24,29 @@
 
 package pl.first.sudoku.sudokusolver;
 
-import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
-
-import java.io.FileNotFoundException;
-import java.net.URL;
-
 /**
- * Check the checkstyle file command - checkstyle:check.
- * Run program via Run Maven -> JavaFX Run.
+ * Puzzles and parsing shared by the solver, grader and tracker tests.
  * @author zhuma
  */
-public class SudokuGame extends Application {
-    @Override
-    public void start(Stage primaryStage) throws Exception {
-        URL url = getClass().getResource("/pl/first/sudoku/view/SudokuBoardView.fxml");
-        if (url == null) {
-            System.err.println("Cannot find FXML file at: /pl/first/sudoku/view/SudokuBoardView.fxml");
-            throw new FileNotFoundException("FXML file not found");
-        }
-        Parent root = FXMLLoader.load(url);
-        Scene scene = new Scene(root);
-
-        primaryStage.setTitle("Sudoku Game");
-        primaryStage.setScene(scene);
-        primaryStage.show();
+final class TestPuzzles {
+    /** Arto Inkala's "world's hardest" puzzle; it has a unique solution and needs guessing. */
+    static final String INKALA =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    /** Inkala with one extra, consistent clue that leaves no solution. */
+    static final String INKALA_DEAD_END =
+            "800000000003650000070090200050007000000045700000100030001000068008500010090000400";
+    
+    private TestPuzzles() {
     }
     
-    public static void main(String[] args) {
-        launch(args);
+    /**
+     * Parses a puzzle written as 81 digits in row-major order, 0 for an empty cell.
+     */
+    static int[] parse(String puzzle) {
+        int[] values = new int[81];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = puzzle.charAt(i) - '0';
+        }
+        return values;
     }
 }
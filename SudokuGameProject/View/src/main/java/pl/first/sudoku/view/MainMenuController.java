@@ -40,10 +40,8 @@ import javafx.scene.control.ListCell;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
 import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
 import pl.first.sudoku.sudokusolver.GameDifficulty;
-import pl.first.sudoku.sudokusolver.SudokuBoard;
 
 import java.io.IOException;
 import java.net.URL;
@@ -208,13 +206,11 @@ public class MainMenuController implements Initializable {
         logger.debug("Starting new game");
 
         try {
-            SudokuBoard solvedBoard = new SudokuBoard(new BacktrackingSudokuSolver());
-            solvedBoard.solveGame();
-
             GameDifficulty selectedDifficulty = difficultyComboBox.getValue();
             logger.info("Creating new game with difficulty: {}", selectedDifficulty);
 
-            EditableSudokuBoardDecorator decoratedBoard = selectedDifficulty.prepareDecoratedBoard(solvedBoard);
+            EditableSudokuBoardDecorator decoratedBoard = SudokuGameApp.getPuzzlePool()
+                    .takeDecorated(selectedDifficulty);
 
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/pl/first/sudoku/view/SudokuBoardView.fxml"));
             loader.setResources(languageManager.getMessagesBundle());
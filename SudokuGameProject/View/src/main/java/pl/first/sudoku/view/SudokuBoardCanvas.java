@@ -0,0 +1,387 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package pl.first.sudoku.view;
+
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.sudokusolver.BoardChange;
+import pl.first.sudoku.sudokusolver.BoardChangeListener;
+import pl.first.sudoku.sudokusolver.CandidateListener;
+import pl.first.sudoku.sudokusolver.CandidateTracker;
+import pl.first.sudoku.sudokusolver.ConflictListener;
+import pl.first.sudoku.sudokusolver.ConflictTracker;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+import java.util.Arrays;
+
+/**
+ * Board view that draws all 81 cells on one {@link Canvas} instead of one control per cell.
+ * The canvas is filled with the grid color and every cell paints its own interior, so the
+ * gaps between cells form the grid lines and a cell can be repainted on its own. Board changes,
+ * conflict changes reported by a {@link ConflictTracker} and input only mark cells dirty; dirty
+ * cells are repainted once per pulse.
+ * 
+ * <p>Input: click or arrow keys select a cell, 1-9 enter a digit, 0, Delete or Backspace clear
+ * it, and Shift with a digit (or any digit while pencil mode is toggled with P) toggles a
+ * pencil mark. Only editable cells of the {@link EditableSudokuBoardDecorator} can be changed.
+ * While candidates are shown, empty cells draw the marks kept by a {@link CandidateTracker}
+ * instead of the player's own pencil marks.
+ * @author zhuma
+ */
+public class SudokuBoardCanvas extends Canvas implements BoardChangeListener {
+    private static final Logger logger = LoggerFactory.getLogger(SudokuBoardCanvas.class);
+    private static final int SIZE = 9;
+    private static final int BOX_SIZE = 3;
+    private static final int CELL_COUNT = SIZE * SIZE;
+    private static final double THIN_LINE = 1;
+    private static final double THICK_LINE = 3;
+    private static final Color GRID = Color.web("#404040");
+    private static final Color EDITABLE_BACKGROUND = Color.WHITE;
+    private static final Color LOCKED_BACKGROUND = Color.web("#f0f0f0");
+    private static final Color SELECTED_BACKGROUND = Color.web("#cce5ff");
+    private static final Color CONFLICT_BACKGROUND = Color.web("#ffd6d6");
+    private static final Color EDITABLE_TEXT = Color.BLUE;
+    private static final Color LOCKED_TEXT = Color.BLACK;
+    private static final Color CONFLICT_TEXT = Color.web("#c00000");
+    private static final Color PENCIL_TEXT = Color.GRAY;
+    
+    private final double cellSize;
+    private final double[] cellOrigin = new double[SIZE];
+    private final Font valueFont;
+    private final Font pencilFont;
+    private final int[] pencilMarks = new int[CELL_COUNT];
+    private final boolean[] dirty = new boolean[CELL_COUNT];
+    private final ConflictListener conflictListener = this::onConflictsChanged;
+    private final CandidateListener candidateListener = this::onCandidatesChanged;
+    private EditableSudokuBoardDecorator decoratedBoard;
+    private SudokuBoard board;
+    private ConflictTracker conflictTracker;
+    private CandidateTracker candidateTracker;
+    private boolean showCandidates;
+    private boolean repaintScheduled;
+    private boolean pencilMode;
+    private int selected = -1;
+    
+    /**
+     * Creates an empty canvas board.
+     * @param cellSize side of one cell in pixels, without grid lines
+     */
+    public SudokuBoardCanvas(double cellSize) {
+        this.cellSize = cellSize;
+        double position = 0;
+        for (int i = 0; i < SIZE; i++) {
+            position += i % BOX_SIZE == 0 ? THICK_LINE : THIN_LINE;
+            cellOrigin[i] = position;
+            position += cellSize;
+        }
+        position += THICK_LINE;
+        setWidth(position);
+        setHeight(position);
+        valueFont = Font.font(cellSize * 0.5);
+        pencilFont = Font.font(cellSize * 0.24);
+        
+        setFocusTraversable(true);
+        setOnMousePressed(this::handleMouse);
+        setOnKeyPressed(this::handleKey);
+        paintAll();
+    }
+    
+    /**
+     * Shows a board and follows its changes until another board is set.
+     * @param decoratedBoard board with editability information
+     */
+    public void setBoard(EditableSudokuBoardDecorator decoratedBoard) {
+        dispose();
+        this.decoratedBoard = decoratedBoard;
+        this.board = decoratedBoard.getSudokuBoard();
+        board.addBoardChangeListener(this);
+        conflictTracker = new ConflictTracker(board);
+        conflictTracker.addConflictListener(conflictListener);
+        candidateTracker = new CandidateTracker(board);
+        candidateTracker.addCandidateListener(candidateListener);
+        Arrays.fill(pencilMarks, 0);
+        selected = -1;
+        paintAll();
+        logger.debug("Canvas board shows a new board");
+    }
+    
+    /**
+     * Stops following the current board.
+     */
+    public void dispose() {
+        if (board != null) {
+            board.removeBoardChangeListener(this);
+        }
+        if (conflictTracker != null) {
+            conflictTracker.dispose();
+        }
+        if (candidateTracker != null) {
+            candidateTracker.dispose();
+        }
+    }
+    
+    public int getPencilMarks(int row, int col) {
+        return pencilMarks[row * SIZE + col];
+    }
+    
+    public boolean isPencilMode() {
+        return pencilMode;
+    }
+    
+    public void setPencilMode(boolean pencilMode) {
+        this.pencilMode = pencilMode;
+    }
+    
+    public boolean isShowCandidates() {
+        return showCandidates;
+    }
+    
+    /**
+     * Switches empty cells between the tracked candidates and the player's pencil marks.
+     */
+    public void setShowCandidates(boolean showCandidates) {
+        this.showCandidates = showCandidates;
+        paintAll();
+    }
+    
+    @Override
+    public void onBoardChanged(BoardChange change) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onBoardChanged(change));
+            return;
+        }
+        if (change.getBoard() != board) {
+            return;
+        }
+        for (int i = 0; i < change.size(); i++) {
+            dirty[change.getCell(i)] = true;
+        }
+        scheduleRepaint();
+    }
+    
+    private void onCandidatesChanged(CandidateTracker tracker, int[] cells) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onCandidatesChanged(tracker, cells));
+            return;
+        }
+        if (tracker != candidateTracker || !showCandidates) {
+            return;
+        }
+        for (int cell : cells) {
+            dirty[cell] = true;
+        }
+        scheduleRepaint();
+    }
+    
+    private void onConflictsChanged(ConflictTracker tracker, int[] cells) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onConflictsChanged(tracker, cells));
+            return;
+        }
+        if (tracker != conflictTracker) {
+            return;
+        }
+        for (int cell : cells) {
+            dirty[cell] = true;
+        }
+        scheduleRepaint();
+    }
+    
+    private void handleMouse(MouseEvent event) {
+        requestFocus();
+        int row = indexAt(event.getY());
+        int col = indexAt(event.getX());
+        if (row >= 0 && col >= 0) {
+            select(row * SIZE + col);
+        }
+    }
+    
+    private void handleKey(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (code == KeyCode.P) {
+            pencilMode = !pencilMode;
+        } else if (selected < 0) {
+            return;
+        } else if (code == KeyCode.UP || code == KeyCode.DOWN || code == KeyCode.LEFT || code == KeyCode.RIGHT) {
+            moveSelection(code);
+        } else if (code == KeyCode.DELETE || code == KeyCode.BACK_SPACE) {
+            enter(0);
+        } else if (code.isDigitKey()) {
+            String name = code.getName();
+            int digit = name.charAt(name.length() - 1) - '0';
+            if (digit != 0 && (pencilMode || event.isShiftDown())) {
+                togglePencilMark(digit);
+            } else {
+                enter(digit);
+            }
+        } else {
+            return;
+        }
+        event.consume();
+    }
+    
+    private void moveSelection(KeyCode code) {
+        int row = selected / SIZE;
+        int col = selected % SIZE;
+        if (code == KeyCode.UP) {
+            row = (row + SIZE - 1) % SIZE;
+        } else if (code == KeyCode.DOWN) {
+            row = (row + 1) % SIZE;
+        } else if (code == KeyCode.LEFT) {
+            col = (col + SIZE - 1) % SIZE;
+        } else {
+            col = (col + 1) % SIZE;
+        }
+        select(row * SIZE + col);
+    }
+    
+    private void select(int cell) {
+        if (selected >= 0) {
+            dirty[selected] = true;
+        }
+        selected = cell;
+        dirty[cell] = true;
+        scheduleRepaint();
+    }
+    
+    private void enter(int digit) {
+        int row = selected / SIZE;
+        int col = selected % SIZE;
+        if (decoratedBoard == null || !decoratedBoard.isFieldEditable(row, col)) {
+            return;
+        }
+        decoratedBoard.setValueAt(row, col, digit);
+    }
+    
+    private void togglePencilMark(int digit) {
+        int row = selected / SIZE;
+        int col = selected % SIZE;
+        if (board == null || !decoratedBoard.isFieldEditable(row, col) || board.getValueAt(row, col) != 0) {
+            return;
+        }
+        pencilMarks[selected] ^= 1 << (digit - 1);
+        dirty[selected] = true;
+        scheduleRepaint();
+    }
+    
+    private void scheduleRepaint() {
+        if (!repaintScheduled) {
+            repaintScheduled = true;
+            Platform.runLater(this::paintDirty);
+        }
+    }
+    
+    private void paintDirty() {
+        repaintScheduled = false;
+        GraphicsContext graphics = getGraphicsContext2D();
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            if (dirty[cell]) {
+                dirty[cell] = false;
+                paintCell(graphics, cell);
+            }
+        }
+    }
+    
+    private void paintAll() {
+        GraphicsContext graphics = getGraphicsContext2D();
+        graphics.setFill(GRID);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            dirty[cell] = false;
+            paintCell(graphics, cell);
+        }
+    }
+    
+    private void paintCell(GraphicsContext graphics, int cell) {
+        int row = cell / SIZE;
+        int col = cell % SIZE;
+        double x = cellOrigin[col];
+        double y = cellOrigin[row];
+        boolean editable = decoratedBoard == null || decoratedBoard.isFieldEditable(row, col);
+        boolean conflict = conflictTracker != null && conflictTracker.isConflict(cell);
+        
+        if (cell == selected) {
+            graphics.setFill(SELECTED_BACKGROUND);
+        } else if (conflict) {
+            graphics.setFill(CONFLICT_BACKGROUND);
+        } else {
+            graphics.setFill(editable ? EDITABLE_BACKGROUND : LOCKED_BACKGROUND);
+        }
+        graphics.fillRect(x, y, cellSize, cellSize);
+        
+        int value = board == null ? 0 : board.getValueAt(row, col);
+        int marks = marksOf(cell);
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.CENTER);
+        if (value != 0) {
+            graphics.setFont(valueFont);
+            if (conflict) {
+                graphics.setFill(CONFLICT_TEXT);
+            } else {
+                graphics.setFill(editable ? EDITABLE_TEXT : LOCKED_TEXT);
+            }
+            graphics.fillText(Integer.toString(value), x + cellSize / 2, y + cellSize / 2);
+        } else if (marks != 0) {
+            graphics.setFont(pencilFont);
+            graphics.setFill(PENCIL_TEXT);
+            double step = cellSize / BOX_SIZE;
+            for (int digit = 1; digit <= SIZE; digit++) {
+                if ((marks & (1 << (digit - 1))) != 0) {
+                    double markX = x + ((digit - 1) % BOX_SIZE + 0.5) * step;
+                    double markY = y + ((digit - 1) / BOX_SIZE + 0.5) * step;
+                    graphics.fillText(Integer.toString(digit), markX, markY);
+                }
+            }
+        }
+    }
+    
+    private int marksOf(int cell) {
+        if (showCandidates && candidateTracker != null) {
+            return candidateTracker.getCandidates(cell);
+        }
+        return pencilMarks[cell];
+    }
+    
+    private int indexAt(double position) {
+        for (int i = 0; i < SIZE; i++) {
+            if (position >= cellOrigin[i] && position < cellOrigin[i] + cellSize) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -26,6 +26,8 @@ package pl.first.sudoku.view;
 
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.concurrent.Task;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -40,8 +42,8 @@ import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.layout.GridPane;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import javafx.util.StringConverter;
 import org.slf4j.Logger;
@@ -49,13 +51,22 @@ import org.slf4j.LoggerFactory;
 import pl.first.sudoku.dao.Dao;
 import pl.first.sudoku.dao.DaoException;
 import pl.first.sudoku.dao.SudokuBoardDaoFactory;
-import pl.first.sudoku.sudokusolver.BacktrackingSudokuSolver;
+import pl.first.sudoku.sudokusolver.BoardChange;
+import pl.first.sudoku.sudokusolver.BoardChangeListener;
+import pl.first.sudoku.sudokusolver.BoardSnapshot;
+import pl.first.sudoku.sudokusolver.CachingSudokuSolver;
 import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.GridSolver;
+import pl.first.sudoku.sudokusolver.SolvabilityChecker;
+import pl.first.sudoku.sudokusolver.SolvabilityReport;
+import pl.first.sudoku.sudokusolver.SolveBudget;
+import pl.first.sudoku.sudokusolver.SolveResult;
 import pl.first.sudoku.sudokusolver.SudokuBoard;
-import pl.first.sudoku.sudokusolver.SudokuField;
 
 import java.io.IOException;
 import java.net.URL;
+import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -72,6 +83,9 @@ public class SudokuBoardController implements Initializable {
     @FXML
     private GridPane sudokuGrid;
     
+    @FXML
+    private Label solvabilityLabel;
+    
     @FXML
     private Label titleLabel;
     
@@ -81,6 +95,12 @@ public class SudokuBoardController implements Initializable {
     @FXML
     private Button checkSolutionButton;
     
+    @FXML
+    private Button showSolutionButton;
+    
+    @FXML
+    private ToggleButton candidatesButton;
+    
     @FXML
     private Button saveGameButton;
     
@@ -99,55 +119,93 @@ public class SudokuBoardController implements Initializable {
     private SudokuBoard board;
     private EditableSudokuBoardDecorator decoratedBoard;
     private TextField[][] fields;
+    private SudokuBoardCanvas canvasBoard;
+    private final SudokuBoardViewModel viewModel = new SudokuBoardViewModel();
+    private final SolvabilityChecker solvabilityChecker =
+            new SolvabilityChecker(CHECK_DEBOUNCE, CHECK_TIMEOUT, this::onSolvabilityReport);
+    private final BoardChangeListener editListener = this::onBoardEdited;
+    private SudokuBoard checkedBoard;
+    private SolvabilityReport solvabilityReport;
     private static final String SAVE_DIRECTORY = "savedGames";
     private static final String DEFAULT_SAVE_NAME = "game.sudoku";
+    private static final Duration SOLVE_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration CHECK_DEBOUNCE = Duration.ofMillis(300);
+    private static final Duration CHECK_TIMEOUT = Duration.ofSeconds(2);
+    private static final PseudoClass SOLVABLE = PseudoClass.getPseudoClass("solvable");
+    private static final PseudoClass UNSOLVABLE = PseudoClass.getPseudoClass("unsolvable");
+    private static final String RENDERER_PROPERTY = "sudoku.board.renderer";
+    private static final String RENDERER_VARIABLE = "SUDOKU_BOARD_RENDERER";
+    private static final String CANVAS_RENDERER = "canvas";
+    private static final double CANVAS_CELL_SIZE = 44;
+    private static final StringConverter<Number> CELL_CONVERTER = new SudokuFieldStringConverter();
     private LanguageManager languageManager;
     
     @Override
     public void initialize(URL url, ResourceBundle rb) {
         languageManager = LanguageManager.getInstance();
+        if (isCanvasRendererSelected()) {
+            createCanvasBoard();
+        } else {
+            createTextFields();
+        }
+        
+        languageManager.localeProperty().addListener((observable, oldValue, newValue) -> {
+            updateTexts();
+        });
+        
+        updateTexts();
+        if (board != null) {
+            updateBoard();
+        }
+        
+        Platform.runLater(this::setStageTitle);
+    }
+    
+    private static boolean isCanvasRendererSelected() {
+        String renderer = System.getProperty(RENDERER_PROPERTY, System.getenv(RENDERER_VARIABLE));
+        return CANVAS_RENDERER.equalsIgnoreCase(renderer);
+    }
+    
+    private void createCanvasBoard() {
+        canvasBoard = new SudokuBoardCanvas(CANVAS_CELL_SIZE);
+        sudokuGrid.setGridLinesVisible(false);
+        sudokuGrid.add(canvasBoard, 0, 0);
+        logger.debug("Using the canvas board renderer");
+    }
+    
+    private void createTextFields() {
         fields = new TextField[9][9];
         
         for (int row = 0; row < 9; row++) {
             for (int col = 0; col < 9; col++) {
                 TextField field = new TextField();
-                field.setPrefSize(40, 40);
-                field.setFont(Font.font(16));
-                field.setStyle("-fx-alignment: center; -fx-border-color: lightgray;");
-                
-                StringBuilder style = new StringBuilder(field.getStyle());
-                if (row % 3 == 0) {
-                    style.append(" -fx-border-width: 2 0 0 0;");
-                }
-                if (col % 3 == 0) {
-                    style.append(" -fx-border-width: 0 0 0 2;");
-                }
-                if (row % 3 == 0 && col % 3 == 0) {
-                    style.append(" -fx-border-width: 2 0 0 2;");
-                }
-                
-                field.setStyle(style.toString());
+                SudokuCellStyle.initialize(field, row, col);
                 field.setTextFormatter(SudokuTextFormatter.createFormatter(new SudokuFieldConverter()));
+                bindField(field, viewModel.getCell(row, col));
                 
                 sudokuGrid.add(field, col, row);
                 fields[row][col] = field;
             }
         }
-        
-        if (board == null) {
-            board = new SudokuBoard(new BacktrackingSudokuSolver());
-            board.solveGame();
-            decoratedBoard = new EditableSudokuBoardDecorator(board);
-        }
-        
-        languageManager.localeProperty().addListener((observable, oldValue, newValue) -> {
-            updateTexts();
-        });
-        
-        updateTexts();
-        updateBoard();
-        
-        Platform.runLater(this::setStageTitle);
+    }
+    
+    /**
+     * Binds a field to its view-model cell once; later boards only change the cell values.
+     */
+    private void bindField(TextField field, SudokuBoardViewModel.Cell cell) {
+        Bindings.bindBidirectional(field.textProperty(), cell.valueProperty(), CELL_CONVERTER);
+        SudokuCellStyle.setEditable(field, cell.editableProperty().get());
+        cell.editableProperty().addListener((observable, oldValue, editable) ->
+                SudokuCellStyle.setEditable(field, editable));
+        cell.conflictProperty().addListener((observable, oldValue, conflict) ->
+                SudokuCellStyle.setConflict(field, conflict));
+        cell.candidatesProperty().addListener(observable -> showCandidates(field, cell));
+        viewModel.showCandidatesProperty().addListener(observable -> showCandidates(field, cell));
+    }
+    
+    private void showCandidates(TextField field, SudokuBoardViewModel.Cell cell) {
+        boolean shown = viewModel.showCandidatesProperty().get();
+        SudokuCellStyle.setCandidates(field, shown ? cell.candidatesProperty().get() : 0);
     }
     
     private static class SudokuFieldStringConverter extends StringConverter<Number> {
@@ -178,46 +236,20 @@ public class SudokuBoardController implements Initializable {
         }
     }
     
-    private void setupFieldBinding(TextField field, int row, int col) {
-        if (board == null) {
-            logger.warn("Cannot setup binding: board is null");
-            return;
-        }
-        
-        SudokuField sudokuField = board.getSudokuField(row, col);
-        
-        Bindings.bindBidirectional(
-            field.textProperty(), 
-            sudokuField.valueProperty(), 
-            new SudokuFieldStringConverter()
-        );
-        
-        logger.debug("Set up bidirectional binding for field at [{},{}]", row, col);
-    }
-    
-    private void removeFieldBinding(TextField field, int row, int col) {
-        if (board == null) {
-            return;
-        }
-        
-        SudokuField sudokuField = board.getSudokuField(row, col);
-        
-        Bindings.unbindBidirectional(field.textProperty(), sudokuField.valueProperty());
-        
-        logger.debug("Removed binding for field at [{},{}]", row, col);
-    }
-    
     private void updateTexts() {
         ResourceBundle messages = languageManager.getMessagesBundle();
 
         titleLabel.setText(messages.getString("label.sudokuGame"));
         newGameButton.setText(messages.getString("button.newGame"));
         checkSolutionButton.setText(messages.getString("button.checkSolution"));
+        showSolutionButton.setText(messages.getString("button.showSolution"));
+        candidatesButton.setText(messages.getString("button.candidates"));
         saveGameButton.setText(messages.getString("button.saveGame"));
         loadGameButton.setText(messages.getString("button.loadGame"));
         saveDbButton.setText(messages.getString("button.saveToDatabase"));
         loadDbButton.setText(messages.getString("button.loadFromDatabase"));
         languageButton.setText(messages.getString("button.changeLanguage"));
+        showSolvability();
 
         Platform.runLater(this::setStageTitle);
     }
@@ -231,7 +263,7 @@ public class SudokuBoardController implements Initializable {
         this.board = board;
         this.decoratedBoard = new EditableSudokuBoardDecorator(board);
         this.decoratedBoard.lockNonEmptyFields();
-        if (fields != null) {
+        if (fields != null || canvasBoard != null) {
             updateBoard();
         }
     }
@@ -239,7 +271,7 @@ public class SudokuBoardController implements Initializable {
     public void setDecoratedBoard(EditableSudokuBoardDecorator decoratedBoard) {
         this.decoratedBoard = decoratedBoard;
         this.board = decoratedBoard.getSudokuBoard();
-        if (fields != null) {
+        if (fields != null || canvasBoard != null) {
             updateBoard();
         }
     }
@@ -268,6 +300,7 @@ public class SudokuBoardController implements Initializable {
             Scene scene = new Scene(root);
             Stage stage = (Stage) sudokuGrid.getScene().getWindow();
             stage.setScene(scene);
+            dispose();
 
             ResourceBundle messages = languageManager.getMessagesBundle();
             stage.setTitle(messages.getString("title.mainMenu"));
@@ -315,6 +348,65 @@ public class SudokuBoardController implements Initializable {
         }
     }
     
+    /**
+     * Solves a snapshot of the board on a background thread and applies the solved cells
+     * in one board update, so the bound fields see no intermediate solver placements.
+     */
+    @FXML
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private void showSolution() {
+        if (board == null) {
+            return;
+        }
+        ResourceBundle messages = languageManager.getMessagesBundle();
+        SudokuBoard target = board;
+        BoardSnapshot snapshot = BoardSnapshot.of(target);
+        Task<SolveResult> task = new Task<>() {
+            @Override
+            protected SolveResult call() {
+                return snapshot.solve(CachingSudokuSolver.shared(new GridSolver()), SolveBudget.of(SOLVE_TIMEOUT));
+            }
+        };
+        
+        task.setOnSucceeded(event -> {
+            showSolutionButton.setDisable(false);
+            SolveResult result = task.getValue();
+            if (!result.isSolved()) {
+                String content = result == SolveResult.TIMED_OUT ? "result.noSolution.timeout"
+                        : "result.noSolution.content";
+                showAlert(Alert.AlertType.WARNING, messages.getString("result.noSolution"),
+                        messages.getString(content));
+            } else if (target != board || !snapshot.applyTo(target)) {
+                logger.info("Board changed while solving, solution discarded");
+            } else {
+                logger.debug("Solution applied to the board");
+            }
+        });
+        task.setOnFailed(event -> {
+            showSolutionButton.setDisable(false);
+            logger.error("Failed to solve the board", task.getException());
+            showAlert(Alert.AlertType.ERROR, messages.getString("alert.error"),
+                    messages.getString("alert.error.content") + task.getException().getMessage());
+        });
+        
+        showSolutionButton.setDisable(true);
+        Thread thread = new Thread(task, "sudoku-solution");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @FXML
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private void toggleCandidates() {
+        boolean shown = candidatesButton.isSelected();
+        if (canvasBoard != null) {
+            canvasBoard.setShowCandidates(shown);
+        } else {
+            viewModel.showCandidatesProperty().set(shown);
+        }
+        logger.debug("Candidates shown: {}", shown);
+    }
+    
     @FXML
     @SuppressWarnings("PMD.UnusedPrivateMethod")
     private void saveGame() {
@@ -535,29 +627,100 @@ public class SudokuBoardController implements Initializable {
             return;
         }
         
-        for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                removeFieldBinding(fields[row][col], row, col);
-            }
+        followEdits();
+        if (canvasBoard != null) {
+            canvasBoard.setBoard(decoratedBoard);
+            logger.debug("Board updated on the canvas");
+            return;
         }
         
-        for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
-                TextField field = fields[row][col];
-                boolean isEditable = decoratedBoard.isFieldEditable(row, col);
-                
-                setupFieldBinding(field, row, col);
-                
-                field.setEditable(isEditable);
-                if (isEditable) {
-                    field.setStyle(field.getStyle() + " -fx-text-fill: blue;");
-                } else {
-                    field.setStyle(field.getStyle() + " -fx-text-fill: black; -fx-background-color: #f0f0f0;");
-                }
+        viewModel.setBoard(decoratedBoard);
+        logger.debug("Board values pushed into the bound fields");
+    }
+    
+    /**
+     * Releases the board listeners, trackers and the solvability checker thread once the view
+     * is replaced; the controller must not be used afterwards.
+     */
+    public void dispose() {
+        stopFollowingEdits();
+        solvabilityChecker.close();
+        viewModel.dispose();
+        if (canvasBoard != null) {
+            canvasBoard.dispose();
+        }
+        logger.debug("Board view disposed");
+    }
+    
+    private void followEdits() {
+        if (checkedBoard != board) {
+            stopFollowingEdits();
+            checkedBoard = board;
+            board.addBoardChangeListener(editListener);
+        }
+        scheduleSolvabilityCheck();
+    }
+    
+    private void stopFollowingEdits() {
+        solvabilityChecker.cancel();
+        if (checkedBoard != null) {
+            checkedBoard.removeBoardChangeListener(editListener);
+            checkedBoard = null;
+        }
+    }
+    
+    private void onBoardEdited(BoardChange change) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onBoardEdited(change));
+            return;
+        }
+        if (change.getBoard() == checkedBoard) {
+            scheduleSolvabilityCheck();
+        }
+    }
+    
+    /**
+     * Shows the checking state and lets the background checker look at the board once the
+     * player pauses; every new edit replaces the pending check.
+     */
+    private void scheduleSolvabilityCheck() {
+        solvabilityReport = null;
+        showSolvability();
+        solvabilityChecker.submit(decoratedBoard);
+    }
+    
+    private void onSolvabilityReport(SolvabilityReport report) {
+        Platform.runLater(() -> {
+            if (solvabilityChecker.isLatest(report)) {
+                solvabilityReport = report;
+                showSolvability();
             }
+        });
+    }
+    
+    private void showSolvability() {
+        if (checkedBoard == null) {
+            solvabilityLabel.setText("");
+            return;
         }
-        
-        logger.debug("Board updated with JavaFX Property bindings");
+        ResourceBundle messages = languageManager.getMessagesBundle();
+        SolvabilityReport report = solvabilityReport;
+        String text;
+        if (report == null) {
+            text = messages.getString("status.checking");
+        } else if (report.isSolvable()) {
+            text = messages.getString(report.isUnique() ? "status.onTrack" : "status.solvable");
+        } else if (report.getWrongEntries() > 0) {
+            text = MessageFormat.format(messages.getString("status.wrongEntries"), report.getWrongEntries());
+        } else if (report.getResult() == SolveResult.UNSOLVABLE) {
+            text = messages.getString("status.unsolvable");
+        } else {
+            text = messages.getString("status.undecided");
+        }
+        solvabilityLabel.setText(text);
+        solvabilityLabel.pseudoClassStateChanged(SOLVABLE, report != null && report.isSolvable());
+        solvabilityLabel.pseudoClassStateChanged(UNSOLVABLE, report != null
+                && report.getResult() == SolveResult.UNSOLVABLE);
     }
     
     private Optional<String> showSaveDialog(String title, String header, String defaultName) {
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package pl.first.sudoku.view;
+
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.first.sudoku.sudokusolver.BoardChange;
+import pl.first.sudoku.sudokusolver.BoardChangeListener;
+import pl.first.sudoku.sudokusolver.CandidateListener;
+import pl.first.sudoku.sudokusolver.CandidateTracker;
+import pl.first.sudoku.sudokusolver.ConflictListener;
+import pl.first.sudoku.sudokusolver.ConflictTracker;
+import pl.first.sudoku.sudokusolver.EditableSudokuBoardDecorator;
+import pl.first.sudoku.sudokusolver.SudokuBoard;
+
+/**
+ * View-model of the board with one stable {@link Cell} per position.
+ * Cell controls bind to the cells once; showing another board only pushes its values and
+ * editability into the existing cells, so no binding is created or removed. Values set on a
+ * cell by the view are written to the board through the decorator, and board changes are
+ * pushed back into the cells. A {@link ConflictTracker} keeps the conflict flag and a
+ * {@link CandidateTracker} the candidate mask of every cell.
+ * @author zhuma
+ */
+public class SudokuBoardViewModel implements BoardChangeListener {
+    private static final Logger logger = LoggerFactory.getLogger(SudokuBoardViewModel.class);
+    private static final int SIZE = 9;
+    
+    private final Cell[] cells = new Cell[SIZE * SIZE];
+    private final ConflictListener conflictListener = this::onConflictsChanged;
+    private final CandidateListener candidateListener = this::onCandidatesChanged;
+    private final BooleanProperty showCandidates = new SimpleBooleanProperty(this, "showCandidates");
+    private EditableSudokuBoardDecorator decoratedBoard;
+    private SudokuBoard board;
+    private ConflictTracker conflictTracker;
+    private CandidateTracker candidateTracker;
+    private boolean pushing;
+    
+    public SudokuBoardViewModel() {
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = new Cell(index / SIZE, index % SIZE);
+        }
+    }
+    
+    public Cell getCell(int row, int col) {
+        return cells[row * SIZE + col];
+    }
+    
+    public EditableSudokuBoardDecorator getBoard() {
+        return decoratedBoard;
+    }
+    
+    /**
+     * Whether the view should show the candidates of empty cells; the masks are kept either way.
+     */
+    public BooleanProperty showCandidatesProperty() {
+        return showCandidates;
+    }
+    
+    /**
+     * Shows a board and follows its changes until another board is set.
+     * @param decoratedBoard board with editability information
+     */
+    public void setBoard(EditableSudokuBoardDecorator decoratedBoard) {
+        dispose();
+        this.decoratedBoard = decoratedBoard;
+        this.board = decoratedBoard.getSudokuBoard();
+        board.addBoardChangeListener(this);
+        conflictTracker = new ConflictTracker(board);
+        conflictTracker.addConflictListener(conflictListener);
+        candidateTracker = new CandidateTracker(board);
+        candidateTracker.addCandidateListener(candidateListener);
+        
+        pushing = true;
+        try {
+            for (Cell cell : cells) {
+                cell.value.set(board.getValueAt(cell.row, cell.col));
+                cell.editable.set(decoratedBoard.isFieldEditable(cell.row, cell.col));
+                cell.conflict.set(conflictTracker.isConflict(cell.row, cell.col));
+                cell.candidates.set(candidateTracker.getCandidates(cell.row, cell.col));
+            }
+        } finally {
+            pushing = false;
+        }
+        logger.debug("Pushed a new board into the view-model cells");
+    }
+    
+    /**
+     * Stops following the current board.
+     */
+    public void dispose() {
+        if (board != null) {
+            board.removeBoardChangeListener(this);
+        }
+        if (conflictTracker != null) {
+            conflictTracker.dispose();
+        }
+        if (candidateTracker != null) {
+            candidateTracker.dispose();
+        }
+    }
+    
+    @Override
+    public void onBoardChanged(BoardChange change) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onBoardChanged(change));
+            return;
+        }
+        if (change.getBoard() != board) {
+            return;
+        }
+        pushing = true;
+        try {
+            for (int i = 0; i < change.size(); i++) {
+                cells[change.getCell(i)].value.set(board.getValueAt(change.getRow(i), change.getColumn(i)));
+            }
+        } finally {
+            pushing = false;
+        }
+    }
+    
+    private void onConflictsChanged(ConflictTracker tracker, int[] changedCells) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onConflictsChanged(tracker, changedCells));
+            return;
+        }
+        if (tracker != conflictTracker) {
+            return;
+        }
+        for (int index : changedCells) {
+            cells[index].conflict.set(tracker.isConflict(index));
+        }
+    }
+    
+    private void onCandidatesChanged(CandidateTracker tracker, int[] changedCells) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> onCandidatesChanged(tracker, changedCells));
+            return;
+        }
+        if (tracker != candidateTracker) {
+            return;
+        }
+        for (int index : changedCells) {
+            cells[index].candidates.set(tracker.getCandidates(index));
+        }
+    }
+    
+    private void write(Cell cell, int value) {
+        if (pushing || decoratedBoard == null || board.getValueAt(cell.row, cell.col) == value) {
+            return;
+        }
+        if (!decoratedBoard.isFieldEditable(cell.row, cell.col)) {
+            logger.warn("Ignored edit of locked field at [{},{}]", cell.row, cell.col);
+            cell.value.set(board.getValueAt(cell.row, cell.col));
+            return;
+        }
+        decoratedBoard.setValueAt(cell.row, cell.col, value);
+    }
+    
+    /**
+     * Observable slot of one board position.
+     */
+    public final class Cell {
+        private final int row;
+        private final int col;
+        private final IntegerProperty value = new SimpleIntegerProperty(this, "value");
+        private final ReadOnlyBooleanWrapper editable = new ReadOnlyBooleanWrapper(this, "editable", true);
+        private final ReadOnlyBooleanWrapper conflict = new ReadOnlyBooleanWrapper(this, "conflict");
+        private final ReadOnlyIntegerWrapper candidates = new ReadOnlyIntegerWrapper(this, "candidates");
+        
+        private Cell(int row, int col) {
+            this.row = row;
+            this.col = col;
+            value.addListener((observable, oldValue, newValue) -> write(this, newValue.intValue()));
+        }
+        
+        public int getRow() {
+            return row;
+        }
+        
+        public int getColumn() {
+            return col;
+        }
+        
+        /**
+         * Value from 0 (empty) to 9; setting it edits the board when the field is editable.
+         */
+        public IntegerProperty valueProperty() {
+            return value;
+        }
+        
+        public ReadOnlyBooleanProperty editableProperty() {
+            return editable.getReadOnlyProperty();
+        }
+        
+        /**
+         * True while the cell repeats a digit of its row, column or box.
+         */
+        public ReadOnlyBooleanProperty conflictProperty() {
+            return conflict.getReadOnlyProperty();
+        }
+        
+        /**
+         * Candidate mask of the cell, bit {@code d - 1} standing for digit {@code d}; 0 when filled.
+         */
+        public ReadOnlyIntegerProperty candidatesProperty() {
+            return candidates.getReadOnlyProperty();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Daniyar Zhumatayev, Kuzma Martysiuk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package pl.first.sudoku.view;
+
+import javafx.css.PseudoClass;
+import javafx.scene.control.TextField;
+
+/**
+ * Pseudo-class states of the board cells styled by {@code sudoku-board.css}.
+ * Toggling a state is a constant time flag change, unlike rewriting an inline style,
+ * which makes the cell parse its whole style string again.
+ * @author zhuma
+ */
+public final class SudokuCellStyle {
+    public static final String STYLE_CLASS = "sudoku-cell";
+    public static final PseudoClass EDITABLE = PseudoClass.getPseudoClass("editable");
+    public static final PseudoClass LOCKED = PseudoClass.getPseudoClass("locked");
+    public static final PseudoClass CONFLICT = PseudoClass.getPseudoClass("conflict");
+    public static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
+    public static final PseudoClass BOX_TOP = PseudoClass.getPseudoClass("box-top");
+    public static final PseudoClass BOX_LEFT = PseudoClass.getPseudoClass("box-left");
+    public static final PseudoClass CANDIDATES = PseudoClass.getPseudoClass("candidates");
+    private static final int BOX_SIZE = 3;
+    
+    private SudokuCellStyle() {
+    }
+    
+    /**
+     * Prepares a cell once: style class, box borders and the selected state following focus.
+     * @param cell text field of the cell
+     * @param row row of the cell
+     * @param col column of the cell
+     */
+    public static void initialize(TextField cell, int row, int col) {
+        cell.getStyleClass().add(STYLE_CLASS);
+        cell.pseudoClassStateChanged(BOX_TOP, row % BOX_SIZE == 0);
+        cell.pseudoClassStateChanged(BOX_LEFT, col % BOX_SIZE == 0);
+        cell.focusedProperty().addListener((observable, oldValue, focused) ->
+                cell.pseudoClassStateChanged(SELECTED, focused));
+    }
+    
+    public static void setEditable(TextField cell, boolean editable) {
+        cell.setEditable(editable);
+        cell.pseudoClassStateChanged(EDITABLE, editable);
+        cell.pseudoClassStateChanged(LOCKED, !editable);
+    }
+    
+    public static void setConflict(TextField cell, boolean conflict) {
+        cell.pseudoClassStateChanged(CONFLICT, conflict);
+    }
+    
+    /**
+     * Shows candidate digits as the small prompt text of an empty cell.
+     * @param cell text field of the cell
+     * @param candidates mask with bit {@code d - 1} for digit {@code d}, 0 to show none
+     */
+    public static void setCandidates(TextField cell, int candidates) {
+        StringBuilder text = new StringBuilder();
+        for (int digit = 1; digit <= 9; digit++) {
+            if ((candidates & (1 << (digit - 1))) != 0) {
+                text.append(digit);
+            }
+        }
+        cell.setPromptText(text.toString());
+        cell.pseudoClassStateChanged(CANDIDATES, candidates != 0);
+    }
+}
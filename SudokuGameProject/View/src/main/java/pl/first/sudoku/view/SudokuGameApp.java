@@ -31,13 +31,40 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pl.first.sudoku.metrics.MetricsHttpServer;
+import pl.first.sudoku.metrics.MetricsRegistry;
+import pl.first.sudoku.sudokusolver.PuzzlePool;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
 
 public class SudokuGameApp extends Application {
     private static final Logger logger = LoggerFactory.getLogger(SudokuGameApp.class);
+    private static final String POOL_DIRECTORY = "puzzlePool";
+    private static final int POOL_DEPTH = 8;
+    private static final int POOL_WORKERS = 1;
+    private static final String METRICS_PORT_PROPERTY = "sudoku.metrics.port";
+    private static final String METRICS_PORT_VARIABLE = "SUDOKU_METRICS_PORT";
+    private static final String METRICS_HOST_PROPERTY = "sudoku.metrics.host";
+    private static final String METRICS_HOST_VARIABLE = "SUDOKU_METRICS_HOST";
+    
+    private static PuzzlePool puzzlePool;
+    private MetricsHttpServer metricsServer;
+    
+    public static synchronized PuzzlePool getPuzzlePool() {
+        if (puzzlePool == null) {
+            puzzlePool = new PuzzlePool(POOL_DEPTH, POOL_WORKERS, POOL_DIRECTORY);
+            puzzlePool.start();
+        }
+        return puzzlePool;
+    }
     
     @Override
     public void start(Stage primaryStage) throws Exception {
         logger.info("Starting Sudoku Game application");
+        
+        startMetrics();
+        getPuzzlePool();
 
         LanguageManager languageManager = LanguageManager.getInstance();
 
@@ -58,6 +85,43 @@ public class SudokuGameApp extends Application {
         logger.info("Application initialized and displayed");
     }
     
+    /**
+     * Starts the metrics endpoint when a port is configured. It listens on the loopback
+     * interface only, unless a host to bind is configured explicitly.
+     */
+    private void startMetrics() {
+        MetricsRegistry.global().registerMBean();
+        String port = System.getProperty(METRICS_PORT_PROPERTY, System.getenv(METRICS_PORT_VARIABLE));
+        if (port == null) {
+            return;
+        }
+        String host = System.getProperty(METRICS_HOST_PROPERTY, System.getenv(METRICS_HOST_VARIABLE));
+        try {
+            metricsServer = host == null
+                    ? new MetricsHttpServer(MetricsRegistry.global(), Integer.parseInt(port))
+                    : new MetricsHttpServer(MetricsRegistry.global(),
+                            new InetSocketAddress(host, Integer.parseInt(port)));
+            metricsServer.start();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Failed to start metrics endpoint on port {}", port, e);
+        }
+    }
+    
+    @Override
+    public void stop() {
+        synchronized (SudokuGameApp.class) {
+            if (puzzlePool != null) {
+                puzzlePool.close();
+                puzzlePool = null;
+            }
+        }
+        if (metricsServer != null) {
+            metricsServer.close();
+            metricsServer = null;
+        }
+        logger.info("Sudoku Game application stopped");
+    }
+    
     public static void main(String[] args) {
         logger.info("Sudoku Game application launched");
 